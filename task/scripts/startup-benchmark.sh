@@ -0,0 +1,60 @@
+#!/usr/bin/env sh
+# Startup time and peak RSS of the backend in three modes: plain JVM, CDS, CDS + Spring AOT.
+# Each run starts the application up to a refreshed context without a database
+# (spring.context.exit=onRefresh) so numbers are reproducible anywhere.
+#
+# Usage, from task/: ./mvnw -Paot -DskipTests package && scripts/startup-benchmark.sh [runs]
+# Requires Java 21+ on PATH (the runtime image's JVM) and a Linux /proc.
+set -eu
+
+RUNS="${1:-5}"
+WORK="target/startup-benchmark"
+OFFLINE="-Dspring.context.exit=onRefresh -Dspring.jpa.hibernate.ddl-auto=none \
+-Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false \
+-Dspring.jpa.database-platform=org.hibernate.dialect.MySQLDialect"
+
+rm -rf "$WORK"
+mkdir -p "$WORK"
+cp target/task-*.jar "$WORK/app.jar"
+java -Djarmode=tools -jar "$WORK/app.jar" extract --destination "$WORK/application" > /dev/null
+APP="$WORK/application/app.jar"
+JSA="$WORK/application/app.jsa"
+
+# Training run, same as the Docker build.
+java -XX:ArchiveClassesAtExit="$JSA" -Dspring.aot.enabled=true $OFFLINE -jar "$APP" > /dev/null 2>&1
+
+# Runs java with the given flags, prints "<millis> <peak RSS KiB>".
+measure() {
+    start=$(date +%s%N)
+    java "$@" $OFFLINE -jar "$APP" > /dev/null 2>&1 &
+    pid=$!
+    peak=0
+    while kill -0 "$pid" 2> /dev/null; do
+        hwm=$(awk '/VmHWM/ {print $2}' "/proc/$pid/status" 2> /dev/null || true)
+        [ -n "$hwm" ] && peak=$hwm
+        sleep 0.05
+    done
+    wait "$pid" || true
+    end=$(date +%s%N)
+    echo "$(( (end - start) / 1000000 )) $peak"
+}
+
+report() {
+    label="$1"
+    shift
+    total_ms=0
+    total_kb=0
+    i=0
+    while [ "$i" -lt "$RUNS" ]; do
+        result=$(measure "$@")
+        total_ms=$((total_ms + ${result% *}))
+        total_kb=$((total_kb + ${result#* }))
+        i=$((i + 1))
+    done
+    printf '%-12s %8d ms %8d MiB\n' "$label" $((total_ms / RUNS)) $((total_kb / RUNS / 1024))
+}
+
+printf '%-12s %11s %12s   (mean of %s runs)\n' "mode" "startup" "peak RSS" "$RUNS"
+report "jvm" -Xshare:auto
+report "cds" -XX:SharedArchiveFile="$JSA"
+report "cds+aot" -XX:SharedArchiveFile="$JSA" -Dspring.aot.enabled=true
@@ -0,0 +1,68 @@
+package com.decena.task.Dto;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tools.jackson.databind.json.JsonMapper;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskJsonBenchmark {
+
+    private JsonMapper jsonMapper;
+    private TaskResponse response;
+    private String requestJson;
+
+    @Setup
+    public void setup() {
+        jsonMapper = JsonMapper.builder().build();
+        LocalDateTime now = LocalDateTime.of(2030, 1, 1, 9, 0);
+        response = TaskResponse.builder()
+                .id(42L)
+                .title("Benchmark task")
+                .description("Serialisation hot path")
+                .priority("HIGH")
+                .status("IN_PROGRESS")
+                .boardOrder(3L)
+                .recurrenceType("WEEKLY")
+                .recurrenceInterval(2)
+                .recurrenceGroupId("rec-benchmark")
+                .deadline(now.plusDays(7))
+                .dateCreated(now)
+                .build();
+        requestJson = jsonMapper.writeValueAsString(TaskRequest.builder()
+                .title("Benchmark task")
+                .description("Deserialisation hot path")
+                .priority("HIGH")
+                .status("TODO")
+                .recurrenceType("DAILY")
+                .recurrenceInterval(1)
+                .deadline(now.plusDays(1))
+                .build());
+    }
+
+    @Benchmark
+    public String serialiseResponse() {
+        return jsonMapper.writeValueAsString(response);
+    }
+
+    @Benchmark
+    public TaskRequest deserialiseRequest() {
+        return jsonMapper.readValue(requestJson, TaskRequest.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.decena.task.Mapper;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.decena.task.Config.LegacyCompatibility;
+import com.decena.task.Dto.TaskRequest;
+import com.decena.task.Dto.TaskResponse;
+import com.decena.task.Entity.Task;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    private TaskMapper taskMapper;
+    private TaskRequest request;
+    private Task task;
+
+    @Setup
+    public void setup() {
+        taskMapper = new TaskMapper(new LegacyCompatibility(true));
+        request = TaskRequest.builder()
+                .title("Benchmark task")
+                .description("Mapping hot path")
+                .priority("high")
+                .status("in_progress")
+                .recurrenceType("WEEKLY")
+                .recurrenceInterval(2)
+                .deadline(LocalDateTime.now().plusDays(7))
+                .build();
+        task = taskMapper.toEntity(request);
+        task.setId(42L);
+        task.setBoardOrder(3L);
+        task.setDateCreated(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public TaskResponse toResponse() {
+        return taskMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public Task toEntity() {
+        return taskMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public Task updateEntity() {
+        taskMapper.updateEntity(request, task);
+        return task;
+    }
+}
@@ -0,0 +1,80 @@
+package com.decena.task.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.decena.task.Entity.Task;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryTaskStoreBenchmark {
+
+    private static final Task.Status[] STATUSES = {Task.Status.TODO, Task.Status.IN_PROGRESS, Task.Status.DONE};
+
+    @Param({"1000", "100000"})
+    public int tasks;
+
+    private InMemoryTaskStore store;
+    private Task moving;
+    private long nextOrder;
+
+    @Setup
+    public void setup() {
+        store = new InMemoryTaskStore();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < tasks; i++) {
+            store.save(Task.builder()
+                    .title("Task " + i)
+                    .priority(Task.Priority.MODERATE)
+                    .status(STATUSES[i % STATUSES.length])
+                    .boardOrder((long) i)
+                    .deadline(now.plusMinutes(i))
+                    .build());
+        }
+        moving = store.findById(1L).orElseThrow();
+        nextOrder = tasks;
+    }
+
+    @Benchmark
+    public Optional<Task> columnTail() {
+        return store.findTopByDeletedFalseAndStatusOrderByBoardOrderDesc(Task.Status.TODO);
+    }
+
+    @Benchmark
+    public Page<Task> firstPageByDeadline() {
+        return store.findByDeletedFalse(PageRequest.of(0, 20, Sort.by("deadline")));
+    }
+
+    @Benchmark
+    public List<Task> activeByIds() {
+        return store.findByIdInAndDeletedFalse(List.of(1L, 2L, 3L, 4L, 5L));
+    }
+
+    @Benchmark
+    public Task moveToColumnTail() {
+        moving.setStatus(moving.getStatus() == Task.Status.TODO ? Task.Status.IN_PROGRESS : Task.Status.TODO);
+        moving.setBoardOrder(nextOrder++);
+        return store.save(moving);
+    }
+}
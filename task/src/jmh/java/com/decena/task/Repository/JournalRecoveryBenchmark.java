@@ -0,0 +1,90 @@
+package com.decena.task.Repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.decena.task.Entity.Task;
+
+/**
+ * Startup recovery time of the journal engine for a board of {@code tasks} tasks that were
+ * each changed five times, replayed from the raw log or from a snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JournalRecoveryBenchmark {
+
+    private static final Task.Status[] STATUSES = {Task.Status.TODO, Task.Status.IN_PROGRESS, Task.Status.DONE};
+
+    @Param({"100000"})
+    public int tasks;
+
+    @Param({"false", "true"})
+    public boolean compacted;
+
+    private Path directory;
+
+    @Setup
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("journal-recovery");
+        JournalTaskStore store = new JournalTaskStore(directory, 64, false, Long.MAX_VALUE >> 20, 60_000);
+        store.start();
+        for (int i = 0; i < tasks; i++) {
+            Task task = store.save(Task.builder()
+                    .title("Task " + i)
+                    .description("Recovered task " + i)
+                    .priority(Task.Priority.MODERATE)
+                    .build());
+            for (int version = 1; version < 5; version++) {
+                task.setStatus(STATUSES[version % STATUSES.length]);
+                task.setBoardOrder((long) version);
+                store.save(task);
+            }
+        }
+        if (compacted) {
+            store.compact();
+        }
+        store.stop();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public JournalTaskStore recover() throws InterruptedException {
+        JournalTaskStore store = new JournalTaskStore(directory, 64, false, Long.MAX_VALUE >> 20, 60_000);
+        store.start();
+        store.stop();
+        return store;
+    }
+
+    static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.decena.task.Repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.decena.task.Entity.Task;
+
+/**
+ * Acknowledged task writes per second through the journal engine. With fsync every write
+ * waits for an msync; concurrent writers share one (group commit).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JournalWriteBenchmark {
+
+    @Param({"true", "false"})
+    public boolean fsync;
+
+    private Path directory;
+    private JournalTaskStore store;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("journal-write");
+        store = new JournalTaskStore(directory, 64, fsync, 16, 1000);
+        store.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        store.stop();
+        JournalRecoveryBenchmark.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Task createOneWriter() {
+        return store.save(task());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Task createEightWriters() {
+        return store.save(task());
+    }
+
+    private static Task task() {
+        return Task.builder().title("Benchmark task").description("Journaled").priority(Task.Priority.LOW).build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.decena.task.Entity.Task;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecurrenceBenchmark {
+
+    @Param({"DAILY", "WEEKLY", "MONTHLY"})
+    public String recurrenceType;
+
+    private RecurrenceService recurrenceService;
+    private Task.RecurrenceType type;
+    private LocalDateTime deadline;
+
+    @Setup
+    public void setup() {
+        recurrenceService = new RecurrenceService();
+        type = Task.RecurrenceType.valueOf(recurrenceType);
+        deadline = LocalDateTime.of(2030, 1, 31, 9, 0);
+    }
+
+    @Benchmark
+    public LocalDateTime computeNextDeadline() {
+        return recurrenceService.computeNextDeadline(deadline, type, 3);
+    }
+}
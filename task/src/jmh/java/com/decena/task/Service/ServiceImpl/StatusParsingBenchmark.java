@@ -0,0 +1,47 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.decena.task.Entity.Task;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusParsingBenchmark {
+
+    @Param({"in_progress", "PENDING", "done"})
+    public String status;
+
+    private Task task;
+
+    @Setup
+    public void setup() {
+        task = new Task();
+    }
+
+    @Benchmark
+    public Task.Status parseStatus() {
+        return TaskServiceImpl.parseStatus(status);
+    }
+
+    @Benchmark
+    public Task.Status setStatusSafe() {
+        task.setStatusSafe(status);
+        return task.getStatus();
+    }
+}
@@ -0,0 +1,22 @@
+package com.decena.task.Config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies the endpoint bulkheads and rate limits to the API.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class EndpointLimitConfig implements WebMvcConfigurer {
+
+    private final EndpointLimitInterceptor endpointLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(endpointLimitInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,176 @@
+package com.decena.task.Config;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.decena.task.Exception.ServiceOverloadedException;
+import com.decena.task.Exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Per-endpoint bulkheads and token-bucket rate limits for the task API.
+ * <p>
+ * Endpoints are named by their controller method (getAllTasks, reorderBoard, ...) and
+ * configured with app.limits.endpoint.&lt;name&gt;.*:
+ * <ul>
+ * <li>max-concurrent: requests running at once; a request waits up to queue-timeout-ms for
+ * a slot and is then rejected with 503. 0 means unlimited.</li>
+ * <li>permits-per-second and burst: token bucket per instance; an empty bucket rejects with
+ * 429. 0 means unlimited.</li>
+ * </ul>
+ * Expensive endpoints thereby cannot take every pooled connection and request thread away
+ * from cheap ones. Rejections are rendered by GlobalExceptionHandler with Retry-After.
+ */
+@Component
+public class EndpointLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = EndpointLimitInterceptor.class.getName() + ".permit";
+    private static final String PREFIX = "app.limits.endpoint.";
+
+    /**
+     * Endpoints whose max-concurrent limits queries rather than requests; the service applies
+     * it (TaskListCoalescer), so requests sharing one query share one slot.
+     */
+    private static final Set<String> QUERY_BULKHEADS = Set.of("getAllTasks");
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final ConcurrentHashMap<String, EndpointLimit> limits = new ConcurrentHashMap<>();
+
+    public EndpointLimitInterceptor(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${app.limits.enabled:true}") boolean enabled) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (!enabled || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        EndpointLimit limit = limits.computeIfAbsent(method.getMethod().getName(), this::configure);
+        limit.acquireRate();
+        if (limit.acquireSlot()) {
+            request.setAttribute(PERMIT_ATTRIBUTE, limit);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        Object limit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (limit != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            ((EndpointLimit) limit).releaseSlot();
+        }
+    }
+
+    private EndpointLimit configure(String endpoint) {
+        String prefix = PREFIX + endpoint + ".";
+        return new EndpointLimit(
+                endpoint,
+                QUERY_BULKHEADS.contains(endpoint) ? 0
+                        : environment.getProperty(prefix + "max-concurrent", Integer.class, 0),
+                environment.getProperty(prefix + "queue-timeout-ms", Long.class,
+                        environment.getProperty("app.limits.queue-timeout-ms", Long.class, 100L)),
+                environment.getProperty(prefix + "permits-per-second", Double.class, 0.0),
+                environment.getProperty(prefix + "burst", Double.class, 0.0),
+                Counter.builder("http.server.requests.limited")
+                        .description("Requests rejected by an endpoint bulkhead or rate limit")
+                        .tag("endpoint", endpoint)
+                        .tag("reason", "bulkhead")
+                        .register(meterRegistry),
+                Counter.builder("http.server.requests.limited")
+                        .description("Requests rejected by an endpoint bulkhead or rate limit")
+                        .tag("endpoint", endpoint)
+                        .tag("reason", "rate")
+                        .register(meterRegistry));
+    }
+
+    /**
+     * Limits of one endpoint.
+     */
+    private static final class EndpointLimit {
+
+        private final String endpoint;
+        private final Semaphore slots;
+        private final long queueTimeoutMillis;
+        private final double permitsPerNano;
+        private final double burst;
+        private final Counter bulkheadRejections;
+        private final Counter rateRejections;
+        private double tokens;
+        private long refilledAt;
+
+        EndpointLimit(String endpoint, int maxConcurrent, long queueTimeoutMillis, double permitsPerSecond,
+                double burst, Counter bulkheadRejections, Counter rateRejections) {
+            this.endpoint = endpoint;
+            this.slots = maxConcurrent > 0 ? new Semaphore(maxConcurrent, true) : null;
+            this.queueTimeoutMillis = queueTimeoutMillis;
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.burst = Math.max(1, burst > 0 ? burst : permitsPerSecond);
+            this.bulkheadRejections = bulkheadRejections;
+            this.rateRejections = rateRejections;
+            this.tokens = this.burst;
+            this.refilledAt = System.nanoTime();
+        }
+
+        /**
+         * Takes one token, or rejects with the time until the next one.
+         */
+        synchronized void acquireRate() {
+            if (permitsPerNano <= 0) {
+                return;
+            }
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerNano);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return;
+            }
+            rateRejections.increment();
+            long waitNanos = (long) Math.ceil((1 - tokens) / permitsPerNano);
+            throw new TooManyRequestsException("Rate limit of " + endpoint + " exceeded",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+
+        /**
+         * Takes a concurrency slot, waiting briefly for one.
+         *
+         * @return whether a slot must be released afterwards
+         */
+        boolean acquireSlot() throws InterruptedException {
+            if (slots == null) {
+                return false;
+            }
+            if (slots.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            bulkheadRejections.increment();
+            throw new ServiceOverloadedException(endpoint + " is at its concurrency limit", 1);
+        }
+
+        void releaseSlot() {
+            slots.release();
+        }
+    }
+}
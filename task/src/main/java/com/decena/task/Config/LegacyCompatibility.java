@@ -0,0 +1,73 @@
+package com.decena.task.Config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.decena.task.Entity.Task;
+
+/**
+ * Runtime switch for legacy status compatibility.
+ * While enabled, PENDING/COMPLETED rows are normalized to TODO/DONE on every read.
+ * The legacy data migration turns it off once all rows have been rewritten.
+ */
+@Component
+public class LegacyCompatibility {
+
+    private volatile boolean statusNormalizationEnabled;
+
+    public LegacyCompatibility(@Value("${app.legacy.normalization-enabled:true}") boolean statusNormalizationEnabled) {
+        this.statusNormalizationEnabled = statusNormalizationEnabled;
+    }
+
+    /**
+     * Checks whether legacy status values still need in-memory normalization.
+     *
+     * @return true while legacy rows may still exist
+     */
+    public boolean isStatusNormalizationEnabled() {
+        return statusNormalizationEnabled;
+    }
+
+    /**
+     * Returns the current Kanban status for a stored one.
+     *
+     * @param status stored status, possibly legacy
+     * @return TODO for PENDING and DONE for COMPLETED while normalization is on, else status
+     */
+    public Task.Status normalize(Task.Status status) {
+        if (!statusNormalizationEnabled) {
+            return status;
+        }
+        if (status == Task.Status.PENDING) {
+            return Task.Status.TODO;
+        }
+        return status == Task.Status.COMPLETED ? Task.Status.DONE : status;
+    }
+
+    /**
+     * Returns the stored statuses that make up one Kanban column.
+     *
+     * @param status current Kanban status
+     * @return status plus its legacy alias while normalization is on
+     */
+    public List<Task.Status> columnStatuses(Task.Status status) {
+        if (statusNormalizationEnabled) {
+            if (status == Task.Status.TODO) {
+                return List.of(Task.Status.TODO, Task.Status.PENDING);
+            }
+            if (status == Task.Status.DONE) {
+                return List.of(Task.Status.DONE, Task.Status.COMPLETED);
+            }
+        }
+        return List.of(status);
+    }
+
+    /**
+     * Turns off legacy status normalization for all subsequent reads.
+     */
+    public void disableStatusNormalization() {
+        this.statusNormalizationEnabled = false;
+    }
+}
@@ -0,0 +1,134 @@
+package com.decena.task.Config;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The read replica: its connection pool plus the lag guard deciding whether it may serve reads.
+ * Deliberately not a DataSource bean, so replica failures never reach the "db" health
+ * contributor or readiness; they only move reads back to the primary.
+ * <p>
+ * On every tick a heartbeat (epoch millis) is written to the primary and read back from
+ * the replica; the difference to now is the replication lag. The replica is usable only
+ * after a successful check with lag at or below the configured maximum, and stops being
+ * usable on the first failed check or failed connection until a later check succeeds.
+ * <p>
+ * The replica may not have applied the heartbeat written in the same tick yet, so the
+ * measured lag has a resolution of one check interval; keep the maximum lag above it.
+ */
+@Slf4j
+public class ReadReplica {
+
+    private static final int HEARTBEAT_ID = 1;
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private final long checkIntervalMillis;
+
+    private volatile boolean available;
+    private volatile long lagMillis = -1;
+    private ScheduledExecutorService scheduler;
+
+    public ReadReplica(HikariDataSource dataSource, DataSource primary, long maxLagMillis, long checkIntervalMillis,
+            MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(dataSource);
+        this.maxLagMillis = maxLagMillis;
+        this.checkIntervalMillis = checkIntervalMillis;
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("Replication lag seen by the last heartbeat check, -1 when unknown")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.usable", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+                .description("1 when read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        dataSource.close();
+    }
+
+    /**
+     * @return the replica connection pool
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Writes a heartbeat to the primary and measures how far the replica is behind.
+     */
+    void check() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primary.update("UPDATE replica_heartbeat SET beat_at_ms = ? WHERE id = ?", now, HEARTBEAT_ID) == 0) {
+                primary.update("INSERT INTO replica_heartbeat (id, beat_at_ms) VALUES (?, ?)", HEARTBEAT_ID, now);
+            }
+        } catch (DataAccessException ex) {
+            log.debug("Could not write replica heartbeat to the primary", ex);
+        }
+
+        try {
+            Long beat = replica.query("SELECT beat_at_ms FROM replica_heartbeat WHERE id = ?",
+                    rs -> rs.next() ? rs.getLong(1) : null, HEARTBEAT_ID);
+            lagMillis = beat == null ? -1 : Math.max(0, System.currentTimeMillis() - beat);
+            if (!available && beat != null) {
+                log.info("Read replica reachable, lag {} ms", lagMillis);
+            }
+            available = beat != null;
+        } catch (DataAccessException ex) {
+            markUnavailable(ex);
+        }
+    }
+
+    /**
+     * Takes the replica out of rotation until the next successful check.
+     *
+     * @param cause failure that made the replica unusable
+     */
+    void markUnavailable(Exception cause) {
+        if (available) {
+            log.warn("Read replica unavailable, routing reads to the primary: {}", cause.getMessage());
+        }
+        available = false;
+        lagMillis = -1;
+    }
+
+    /**
+     * @return true when read-only transactions may use the replica
+     */
+    public boolean isReplicaUsable() {
+        return available && lagMillis >= 0 && lagMillis <= maxLagMillis;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
@@ -0,0 +1,80 @@
+package com.decena.task.Config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Read-your-writes stickiness for replica routing.
+ * A successful mutation sets a short-lived cookie holding the time until which the client's
+ * reads must come from the primary; requests carrying a live cookie, and mutations themselves,
+ * never read from the replica. The cookie keeps this working across backend replicas.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "TASK_PRIMARY_UNTIL";
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration stickiness;
+
+    public ReadYourWritesFilter(Duration stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean mutation = !READ_METHODS.contains(request.getMethod());
+        if (mutation || primaryUntil(request) > System.currentTimeMillis()) {
+            ReplicaRoutingDataSource.requirePrimary();
+        }
+        try {
+            if (mutation) {
+                // Added before the body is written; a failed mutation only costs a few primary reads.
+                response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie
+                        .from(COOKIE_NAME, Long.toString(System.currentTimeMillis() + stickiness.toMillis()))
+                        .path("/")
+                        .maxAge(stickiness)
+                        .httpOnly(true)
+                        .sameSite("Lax")
+                        .build()
+                        .toString());
+            }
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.clearPrimaryRequirement();
+        }
+    }
+
+    private long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,168 @@
+package com.decena.task.Config;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.decena.task.Entity.WorkspacePlacement;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maps workspaces to shards. A workspace lives on the shard the consistent-hash ring picks
+ * unless the placement directory (workspace_placements on the primary shard) says otherwise;
+ * shard moves write that directory. Every instance keeps a copy of the directory and reloads
+ * it every refresh interval, so a placement change is seen everywhere within one interval.
+ * <p>
+ * Owns the connection pools of all shards except the primary, which is the regular
+ * spring.datasource pool.
+ */
+@Slf4j
+public class ShardRouter {
+
+    public static final String PRIMARY_SHARD = "primary";
+
+    private final Map<String, DataSource> shards;
+    private final ConsistentHashRing ring;
+    private final JdbcTemplate directory;
+    private final long refreshMillis;
+
+    private volatile Map<String, Placement> placements = Map.of();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param shards shard data sources by name, in configuration order, including {@link #PRIMARY_SHARD}
+     * @param virtualNodes ring points per shard
+     * @param refreshMillis placement directory reload interval
+     * @throws IllegalArgumentException if the primary shard is missing
+     */
+    public ShardRouter(Map<String, DataSource> shards, int virtualNodes, long refreshMillis) {
+        if (!shards.containsKey(PRIMARY_SHARD)) {
+            throw new IllegalArgumentException("Shard map must contain the primary shard");
+        }
+        this.shards = new LinkedHashMap<>(shards);
+        this.ring = new ConsistentHashRing(this.shards.keySet(), virtualNodes);
+        this.directory = new JdbcTemplate(shards.get(PRIMARY_SHARD));
+        this.refreshMillis = refreshMillis;
+    }
+
+    void start() {
+        // The first load happens once the directory table exists (ShardSchemaInitializer).
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "shard-placement-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        shards.forEach((name, dataSource) -> {
+            if (!PRIMARY_SHARD.equals(name) && dataSource instanceof HikariDataSource pool) {
+                pool.close();
+            }
+        });
+    }
+
+    /**
+     * Returns the shard currently holding a workspace.
+     *
+     * @param workspaceId workspace ID
+     * @return shard name
+     */
+    public String shardFor(String workspaceId) {
+        Placement placement = placements.get(workspaceId);
+        return placement != null ? placement.shard() : ring.nodeFor(workspaceId);
+    }
+
+    /**
+     * @param workspaceId workspace ID
+     * @return true while a shard move has frozen the workspace's writes
+     */
+    public boolean isMoving(String workspaceId) {
+        Placement placement = placements.get(workspaceId);
+        return placement != null && placement.state() == WorkspacePlacement.State.MOVING;
+    }
+
+    /**
+     * @return shard names in configuration order, the primary first
+     */
+    public List<String> getShardNames() {
+        return new ArrayList<>(shards.keySet());
+    }
+
+    /**
+     * @param shard shard name
+     * @return the shard's data source
+     * @throws IllegalArgumentException if the shard is not configured
+     */
+    public DataSource getDataSource(String shard) {
+        DataSource dataSource = shards.get(shard);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Unknown shard: " + shard);
+        }
+        return dataSource;
+    }
+
+    Map<String, DataSource> getDataSources() {
+        return shards;
+    }
+
+    public long getRefreshMillis() {
+        return refreshMillis;
+    }
+
+    /**
+     * Writes a workspace's placement to the directory and reloads this instance's copy.
+     *
+     * @param workspaceId workspace ID
+     * @param shard shard holding the workspace
+     * @param state placement state
+     * @throws IllegalArgumentException if the shard is not configured
+     */
+    public void place(String workspaceId, String shard, WorkspacePlacement.State state) {
+        getDataSource(shard);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (directory.update("UPDATE workspace_placements SET shard = ?, state = ?, updated_at = ? WHERE workspace_id = ?",
+                shard, state.name(), now, workspaceId) == 0) {
+            directory.update("INSERT INTO workspace_placements (workspace_id, shard, state, updated_at) VALUES (?, ?, ?, ?)",
+                    workspaceId, shard, state.name(), now);
+        }
+        refresh();
+    }
+
+    /**
+     * Reloads the placement directory; keeps the previous copy when the primary is unreachable.
+     */
+    void refresh() {
+        try {
+            Map<String, Placement> loaded = new HashMap<>();
+            directory.query("SELECT workspace_id, shard, state FROM workspace_placements", rs -> {
+                loaded.put(rs.getString(1),
+                        new Placement(rs.getString(2), WorkspacePlacement.State.valueOf(rs.getString(3))));
+            });
+            placements = loaded;
+        } catch (DataAccessException ex) {
+            log.warn("Could not reload workspace placements, keeping the previous copy: {}", ex.getMessage());
+        }
+    }
+
+    private record Placement(String shard, WorkspacePlacement.State state) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.decena.task.Config;
+
+import java.util.HashMap;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Sends each connection to the shard of the current workspace ({@link WorkspaceContext}),
+ * so repositories never see shards. Maintenance code addresses one shard explicitly with
+ * {@link #callOnShard(String, Supplier)}.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<String> PINNED_SHARD = new ThreadLocal<>();
+
+    private final ShardRouter router;
+
+    public ShardRoutingDataSource(ShardRouter router) {
+        this.router = router;
+        setTargetDataSources(new HashMap<>(router.getDataSources()));
+        setDefaultTargetDataSource(router.getDataSource(ShardRouter.PRIMARY_SHARD));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Runs an action with every connection of the current thread going to one shard.
+     *
+     * @param shard shard name
+     * @param action action to run
+     * @return action result
+     */
+    public static <T> T callOnShard(String shard, Supplier<T> action) {
+        String previous = PINNED_SHARD.get();
+        PINNED_SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PINNED_SHARD.remove();
+            } else {
+                PINNED_SHARD.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String pinned = PINNED_SHARD.get();
+        return pinned != null ? pinned : router.shardFor(WorkspaceContext.current());
+    }
+}
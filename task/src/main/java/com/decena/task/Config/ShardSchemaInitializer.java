@@ -0,0 +1,131 @@
+package com.decena.task.Config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.decena.task.Service.ServiceImpl.BoardLockManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prepares every shard the way Hibernate prepares the database it boots against.
+ * <ul>
+ * <li>Runs the configured schema action (spring.jpa.hibernate.ddl-auto) on each shard, using
+ * the mapping metadata captured from the application's own session factory.</li>
+ * <li>Starts each shard's task IDs in a range of its own (shard index &times; 2^40), so rows
+ * keep their IDs when a workspace moves between shards.</li>
+ * <li>Creates the board lock rows on each shard when database lock mode is on.</li>
+ * </ul>
+ */
+@Slf4j
+public class ShardSchemaInitializer implements Integrator, HibernatePropertiesCustomizer, SmartInitializingSingleton {
+
+    static final int ID_RANGE_BITS = 40;
+
+    private final ShardRouter router;
+    // Lazy: the lock manager needs the entity manager factory this initializer takes part in building.
+    private final ObjectProvider<BoardLockManager> boardLockManager;
+
+    private Metadata metadata;
+    private StandardServiceRegistry serviceRegistry;
+
+    public ShardSchemaInitializer(ShardRouter router, ObjectProvider<BoardLockManager> boardLockManager) {
+        this.router = router;
+        this.boardLockManager = boardLockManager;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(this));
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+            SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+        this.serviceRegistry = bootstrapContext.getServiceRegistry();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (metadata == null) {
+            throw new IllegalStateException("Hibernate mapping metadata was not captured; is JPA configured?");
+        }
+        // Hibernate has already prepared the shard its bootstrap connection was routed to.
+        String bootShard = router.shardFor(WorkspaceContext.DEFAULT_WORKSPACE);
+        Map<String, Object> settings = serviceRegistry.requireService(ConfigurationService.class).getSettings();
+        List<String> shards = router.getShardNames();
+        for (int index = 0; index < shards.size(); index++) {
+            String shard = shards.get(index);
+            if (!shard.equals(bootShard)) {
+                ShardRoutingDataSource.callOnShard(shard, () -> {
+                    // create-drop only drops the shard Hibernate booted against; the others keep their tables.
+                    SchemaManagementToolCoordinator.process(metadata, serviceRegistry, settings, action -> {
+                    });
+                    return null;
+                });
+            }
+            applyIdentityBase(shard, (long) index << ID_RANGE_BITS);
+        }
+        router.refresh();
+    }
+
+    /**
+     * Seeds lock rows on every shard; BoardLockManager itself only reaches the default workspace's shard.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureLockRowsOnAllShards() {
+        for (String shard : router.getShardNames()) {
+            ShardRoutingDataSource.callOnShard(shard, () -> {
+                boardLockManager.getObject().ensureLockRows();
+                return null;
+            });
+        }
+    }
+
+    private void applyIdentityBase(String shard, long base) {
+        if (base == 0) {
+            return;
+        }
+        DataSource dataSource = router.getDataSource(shard);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        Long maxId = jdbc.queryForObject("SELECT MAX(id) FROM tasks", Long.class);
+        if (maxId != null && maxId >= base) {
+            return;
+        }
+        String product;
+        try (Connection connection = dataSource.getConnection()) {
+            product = connection.getMetaData().getDatabaseProductName();
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not inspect shard " + shard, ex);
+        }
+        if (product.startsWith("MySQL") || product.startsWith("MariaDB")) {
+            jdbc.execute("ALTER TABLE tasks AUTO_INCREMENT = " + base);
+        } else if (product.startsWith("H2")) {
+            jdbc.execute("ALTER TABLE tasks ALTER COLUMN id RESTART WITH " + base);
+        } else {
+            log.warn("Cannot set the task ID range of shard {} on {}; moved workspaces may collide on IDs",
+                    shard, product);
+        }
+    }
+}
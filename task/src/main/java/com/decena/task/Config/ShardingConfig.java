@@ -0,0 +1,102 @@
+package com.decena.task.Config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import com.decena.task.Service.ServiceImpl.BoardLockManager;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Workspace sharding, enabled with app.sharding.enabled=true.
+ * The spring.datasource.* database is the "primary" shard and holds the placement directory;
+ * further shards are listed in app.sharding.shards and configured under
+ * app.sharding.shard.&lt;name&gt;.url/username/password (credentials default to the primary's).
+ * The application DataSource routes every connection to the current workspace's shard.
+ * <p>
+ * Cannot be combined with read-replica routing (both define the primary pool), and the legacy
+ * data migration must have finished before sharding is enabled: it only scans one shard.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    public ShardingConfig(@Value("${app.legacy.migration.enabled:false}") boolean legacyMigrationEnabled) {
+        if (legacyMigrationEnabled) {
+            throw new IllegalStateException(
+                    "app.legacy.migration.enabled is not supported with sharding; finish the migration first");
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("shard-" + ShardRouter.PRIMARY_SHARD);
+        return dataSource;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ShardRouter shardRouter(HikariDataSource primaryDataSource, DataSourceProperties properties,
+            Environment environment,
+            @Value("${app.sharding.shards:}") String shardNames,
+            @Value("${app.sharding.pool-size:10}") int poolSize,
+            @Value("${app.sharding.virtual-nodes:128}") int virtualNodes,
+            @Value("${app.sharding.placement-refresh-ms:1000}") long refreshMillis,
+            MeterRegistry meterRegistry) {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        shards.put(ShardRouter.PRIMARY_SHARD, primaryDataSource);
+        for (String name : StringUtils.commaDelimitedListToStringArray(shardNames)) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            WorkspaceContext.validate(name);
+            if (shards.containsKey(name)) {
+                throw new IllegalArgumentException("Duplicate shard name: " + name);
+            }
+            String prefix = "app.sharding.shard." + name + ".";
+            HikariDataSource shard = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(environment.getRequiredProperty(prefix + "url"))
+                    .username(environment.getProperty(prefix + "username", properties.determineUsername()))
+                    .password(environment.getProperty(prefix + "password", properties.determinePassword()))
+                    .build();
+            shard.setPoolName("shard-" + name);
+            shard.setMaximumPoolSize(poolSize);
+            shard.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            shard.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            shards.put(name, shard);
+        }
+        return new ShardRouter(shards, virtualNodes, refreshMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRouter shardRouter) {
+        return new ShardRoutingDataSource(shardRouter);
+    }
+
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(ShardRouter shardRouter,
+            ObjectProvider<BoardLockManager> boardLockManager) {
+        return new ShardSchemaInitializer(shardRouter, boardLockManager);
+    }
+}
@@ -0,0 +1,42 @@
+package com.decena.task.Config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Scope;
+
+import tools.jackson.core.json.JsonFactory;
+import tools.jackson.core.util.JsonRecyclerPools;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Beans for the "small" profile (see application-small.properties).
+ * Jackson's default buffer pool is an unbounded deque that keeps one set of
+ * read/write buffers per peak concurrent request forever; here it is bounded.
+ */
+@Configuration
+@Profile("small")
+public class SmallFootprintConfig {
+
+    @Value("${app.footprint.json-buffer-pool-size:8}")
+    private int jsonBufferPoolSize;
+
+    /**
+     * Replaces Boot's JsonMapper builder with one on a bounded recycler pool;
+     * Boot's customizers (modules, spring.jackson.* properties) are still applied.
+     */
+    @Bean
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    public JsonMapper.Builder jsonMapperBuilder(ObjectProvider<JsonMapperBuilderCustomizer> customizers) {
+        JsonFactory factory = JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.newBoundedPool(jsonBufferPoolSize))
+                .build();
+        JsonMapper.Builder builder = JsonMapper.builder(factory);
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
+    }
+}
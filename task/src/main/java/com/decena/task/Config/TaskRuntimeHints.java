@@ -0,0 +1,28 @@
+package com.decena.task.Config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import com.decena.task.Entity.RecurrenceTypeConverter;
+import com.decena.task.Instrumentation.SqlStatementCountingInspector;
+import com.decena.task.Instrumentation.SqlTimingSessionListener;
+
+/**
+ * Reflection hints for the native image.
+ * Hibernate instantiates these classes by name from configuration properties, which AOT cannot see.
+ * Entities, repositories and request/response DTOs are registered by Spring's own AOT processing,
+ * and Lombok needs nothing because it only generates code at compile time.
+ */
+public class TaskRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(SqlStatementCountingInspector.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(SqlTimingSessionListener.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(WorkspaceTenantResolver.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(RecurrenceTypeConverter.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -0,0 +1,46 @@
+package com.decena.task.Config;
+
+import java.time.Duration;
+
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports DOWN until the startup warm-up has finished, keeping the pod out of
+ * the readiness group (and the Service endpoints) while the JIT and pool are cold.
+ */
+@Component
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private volatile boolean completed;
+    private volatile long iterations;
+    private volatile long durationMillis;
+
+    @Override
+    public Health health() {
+        if (!completed) {
+            return Health.outOfService().withDetail("warmUp", "in progress").build();
+        }
+        return Health.up()
+                .withDetail("iterations", iterations)
+                .withDetail("durationMs", durationMillis)
+                .build();
+    }
+
+    /**
+     * Marks the warm-up as finished; readiness no longer depends on it.
+     *
+     * @param iterations completed warm-up iterations
+     * @param duration time spent warming up
+     */
+    public void markCompleted(long iterations, Duration duration) {
+        this.iterations = iterations;
+        this.durationMillis = duration.toMillis();
+        this.completed = true;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+}
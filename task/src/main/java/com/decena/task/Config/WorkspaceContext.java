@@ -0,0 +1,90 @@
+package com.decena.task.Config;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Workspace (tenant) of the current thread. Set per request by {@link WorkspaceFilter}
+ * and around background work; threads without one act on the default workspace.
+ * Hibernate reads it through {@link WorkspaceTenantResolver}, and shard routing through
+ * {@link ShardRoutingDataSource}.
+ */
+public final class WorkspaceContext {
+
+    public static final String DEFAULT_WORKSPACE = "default";
+    public static final String HEADER = "X-Workspace-Id";
+
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private WorkspaceContext() {
+    }
+
+    /**
+     * Returns the workspace of the current thread.
+     *
+     * @return workspace ID, never null
+     */
+    public static String current() {
+        String workspaceId = CURRENT.get();
+        return workspaceId == null ? DEFAULT_WORKSPACE : workspaceId;
+    }
+
+    /**
+     * Sets the workspace of the current thread until {@link #clear()}.
+     *
+     * @param workspaceId workspace ID
+     * @throws IllegalArgumentException if the ID is not 1-64 letters, digits, '-' or '_'
+     */
+    public static void set(String workspaceId) {
+        CURRENT.set(validate(workspaceId));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Runs an action as the given workspace and restores the previous one afterwards.
+     *
+     * @param workspaceId workspace ID
+     * @param action action to run
+     * @return action result
+     * @throws IllegalArgumentException if the ID is invalid
+     */
+    public static <T> T callAs(String workspaceId, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(validate(workspaceId));
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runAs(String workspaceId, Runnable action) {
+        callAs(workspaceId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Checks a workspace ID.
+     *
+     * @param workspaceId workspace ID
+     * @return the same ID
+     * @throws IllegalArgumentException if the ID is not 1-64 letters, digits, '-' or '_'
+     */
+    public static String validate(String workspaceId) {
+        if (workspaceId == null || !VALID_ID.matcher(workspaceId).matches()) {
+            throw new IllegalArgumentException(
+                    "Invalid workspace id: expected 1-64 letters, digits, '-' or '_'");
+        }
+        return workspaceId;
+    }
+}
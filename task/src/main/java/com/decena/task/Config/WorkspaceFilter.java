@@ -0,0 +1,71 @@
+package com.decena.task.Config;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import com.decena.task.Exception.ServiceOverloadedException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Binds each API request to the workspace named by the X-Workspace-Id header
+ * (the default workspace when absent). Invalid IDs are rejected with 400.
+ * With sharding enabled, mutations of a workspace that is being moved between shards
+ * are rejected with 503 and Retry-After until the move has flipped its routing.
+ * Both rejections are rendered by the exception handlers, so they carry the usual JSON error body.
+ */
+@Component
+public class WorkspaceFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final ObjectProvider<ShardRouter> shardRouter;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public WorkspaceFilter(
+            ObjectProvider<ShardRouter> shardRouter,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+        this.shardRouter = shardRouter;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(WorkspaceContext.HEADER);
+        String workspaceId = header == null ? WorkspaceContext.DEFAULT_WORKSPACE : header.trim();
+        try {
+            WorkspaceContext.set(workspaceId);
+        } catch (IllegalArgumentException ex) {
+            exceptionResolver.resolveException(request, response, null, ex);
+            return;
+        }
+        try {
+            ShardRouter router = shardRouter.getIfAvailable();
+            if (router != null && !READ_METHODS.contains(request.getMethod()) && router.isMoving(workspaceId)) {
+                exceptionResolver.resolveException(request, response, null, new ServiceOverloadedException(
+                        "Workspace " + workspaceId + " is being moved to another shard, please retry",
+                        RETRY_AFTER_SECONDS));
+                return;
+            }
+            chain.doFilter(request, response);
+        } finally {
+            WorkspaceContext.clear();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.decena.task.Config;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Hands the current workspace to Hibernate, which stamps it on new tasks and restricts
+ * every query and load of {@code Task} to it (the {@code @TenantId} column).
+ * Registered by class name through hibernate.tenant_identifier_resolver.
+ */
+public class WorkspaceTenantResolver implements CurrentTenantIdentifierResolver<String> {
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return WorkspaceContext.current();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+}
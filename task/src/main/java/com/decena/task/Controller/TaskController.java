@@ -4,7 +4,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,15 +15,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.decena.task.Dto.TaskPatchRequest;
 import com.decena.task.Dto.TaskRequest;
 import com.decena.task.Dto.TaskResponse;
 import com.decena.task.Dto.TaskStatusUpdateRequest;
+import com.decena.task.Dto.TaskBoardColumnResponse;
 import com.decena.task.Dto.TaskBoardReorderRequest;
+import com.decena.task.Dto.TaskBulkRestoreRequest;
+import com.decena.task.Dto.TaskBulkStatusRequest;
 import com.decena.task.Service.TaskService;
+import com.decena.task.Service.ServiceImpl.IdempotencyStore;
+import com.decena.task.Service.ServiceImpl.TaskListCoalescer;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -32,26 +41,43 @@ import lombok.RequiredArgsConstructor;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskListCoalescer taskListCoalescer;
+    private final IdempotencyStore idempotencyStore;
 
     /**
-     * Creates a new task.
+     * Creates a new task. With an Idempotency-Key, a retry returns the task the first
+     * request created instead of creating another one.
+     *
+     * @param idempotencyKey optional client key identifying this create
+     * @param request task payload
+     * @return created task
+     * @throws com.decena.task.Exception.IdempotencyKeyReusedException when the key was used with another payload
      */
     @PostMapping
-    public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskRequest request) {
-        return ResponseEntity.status(201).body(taskService.createTask(request));
+    public ResponseEntity<?> createTask(
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody TaskRequest request) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(201).body(taskService.createTask(request));
+        }
+        return replayable(idempotencyStore.execute("createTask", idempotencyKey, request, 201,
+                () -> taskService.createTask(request)));
     }
 
     /**
      * Retrieves all active tasks with pagination.
+     * Identical concurrent requests share one query and one serialized body.
      */
    @GetMapping
-public ResponseEntity<List<TaskResponse>> getAllTasks(
+public ResponseEntity<byte[]> getAllTasks(
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
         @RequestParam(defaultValue = "dateCreated") String sortBy,
         @RequestParam(defaultValue = "desc") String sortDir
 ) {
-    return ResponseEntity.ok(taskService.getAllTasks(page, size, sortBy, sortDir));
+    return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(taskListCoalescer.getAllTasks(page, size, sortBy, sortDir));
 }
 
     /**
@@ -76,6 +102,23 @@ public ResponseEntity<List<TaskResponse>> getAllTasks(
         );
     }
 
+    /**
+     * Partially updates a task using JSON Merge Patch (RFC 7396).
+     * Only fields present in the body are changed.
+     *
+     * @param id task ID
+     * @param request merge patch payload
+     * @return current task response
+     * @throws com.decena.task.Exception.ResourceNotFoundException when task does not exist
+     * @throws IllegalArgumentException when a patched value is invalid
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<TaskResponse> patchTask(
+            @PathVariable Long id,
+            @Valid @RequestBody TaskPatchRequest request) {
+        return ResponseEntity.ok(taskService.patchTask(id, request));
+    }
+
     /**
      * Soft deletes a task.
      */
@@ -104,13 +147,24 @@ public ResponseEntity<List<TaskResponse>> getAllTasks(
     }
 
     /**
-     * Marks a task as completed.
+     * Marks a task as completed. With an Idempotency-Key, a retry returns the first
+     * completion instead of failing as already completed, and a recurring task spawns its
+     * next instance only once.
+     *
+     * @param id task ID
+     * @param idempotencyKey optional client key identifying this completion
+     * @return completed task
+     * @throws com.decena.task.Exception.IdempotencyKeyReusedException when the key was used for another task
      */
     @PatchMapping("/{id}/complete")
-    public ResponseEntity<TaskResponse> markTaskAsCompleted(@PathVariable Long id) {
-        return ResponseEntity.ok(
-                taskService.markTaskAsCompleted(id)
-        );
+    public ResponseEntity<?> markTaskAsCompleted(
+            @PathVariable Long id,
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(taskService.markTaskAsCompleted(id));
+        }
+        return replayable(idempotencyStore.execute("markTaskAsCompleted", idempotencyKey, id, 200,
+                () -> taskService.markTaskAsCompleted(id)));
     }
 
     /**
@@ -147,6 +201,61 @@ public ResponseEntity<List<TaskResponse>> getAllTasks(
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Reads one Kanban column in board order. The Age header gives the snapshot age in
+     * seconds, the body's ageMillis the exact value.
+     *
+     * @param status column to read
+     * @return column tasks
+     * @throws IllegalArgumentException when status is invalid
+     */
+    @GetMapping("/board")
+    public ResponseEntity<TaskBoardColumnResponse> getBoardColumn(@RequestParam String status) {
+        TaskBoardColumnResponse column = taskService.getBoardColumn(status);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, String.valueOf(column.getAgeMillis() / 1000))
+                .body(column);
+    }
+
+    /**
+     * Moves many tasks into one Kanban column.
+     *
+     * @param request bulk status payload
+     * @return moved tasks
+     * @throws IllegalArgumentException when payload is invalid
+     */
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<List<TaskResponse>> bulkUpdateStatus(
+            @Valid @RequestBody TaskBulkStatusRequest request) {
+        return ResponseEntity.ok(taskService.bulkUpdateStatus(request));
+    }
+
+    /**
+     * Completes every task in one Kanban column.
+     *
+     * @param status column to complete
+     * @return completed tasks
+     * @throws IllegalArgumentException when status is invalid
+     */
+    @PatchMapping("/board/complete")
+    public ResponseEntity<List<TaskResponse>> completeColumn(@RequestParam String status) {
+        return ResponseEntity.ok(taskService.completeColumn(status));
+    }
+
+    /**
+     * Restores many soft-deleted tasks.
+     *
+     * @param request bulk restore payload
+     * @return restored tasks
+     * @throws com.decena.task.Exception.ResourceNotFoundException when a task is missing
+     * @throws IllegalArgumentException when a task is not deleted
+     */
+    @PostMapping("/bulk/restore")
+    public ResponseEntity<List<TaskResponse>> bulkRestore(
+            @Valid @RequestBody TaskBulkRestoreRequest request) {
+        return ResponseEntity.ok(taskService.bulkRestore(request));
+    }
+
     /**
      * Retrieves deleted tasks.
      */
@@ -158,4 +267,11 @@ public ResponseEntity<List<TaskResponse>> getAllTasks(
                 taskService.getDeletedTasks(page, size)
         );
     }
+
+    private static ResponseEntity<byte[]> replayable(IdempotencyStore.Response response) {
+        return ResponseEntity.status(response.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(IdempotencyStore.REPLAYED_HEADER, String.valueOf(response.replayed()))
+                .body(response.body());
+    }
 }
@@ -0,0 +1,135 @@
+package com.decena.task.Controller;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.decena.task.Dto.TaskImportRequest;
+import com.decena.task.Dto.TaskJobResponse;
+import com.decena.task.Dto.TaskSeriesEditRequest;
+import com.decena.task.Service.ServiceImpl.TaskJobService;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Background jobs for operations too large for one request. Submitting answers 202 with the
+ * job and its Location; clients poll that URL for progress.
+ */
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class TaskJobController {
+
+    private final TaskJobService taskJobService;
+
+    /**
+     * Queues creating many tasks.
+     *
+     * @param request tasks to create, at most 10000
+     * @return queued job
+     * @throws com.decena.task.Exception.ServiceOverloadedException when too many jobs are queued
+     */
+    @PostMapping("/import")
+    public ResponseEntity<TaskJobResponse> importTasks(@Valid @RequestBody TaskImportRequest request) {
+        return accepted(taskJobService.submitImport(request));
+    }
+
+    /**
+     * Queues exporting every active task; the output is read from /api/jobs/{id}/result.
+     *
+     * @return queued job
+     * @throws com.decena.task.Exception.ServiceOverloadedException when too many jobs are queued
+     */
+    @PostMapping("/export")
+    public ResponseEntity<TaskJobResponse> exportTasks() {
+        return accepted(taskJobService.submitExport());
+    }
+
+    /**
+     * Queues archiving (soft-deleting) every task of the DONE column.
+     *
+     * @return queued job
+     * @throws com.decena.task.Exception.ServiceOverloadedException when too many jobs are queued
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<TaskJobResponse> archiveCompletedTasks() {
+        return accepted(taskJobService.submitArchive());
+    }
+
+    /**
+     * Queues applying a merge patch to every active task of a recurring series.
+     *
+     * @param request series and patch
+     * @return queued job
+     * @throws IllegalArgumentException when the patch is invalid
+     * @throws com.decena.task.Exception.ServiceOverloadedException when too many jobs are queued
+     */
+    @PostMapping("/series-edit")
+    public ResponseEntity<TaskJobResponse> editSeries(@Valid @RequestBody TaskSeriesEditRequest request) {
+        return accepted(taskJobService.submitSeriesEdit(request));
+    }
+
+    /**
+     * Lists the most recent jobs, newest first.
+     */
+    @GetMapping
+    public ResponseEntity<List<TaskJobResponse>> getRecentJobs() {
+        return ResponseEntity.ok(taskJobService.getRecentJobs());
+    }
+
+    /**
+     * Reads the state and progress of one job.
+     *
+     * @param id job ID
+     * @return job
+     * @throws com.decena.task.Exception.ResourceNotFoundException when the job does not exist
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskJobResponse> getJob(@PathVariable String id) {
+        return ResponseEntity.ok(taskJobService.getJob(id));
+    }
+
+    /**
+     * Streams the output of a succeeded export as a JSON array of tasks.
+     *
+     * @param id job ID
+     * @param response response the tasks are written to
+     * @throws com.decena.task.Exception.ResourceNotFoundException when the job has no output
+     */
+    @GetMapping("/{id}/result")
+    public void getJobResult(@PathVariable String id, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        taskJobService.writeResult(id, response.getOutputStream());
+    }
+
+    /**
+     * Cancels a queued or running job; work already committed stays done.
+     *
+     * @param id job ID
+     * @return job after the request
+     * @throws com.decena.task.Exception.ResourceNotFoundException when the job does not exist
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<TaskJobResponse> cancelJob(@PathVariable String id) {
+        return ResponseEntity.accepted().body(taskJobService.cancel(id));
+    }
+
+    private static ResponseEntity<TaskJobResponse> accepted(TaskJobResponse job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(job);
+    }
+}
@@ -0,0 +1,21 @@
+package com.decena.task;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Command-line entry point that fills the database with synthetic tasks and exits.
+ * <p>
+ * Example: {@code java -cp app.jar -Dloader.main=com.decena.task.DatasetGeneratorApplication
+ * org.springframework.boot.loader.launch.PropertiesLauncher --app.dataset.rows=10000000}
+ */
+public class DatasetGeneratorApplication {
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(new SpringApplicationBuilder(TaskApplication.class)
+                .profiles("dataset")
+                .web(WebApplicationType.NONE)
+                .run(args)));
+    }
+}
@@ -0,0 +1,33 @@
+package com.decena.task.Dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One Kanban column in board order, possibly served from a cached snapshot.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBoardColumnResponse {
+
+    /**
+     * Column status.
+     */
+    private String status;
+
+    /**
+     * Milliseconds since the column was read from the database.
+     */
+    private long ageMillis;
+
+    /**
+     * Active tasks of the column, ordered by board order then ID.
+     */
+    private List<TaskResponse> tasks;
+}
@@ -0,0 +1,25 @@
+package com.decena.task.Dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request payload for restoring many soft-deleted tasks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBulkRestoreRequest {
+
+    /**
+     * Deleted task IDs to restore.
+     */
+    @NotEmpty(message = "taskIds must not be empty")
+    private List<Long> taskIds;
+}
@@ -0,0 +1,33 @@
+package com.decena.task.Dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request payload for moving many tasks into one Kanban column.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBulkStatusRequest {
+
+    /**
+     * Task IDs to move, in the order they should appear in the target column.
+     */
+    @NotEmpty(message = "taskIds must not be empty")
+    private List<Long> taskIds;
+
+    /**
+     * Target status value.
+     * Accepted: TODO, IN_PROGRESS, DONE.
+     */
+    @NotBlank(message = "Status is required")
+    private String status;
+}
@@ -0,0 +1,29 @@
+package com.decena.task.Dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request payload for importing many tasks in a background job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportRequest {
+
+    /**
+     * Tasks to create, in order.
+     */
+    @NotEmpty(message = "tasks must not be empty")
+    @Size(max = 10000, message = "At most 10000 tasks can be imported at once")
+    @Valid
+    private List<TaskRequest> tasks;
+}
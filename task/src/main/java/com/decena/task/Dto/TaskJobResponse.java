@@ -0,0 +1,58 @@
+package com.decena.task.Dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State and progress of one background job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskJobResponse {
+
+    private String id;
+
+    /**
+     * IMPORT, EXPORT, ARCHIVE or SERIES_EDIT.
+     */
+    private String type;
+
+    /**
+     * QUEUED, RUNNING, SUCCEEDED, FAILED or CANCELLED.
+     */
+    private String state;
+
+    /**
+     * Items the job works through; null until the job has started, and for exports.
+     */
+    private Integer totalItems;
+
+    private int processedItems;
+
+    /**
+     * Items skipped because they failed on their own; the job still succeeds.
+     */
+    private int failedItems;
+
+    /**
+     * Why the job failed, or the last item failure.
+     */
+    private String error;
+
+    private boolean cancelRequested;
+
+    /**
+     * Whether GET /api/jobs/{id}/result has content.
+     */
+    private boolean hasResult;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,106 @@
+package com.decena.task.Dto;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+/**
+ * JSON Merge Patch (RFC 7396) payload for partial task updates.
+ * Absent fields are left untouched, explicit nulls clear the value.
+ * Setters record which fields were present in the request body.
+ */
+@Getter
+public class TaskPatchRequest {
+
+    @JsonIgnore
+    private final Set<String> presentFields = new HashSet<>();
+
+    @Size(max = 255, message = "Title must be less than 255 characters")
+    private String title;
+
+    private String description;
+
+    private String priority; // HIGH, MODERATE, LOW
+
+    private String status; // TODO, IN_PROGRESS, DONE
+
+    private Long boardOrder;
+
+    private String recurrenceType; // NONE, DAILY, WEEKLY, MONTHLY
+
+    private Integer recurrenceInterval;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime recurrenceEndAt;
+
+    private String recurrenceGroupId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime deadline;
+
+    /**
+     * Checks whether a field was present in the patch document.
+     *
+     * @param field field name
+     * @return true when the field was sent, even as null
+     */
+    public boolean has(String field) {
+        return presentFields.contains(field);
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+        presentFields.add("title");
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+        presentFields.add("description");
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+        presentFields.add("priority");
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+        presentFields.add("status");
+    }
+
+    public void setBoardOrder(Long boardOrder) {
+        this.boardOrder = boardOrder;
+        presentFields.add("boardOrder");
+    }
+
+    public void setRecurrenceType(String recurrenceType) {
+        this.recurrenceType = recurrenceType;
+        presentFields.add("recurrenceType");
+    }
+
+    public void setRecurrenceInterval(Integer recurrenceInterval) {
+        this.recurrenceInterval = recurrenceInterval;
+        presentFields.add("recurrenceInterval");
+    }
+
+    public void setRecurrenceEndAt(LocalDateTime recurrenceEndAt) {
+        this.recurrenceEndAt = recurrenceEndAt;
+        presentFields.add("recurrenceEndAt");
+    }
+
+    public void setRecurrenceGroupId(String recurrenceGroupId) {
+        this.recurrenceGroupId = recurrenceGroupId;
+        presentFields.add("recurrenceGroupId");
+    }
+
+    public void setDeadline(LocalDateTime deadline) {
+        this.deadline = deadline;
+        presentFields.add("deadline");
+    }
+}
@@ -16,6 +16,7 @@ import lombok.NoArgsConstructor;
 public class TaskResponse {
 
     private Long id;
+    private String workspaceId;
     private String title;
     private String description;
     private String priority; // HIGH, MODERATE, LOW
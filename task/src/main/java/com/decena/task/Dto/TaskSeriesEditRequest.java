@@ -0,0 +1,32 @@
+package com.decena.task.Dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Request payload for applying one merge patch to every active task of a recurring series
+ * in a background job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSeriesEditRequest {
+
+    /**
+     * Series whose tasks are patched.
+     */
+    @NotBlank(message = "recurrenceGroupId is required")
+    private String recurrenceGroupId;
+
+    /**
+     * JSON Merge Patch (RFC 7396) as accepted by PATCH /api/tasks/{id}.
+     */
+    @NotNull(message = "patch is required")
+    private JsonNode patch;
+}
@@ -0,0 +1,30 @@
+package com.decena.task.Entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One lock row per Kanban column.
+ * Locked with SELECT ... FOR UPDATE to serialize board writes across replicas.
+ */
+@Entity
+@Table(name = "board_column_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardColumnLock {
+
+    /**
+     * Column status name.
+     */
+    @Id
+    @Column(name = "column_name", length = 32)
+    private String columnName;
+}
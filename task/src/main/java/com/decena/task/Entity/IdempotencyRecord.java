@@ -0,0 +1,96 @@
+package com.decena.task.Entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Response of a write made with an Idempotency-Key, stored in the same transaction as the
+ * write. Retries with the same key get this response instead of running the write again.
+ * Rows are deleted once they expire.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdempotencyRecord implements Persistable<String> {
+
+    /**
+     * SHA-256 of workspace, operation and client key.
+     */
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    /**
+     * Workspace the key belongs to, so a shard move takes the key along with the workspace.
+     */
+    @Column(name = "workspace_id", length = 64)
+    private String workspaceId;
+
+    /**
+     * SHA-256 of the request the key was first used with.
+     */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "status_code", nullable = false)
+    private int statusCode;
+
+    /**
+     * Serialized JSON response body.
+     */
+    @Lob
+    @Column(name = "response_body", nullable = false)
+    private byte[] responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Persisted with a plain INSERT, so a concurrent request with the same key fails on the
+     * primary key instead of being merged.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean fresh = true;
+
+    public IdempotencyRecord(String id, String workspaceId, String requestHash, LocalDateTime createdAt,
+            LocalDateTime expiresAt) {
+        this.id = id;
+        this.workspaceId = workspaceId;
+        this.requestHash = requestHash;
+        this.responseBody = new byte[0];
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        fresh = false;
+    }
+}
@@ -0,0 +1,57 @@
+package com.decena.task.Entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Resumable progress marker for an online data migration.
+ */
+@Entity
+@Table(name = "migration_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MigrationCheckpoint {
+
+    /**
+     * Unique migration name.
+     */
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    /**
+     * Highest task ID already processed (keyset cursor).
+     */
+    @Column(name = "last_processed_id", nullable = false)
+    private long lastProcessedId;
+
+    /**
+     * Total number of rows rewritten so far.
+     */
+    @Column(name = "rows_updated", nullable = false)
+    private long rowsUpdated;
+
+    /**
+     * TRUE once the whole table has been scanned.
+     */
+    @Column(nullable = false)
+    private boolean completed;
+
+    /**
+     * Timestamp of the last processed batch.
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
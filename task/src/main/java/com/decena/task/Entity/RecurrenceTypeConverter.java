@@ -0,0 +1,31 @@
+package com.decena.task.Entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps recurrence types to their column value.
+ * Unknown or missing column values are read as NONE in Java instead of
+ * through a SQL CASE expression, so queries on recurrence_type stay sargable.
+ */
+@Converter
+public class RecurrenceTypeConverter implements AttributeConverter<Task.RecurrenceType, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Task.RecurrenceType attribute) {
+        return attribute == null ? null : attribute.name();
+    }
+
+    @Override
+    public Task.RecurrenceType convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return Task.RecurrenceType.NONE;
+        }
+        return switch (dbData) {
+            case "DAILY" -> Task.RecurrenceType.DAILY;
+            case "WEEKLY" -> Task.RecurrenceType.WEEKLY;
+            case "MONTHLY" -> Task.RecurrenceType.MONTHLY;
+            default -> Task.RecurrenceType.NONE;
+        };
+    }
+}
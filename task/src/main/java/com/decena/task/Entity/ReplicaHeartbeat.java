@@ -0,0 +1,32 @@
+package com.decena.task.Entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Single-row heartbeat written to the primary and read back from the read replica
+ * to measure replication lag (see ReadReplica).
+ */
+@Entity
+@Table(name = "replica_heartbeat")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplicaHeartbeat {
+
+    @Id
+    private Integer id;
+
+    /**
+     * Epoch milliseconds of the last heartbeat written to the primary.
+     */
+    @Column(name = "beat_at_ms", nullable = false)
+    private long beatAtMillis;
+}
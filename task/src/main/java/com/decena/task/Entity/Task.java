@@ -5,12 +5,14 @@ import java.time.LocalDateTime;
 import com.decena.task.Exception.TaskAlreadyCompletedException;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -18,9 +20,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.TenantId;
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = @Index(name = "idx_tasks_workspace_status", columnList = "workspace_id, status"))
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,6 +40,16 @@ public class Task {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Workspace (tenant) owning the task.
+     * Stamped from the current workspace on insert; every query is restricted to it.
+     * Rows written before workspaces existed belong to the default workspace.
+     */
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "workspace_id", nullable = false, length = 64, updatable = false)
+    private String workspaceId;
+
     /**
      * Short title describing the task.
      */
@@ -82,9 +97,9 @@ public class Task {
 
     /**
      * Recurrence pattern of the task.
+     * Unknown stored values are read as NONE by {@link RecurrenceTypeConverter}.
      */
-    @Enumerated(EnumType.STRING)
-    @ColumnTransformer(read = "case when recurrence_type in ('NONE','DAILY','WEEKLY','MONTHLY') then recurrence_type else 'NONE' end")
+    @Convert(converter = RecurrenceTypeConverter.class)
     @Column(name = "recurrence_type", length = 16, columnDefinition = "varchar(16)")
     private RecurrenceType recurrenceType;
 
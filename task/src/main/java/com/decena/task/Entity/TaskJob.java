@@ -0,0 +1,126 @@
+package com.decena.task.Entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One background job over tasks (import, export, archival, series edit) and its progress;
+ * an export's output is kept apart in {@link TaskJobResult}. The row is the job's only state: any instance can pick up a queued job, and a job whose
+ * instance stopped is queued again and resumes after its last committed chunk.
+ */
+@Entity
+@Table(name = "task_jobs", indexes = {
+        @Index(name = "idx_task_jobs_state", columnList = "state, created_at"),
+        @Index(name = "idx_task_jobs_workspace", columnList = "workspace_id, created_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskJob {
+
+    /**
+     * Random UUID handed to the client.
+     */
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "workspace_id", nullable = false, length = 64)
+    private String workspaceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private Type type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private State state;
+
+    /**
+     * JSON input of the job as submitted.
+     */
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    /**
+     * JSON array of the task IDs the job works through, fixed when it first starts so a
+     * resumed job skips exactly the items already done.
+     */
+    @Lob
+    private String items;
+
+    @Column(name = "total_items")
+    private Integer totalItems;
+
+    @Column(name = "processed_items", nullable = false)
+    private int processedItems;
+
+    /**
+     * Items skipped because they failed on their own, e.g. a task deleted meanwhile.
+     */
+    @Column(name = "failed_items", nullable = false)
+    private int failedItems;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "cancel_requested", nullable = false)
+    private boolean cancelRequested;
+
+    /**
+     * Instance running the job.
+     */
+    @Column(length = 64)
+    private String owner;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * Refreshed by the owner while it runs; a running job not refreshed for
+     * app.jobs.stale-ms is queued again.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum Type {
+        IMPORT,
+        EXPORT,
+        ARCHIVE,
+        SERIES_EDIT
+    }
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isFinished() {
+            return this != QUEUED && this != RUNNING;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.decena.task.Entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One page of an export job's output, kept out of task_jobs so reading job state never loads it.
+ * Parts are numbered from 0 and written in the same transaction as the job's progress, so a
+ * resumed export continues after the last stored part. Deleted together with its job.
+ */
+@Entity
+@Table(name = "task_job_results")
+@IdClass(TaskJobResult.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskJobResult {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    @Id
+    @Column(name = "part")
+    private int part;
+
+    /**
+     * Largest task ID in this part; the next part starts after it.
+     */
+    @Column(name = "last_task_id", nullable = false)
+    private long lastTaskId;
+
+    /**
+     * JSON array of the tasks of this part.
+     */
+    @Lob
+    @Column(nullable = false)
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private String jobId;
+        private int part;
+    }
+}
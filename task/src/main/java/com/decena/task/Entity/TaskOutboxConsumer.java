@@ -0,0 +1,36 @@
+package com.decena.task.Entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Relay position of one backend instance, refreshed while it runs. Outbox rows up to the
+ * lowest position of the live instances have been delivered everywhere and are pruned.
+ */
+@Entity
+@Table(name = "task_outbox_consumers")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskOutboxConsumer {
+
+    @Id
+    @Column(name = "instance_id", length = 64)
+    private String instanceId;
+
+    /**
+     * Every outbox row up to this ID has been delivered to the instance.
+     */
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "seen_at", nullable = false)
+    private LocalDateTime seenAt;
+}
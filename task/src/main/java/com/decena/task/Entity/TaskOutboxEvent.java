@@ -0,0 +1,82 @@
+package com.decena.task.Entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One committed task change, written in the same transaction as the change and relayed to
+ * every backend replica by TaskOutboxRelay. Rows are deleted once every live replica has
+ * read them.
+ */
+@Entity
+@Table(name = "task_outbox")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskOutboxEvent {
+
+    /**
+     * Relay position; replicas read the table in ID order.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Workspace of the changed tasks.
+     */
+    @Column(name = "workspace_id", nullable = false, length = 64)
+    private String workspaceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private Type type;
+
+    /**
+     * Comma-separated IDs of the changed tasks.
+     */
+    @Lob
+    @Column(name = "task_ids", nullable = false)
+    private String taskIds;
+
+    /**
+     * Comma-separated board columns whose content or order changed.
+     */
+    @Column(nullable = false, length = 128)
+    private String statuses;
+
+    /**
+     * Instance that wrote the change; it has already applied it locally.
+     */
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        REORDERED,
+        COMPLETED,
+        DELETED,
+        RESTORED
+    }
+}
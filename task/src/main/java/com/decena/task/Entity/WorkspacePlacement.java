@@ -0,0 +1,58 @@
+package com.decena.task.Entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Shard placement of a workspace that overrides the consistent-hash ring, written by
+ * shard moves. Only the primary shard's table is used (see ShardRouter).
+ */
+@Entity
+@Table(name = "workspace_placements")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkspacePlacement {
+
+    /**
+     * Workspace ID.
+     */
+    @Id
+    @Column(name = "workspace_id", length = 64)
+    private String workspaceId;
+
+    /**
+     * Shard holding the workspace's rows.
+     */
+    @Column(nullable = false, length = 64)
+    private String shard;
+
+    /**
+     * MOVING while a shard move is about to flip the placement; writes are rejected then.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private State state;
+
+    /**
+     * Timestamp of the last placement change.
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum State {
+        ACTIVE,
+        MOVING
+    }
+}
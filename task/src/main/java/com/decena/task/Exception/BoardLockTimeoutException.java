@@ -0,0 +1,16 @@
+package com.decena.task.Exception;
+
+/**
+ * Exception thrown when a Kanban column lock cannot be acquired in time.
+ */
+public class BoardLockTimeoutException extends RuntimeException {
+
+    /**
+     * Constructor
+     *
+     * @param message error message
+     */
+    public BoardLockTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -5,10 +5,14 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.jpa.JpaSystemException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -133,5 +137,102 @@ public ResponseEntity<Map<String, Object>> handleResourceNotFound(ResourceNotFou
     return buildResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage());
 }
 
+/**
+ * Handles board column lock timeouts (409).
+ *
+ * @param ex thrown exception
+ * @return 409 response body
+ */
+@ExceptionHandler(BoardLockTimeoutException.class)
+public ResponseEntity<Map<String, Object>> handleBoardLockTimeout(BoardLockTimeoutException ex) {
+    return buildResponse(HttpStatus.CONFLICT, "Board Busy", ex.getMessage());
+}
+
+/**
+ * Handles exhausted endpoint rate limits (429).
+ *
+ * @param ex thrown exception
+ * @return 429 response body with Retry-After
+ */
+@ExceptionHandler(TooManyRequestsException.class)
+public ResponseEntity<Map<String, Object>> handleTooManyRequests(TooManyRequestsException ex) {
+    return retryLater(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", ex.getMessage(), ex.getRetryAfterSeconds());
+}
+
+/**
+ * Handles requests shed by a full endpoint bulkhead (503).
+ *
+ * @param ex thrown exception
+ * @return 503 response body with Retry-After
+ */
+@ExceptionHandler(ServiceOverloadedException.class)
+public ResponseEntity<Map<String, Object>> handleServiceOverloaded(ServiceOverloadedException ex) {
+    return retryLater(HttpStatus.SERVICE_UNAVAILABLE, "Service Overloaded", ex.getMessage(), ex.getRetryAfterSeconds());
+}
+
+/**
+ * Handles operations that ran past their statement or transaction timeout (503).
+ *
+ * @param ex thrown exception
+ * @return 503 response body with Retry-After
+ */
+@ExceptionHandler({QueryTimeoutException.class, TransactionTimedOutException.class})
+public ResponseEntity<Map<String, Object>> handleTimeout(RuntimeException ex) {
+    return retryLater(HttpStatus.SERVICE_UNAVAILABLE, "Database Timeout",
+            "The database did not answer in time; please retry", 1);
+}
+
+/**
+ * Handles JPA errors caused by a timeout (503): Hibernate refusing a statement because the
+ * transaction timeout has passed, or a JDBC statement cancelled by its query timeout. Other JPA
+ * system errors stay unhandled.
+ *
+ * @param ex thrown exception
+ * @return 503 response body with Retry-After
+ * @throws JpaSystemException when no cause is a timeout
+ */
+@ExceptionHandler(JpaSystemException.class)
+public ResponseEntity<Map<String, Object>> handleJpaSystemException(JpaSystemException ex) {
+    for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+        if (cause instanceof org.hibernate.TransactionException
+                || cause instanceof jakarta.persistence.QueryTimeoutException
+                || cause instanceof java.sql.SQLTimeoutException) {
+            return handleTimeout(ex);
+        }
+    }
+    throw ex;
+}
+
+/**
+ * Handles an Idempotency-Key sent again with a different request (422).
+ *
+ * @param ex thrown exception
+ * @return 422 response body
+ */
+@ExceptionHandler(IdempotencyKeyReusedException.class)
+public ResponseEntity<Map<String, Object>> handleIdempotencyKeyReused(IdempotencyKeyReusedException ex) {
+    return buildResponse(HttpStatus.UNPROCESSABLE_CONTENT, "Idempotency Key Reused", ex.getMessage());
+}
+
+/**
+ * Handles a retry arriving while the request with the same Idempotency-Key still runs (409).
+ *
+ * @param ex thrown exception
+ * @return 409 response body with Retry-After
+ */
+@ExceptionHandler(IdempotencyKeyInUseException.class)
+public ResponseEntity<Map<String, Object>> handleIdempotencyKeyInUse(IdempotencyKeyInUseException ex) {
+    return retryLater(HttpStatus.CONFLICT, "Request In Progress", ex.getMessage(), ex.getRetryAfterSeconds());
+}
+
+private ResponseEntity<Map<String, Object>> retryLater(HttpStatus status, String error, String message,
+        long retryAfterSeconds) {
+    Map<String, Object> body = baseBody(status, error);
+    body.put("message", message);
+    return ResponseEntity.status(status)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .body(body);
+}
+
     
 }
@@ -0,0 +1,24 @@
+package com.decena.task.Exception;
+
+/**
+ * Exception thrown when a request with the same Idempotency-Key is still running.
+ */
+public class IdempotencyKeyInUseException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructor
+     *
+     * @param message error message
+     * @param retryAfterSeconds seconds until the running request has likely finished
+     */
+    public IdempotencyKeyInUseException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
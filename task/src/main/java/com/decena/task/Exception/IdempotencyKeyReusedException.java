@@ -0,0 +1,16 @@
+package com.decena.task.Exception;
+
+/**
+ * Exception thrown when an Idempotency-Key is sent again with a different request.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    /**
+     * Constructor
+     *
+     * @param message error message
+     */
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
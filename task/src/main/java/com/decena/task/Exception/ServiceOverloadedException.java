@@ -0,0 +1,24 @@
+package com.decena.task.Exception;
+
+/**
+ * Exception thrown when a request is shed because its endpoint has no free capacity.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructor
+     *
+     * @param message error message
+     * @param retryAfterSeconds seconds until a request is likely to be accepted
+     */
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
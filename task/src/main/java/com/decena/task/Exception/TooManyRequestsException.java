@@ -0,0 +1,24 @@
+package com.decena.task.Exception;
+
+/**
+ * Exception thrown when an endpoint's rate limit is used up.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructor
+     *
+     * @param message error message
+     * @param retryAfterSeconds seconds until a request is likely to be accepted
+     */
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,28 @@
+package com.decena.task.Instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering one Kanban column reorder.
+ */
+@Name("com.decena.task.BoardReorder")
+@Label("Board Reorder")
+@Category({"Task Service"})
+@StackTrace(false)
+public class BoardReorderEvent extends Event {
+
+    @Label("Status")
+    public String status;
+
+    @Label("Tasks")
+    public int tasks;
+
+    @Label("Deferred")
+    @Description("True when the reorder was queued for write-behind instead of written")
+    public boolean deferred;
+}
@@ -0,0 +1,92 @@
+package com.decena.task.Instrumentation;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Summarises task service events in a {@code .jfr} file into per-operation latency percentiles.
+ * <p>
+ * Usage: {@code java -cp app.jar -Dloader.main=com.decena.task.Instrumentation.JfrLatencyReport
+ * org.springframework.boot.loader.launch.PropertiesLauncher recording.jfr}
+ */
+public final class JfrLatencyReport {
+
+    private static final String EVENT_PREFIX = "com.decena.task.";
+
+    private JfrLatencyReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrLatencyReport <recording.jfr>");
+            System.exit(2);
+        }
+        print(summarise(Path.of(args[0])), System.out);
+    }
+
+    /**
+     * Reads task service events and groups their durations by operation.
+     *
+     * @param recording JFR file
+     * @return statistics keyed by operation, sorted by name
+     * @throws IOException if the file cannot be read
+     */
+    public static Map<String, OperationStats> summarise(Path recording) throws IOException {
+        Map<String, List<Duration>> durations = new TreeMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            String type = event.getEventType().getName();
+            if (!type.startsWith(EVENT_PREFIX)) {
+                continue;
+            }
+            String key = type.substring(EVENT_PREFIX.length());
+            if (event.hasField("operation")) {
+                key += "." + event.getString("operation");
+            }
+            durations.computeIfAbsent(key, k -> new ArrayList<>()).add(event.getDuration());
+        }
+
+        Map<String, OperationStats> stats = new TreeMap<>();
+        durations.forEach((key, values) -> stats.put(key, OperationStats.of(values)));
+        return stats;
+    }
+
+    private static void print(Map<String, OperationStats> stats, PrintStream out) {
+        out.printf("%-40s %8s %10s %10s %10s %10s%n", "operation", "count", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        stats.forEach((key, s) -> out.printf("%-40s %8d %10.3f %10.3f %10.3f %10.3f%n",
+                key, s.count(), s.p50Millis(), s.p90Millis(), s.p99Millis(), s.maxMillis()));
+    }
+
+    /**
+     * Latency percentiles for one operation, nearest-rank.
+     *
+     * @param count number of events
+     * @param p50Millis median
+     * @param p90Millis 90th percentile
+     * @param p99Millis 99th percentile
+     * @param maxMillis slowest event
+     */
+    public record OperationStats(int count, double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+
+        static OperationStats of(List<Duration> durations) {
+            long[] nanos = durations.stream().mapToLong(Duration::toNanos).toArray();
+            Arrays.sort(nanos);
+            return new OperationStats(nanos.length, percentile(nanos, 50), percentile(nanos, 90),
+                    percentile(nanos, 99), nanos[nanos.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, int percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.decena.task.Instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering next-occurrence generation for completed recurring tasks.
+ */
+@Name("com.decena.task.RecurrenceGeneration")
+@Label("Recurrence Generation")
+@Category({"Task Service"})
+@StackTrace(false)
+public class RecurrenceGenerationEvent extends Event {
+
+    @Label("Completed Tasks")
+    public int completedTasks;
+
+    @Label("Spawned Tasks")
+    public int spawnedTasks;
+}
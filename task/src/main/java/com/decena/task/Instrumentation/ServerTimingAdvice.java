@@ -0,0 +1,36 @@
+package com.decena.task.Instrumentation;
+
+import java.util.Locale;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds a Server-Timing header with the request's SQL statement count and JDBC time.
+ * Runs right before the body is written, after the service transaction has committed.
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementStats.Snapshot snapshot = SqlStatementStats.current();
+        if (snapshot != null) {
+            response.getHeaders().add("Server-Timing", String.format(Locale.ROOT,
+                    "db;dur=%.2f;desc=\"%d statements\"", snapshot.jdbcMillis(), snapshot.statements()));
+        }
+        return body;
+    }
+}
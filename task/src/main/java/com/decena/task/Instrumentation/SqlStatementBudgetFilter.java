@@ -0,0 +1,79 @@
+package com.decena.task.Instrumentation;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures SQL statements per API request.
+ * Records statement count and JDBC time as metrics tagged by endpoint, and logs requests
+ * that exceed the configured statement budget together with repeated (N+1) statements.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sql.budget.max-statements:20}")
+    private int maxStatements;
+
+    @Value("${app.sql.budget.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementStats.Scope scope = SqlStatementStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.Snapshot snapshot = SqlStatementStats.end(scope);
+            record(request, snapshot);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats.Snapshot snapshot) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("SQL statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(snapshot.statements());
+        Timer.builder("http.server.sql.time")
+                .description("JDBC execution time per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(snapshot.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (snapshot.statements() > maxStatements) {
+            log.warn("SQL budget exceeded: {} {} ran {} statements (budget {}) in {} ms; repeated: {}",
+                    request.getMethod(), uri, snapshot.statements(), maxStatements,
+                    String.format("%.1f", snapshot.jdbcMillis()), snapshot.repeatedStatements(repeatThreshold));
+        }
+    }
+}
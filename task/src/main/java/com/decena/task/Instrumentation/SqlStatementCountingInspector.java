@@ -0,0 +1,16 @@
+package com.decena.task.Instrumentation;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that counts every prepared SQL statement
+ * against the current {@link SqlStatementStats} scope. The SQL is returned unchanged.
+ */
+public class SqlStatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats.recordStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,120 @@
+package com.decena.task.Instrumentation;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Thread-bound SQL statement statistics for one unit of work (usually one HTTP request).
+ * Scopes nest: statements recorded in an inner scope are also counted by its parents,
+ * so tests can capture a single call while the request filter is measuring the request.
+ * Recording is a no-op on threads without an open scope.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementStats() {
+    }
+
+    /**
+     * Opens a new scope on the current thread.
+     *
+     * @return opened scope; must be passed to {@link #end(Scope)}
+     */
+    public static Scope begin() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Closes a scope and restores its parent.
+     *
+     * @param scope scope returned by {@link #begin()}
+     * @return immutable snapshot of the scope
+     */
+    public static Snapshot end(Scope scope) {
+        if (scope.parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(scope.parent);
+        }
+        return scope.snapshot();
+    }
+
+    /**
+     * Returns a snapshot of the innermost open scope.
+     *
+     * @return current snapshot, or null when no scope is open
+     */
+    public static Snapshot current() {
+        Scope scope = CURRENT.get();
+        return scope == null ? null : scope.snapshot();
+    }
+
+    static void recordStatement(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements++;
+            scope.shapes.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.jdbcNanos += nanos;
+        }
+    }
+
+    /**
+     * Mutable per-thread counters.
+     */
+    public static final class Scope {
+
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int statements;
+        private long jdbcNanos;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(statements, jdbcNanos, Map.copyOf(shapes));
+        }
+    }
+
+    /**
+     * Statement count, total JDBC execution time and per-statement repeat counts.
+     *
+     * @param statements number of prepared statements
+     * @param jdbcNanos time spent executing JDBC statements
+     * @param shapes repeat count per SQL string (Hibernate SQL already uses ? placeholders)
+     */
+    public record Snapshot(int statements, long jdbcNanos, Map<String, Integer> shapes) {
+
+        /**
+         * Returns statements repeated at least {@code threshold} times, a typical N+1 signature.
+         *
+         * @param threshold minimum repeat count
+         * @return repeated SQL strings with their counts
+         */
+        public List<String> repeatedStatements(int threshold) {
+            return shapes.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .map(entry -> entry.getValue() + "x " + entry.getKey())
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * Returns JDBC time in milliseconds.
+         *
+         * @return JDBC time
+         */
+        public double jdbcMillis() {
+            return jdbcNanos / 1_000_000.0;
+        }
+    }
+}
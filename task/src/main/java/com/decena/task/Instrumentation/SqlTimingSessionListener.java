@@ -0,0 +1,22 @@
+package com.decena.task.Instrumentation;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener that adds JDBC execution time to the current
+ * {@link SqlStatementStats} scope. One instance is created per session.
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long executeStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats.recordJdbcTime(System.nanoTime() - executeStart);
+    }
+}
@@ -0,0 +1,69 @@
+package com.decena.task.Instrumentation;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emits a {@link TaskOperationEvent} around every {@code TaskService} call.
+ * Service code adds details to the running event through the static helpers,
+ * which are no-ops when no event is active or Flight Recorder is off.
+ */
+@Aspect
+@Component
+public class TaskFlightRecorder {
+
+    private static final ThreadLocal<TaskOperationEvent> CURRENT = new ThreadLocal<>();
+
+    @Around("execution(public * com.decena.task.Service.TaskService+.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        TaskOperationEvent event = new TaskOperationEvent();
+        if (!event.isEnabled() || CURRENT.get() != null) {
+            return joinPoint.proceed();
+        }
+
+        event.operation = joinPoint.getSignature().getName();
+        Object[] args = joinPoint.getArgs();
+        if (args.length > 0 && args[0] instanceof Long id) {
+            event.taskId = id;
+        }
+        CURRENT.set(event);
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            event.failed = true;
+            throw ex;
+        } finally {
+            CURRENT.remove();
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a status transition on the running event.
+     *
+     * @param from status before the change, may be null for mixed batches
+     * @param to status after the change
+     */
+    public static void transition(Enum<?> from, Enum<?> to) {
+        TaskOperationEvent event = CURRENT.get();
+        if (event != null) {
+            event.fromStatus = from == null ? null : from.name();
+            event.toStatus = to == null ? null : to.name();
+        }
+    }
+
+    /**
+     * Adds written rows to the running event.
+     *
+     * @param rows rows inserted or updated
+     */
+    public static void rowsTouched(int rows) {
+        TaskOperationEvent event = CURRENT.get();
+        if (event != null) {
+            event.rowsTouched += rows;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.decena.task.Instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering one {@code TaskService} call.
+ */
+@Name("com.decena.task.TaskOperation")
+@Label("Task Operation")
+@Category({"Task Service"})
+@Description("One task service call with its status transition and rows written")
+@StackTrace(false)
+public class TaskOperationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Task Id")
+    @Description("First task ID argument, 0 when the call is not about a single task")
+    public long taskId;
+
+    @Label("From Status")
+    public String fromStatus;
+
+    @Label("To Status")
+    public String toStatus;
+
+    @Label("Rows Touched")
+    public int rowsTouched;
+
+    @Label("Failed")
+    public boolean failed;
+}
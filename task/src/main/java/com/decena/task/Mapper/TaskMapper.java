@@ -1,14 +1,23 @@
 package com.decena.task.Mapper;
 
+import java.util.Objects;
+
 import org.springframework.stereotype.Component;
 
+import com.decena.task.Config.LegacyCompatibility;
+import com.decena.task.Dto.TaskPatchRequest;
 import com.decena.task.Dto.TaskRequest;
 import com.decena.task.Dto.TaskResponse;
 import com.decena.task.Entity.Task;
 
+import lombok.RequiredArgsConstructor;
+
 @Component
+@RequiredArgsConstructor
 public class TaskMapper {
 
+    private final LegacyCompatibility legacyCompatibility;
+
     /**
      * Converts Task entity to TaskResponse DTO.
      *
@@ -20,6 +29,7 @@ public class TaskMapper {
 
         return TaskResponse.builder()
                 .id(task.getId())
+                .workspaceId(task.getWorkspaceId())
                 .title(task.getTitle())
                 .description(task.getDescription())
                 .priority(task.getPriority() != null ? task.getPriority().name() : null)
@@ -101,6 +111,95 @@ public class TaskMapper {
             task.setRecurrenceGroupId(request.getRecurrenceGroupId());
     }
 
+    /**
+     * Applies a merge patch to an existing Task entity.
+     * Only fields present in the patch are touched, and a field is only
+     * written when its value actually differs.
+     *
+     * @param patch merge patch DTO
+     * @param task existing entity
+     * @return true when at least one field changed
+     * @throws IllegalArgumentException if a value is invalid
+     */
+    public boolean applyPatch(TaskPatchRequest patch, Task task) {
+        boolean changed = false;
+
+        if (patch.has("title")) {
+            if (patch.getTitle() == null || patch.getTitle().isBlank()) {
+                throw new IllegalArgumentException("Title is required");
+            }
+            if (!Objects.equals(task.getTitle(), patch.getTitle())) {
+                task.setTitle(patch.getTitle());
+                changed = true;
+            }
+        }
+
+        if (patch.has("description") && !Objects.equals(task.getDescription(), patch.getDescription())) {
+            task.setDescription(patch.getDescription());
+            changed = true;
+        }
+
+        if (patch.has("priority")) {
+            Task.Priority priority = patch.getPriority() == null || patch.getPriority().isBlank()
+                    ? null
+                    : convertPriority(patch.getPriority());
+            if (task.getPriority() != priority) {
+                task.setPriority(priority);
+                changed = true;
+            }
+        }
+
+        if (patch.has("status")) {
+            if (patch.getStatus() == null || patch.getStatus().isBlank()) {
+                throw new IllegalArgumentException("Status is required");
+            }
+            Task.Status status = convertStatus(patch.getStatus());
+            if (task.getStatus() != status) {
+                task.setStatus(status);
+                changed = true;
+            }
+        }
+
+        if (patch.has("boardOrder") && patch.getBoardOrder() != null
+                && !Objects.equals(task.getBoardOrder(), patch.getBoardOrder())) {
+            task.setBoardOrder(patch.getBoardOrder());
+            changed = true;
+        }
+
+        if (patch.has("deadline") && !Objects.equals(task.getDeadline(), patch.getDeadline())) {
+            task.updateDeadline(patch.getDeadline());
+            changed = true;
+        }
+
+        if (patch.has("recurrenceType")) {
+            Task.RecurrenceType recurrenceType = convertRecurrenceType(patch.getRecurrenceType());
+            if (task.getRecurrenceType() != recurrenceType) {
+                task.setRecurrenceType(recurrenceType);
+                changed = true;
+            }
+        }
+
+        if (patch.has("recurrenceInterval")) {
+            Integer interval = patch.getRecurrenceInterval() == null ? 1 : patch.getRecurrenceInterval();
+            if (!Objects.equals(task.getRecurrenceInterval(), interval)) {
+                task.setRecurrenceInterval(interval);
+                changed = true;
+            }
+        }
+
+        if (patch.has("recurrenceEndAt") && !Objects.equals(task.getRecurrenceEndAt(), patch.getRecurrenceEndAt())) {
+            task.setRecurrenceEndAt(patch.getRecurrenceEndAt());
+            changed = true;
+        }
+
+        if (patch.has("recurrenceGroupId") && !Objects.equals(task.getRecurrenceGroupId(), patch.getRecurrenceGroupId())) {
+            task.setRecurrenceGroupId(patch.getRecurrenceGroupId());
+            changed = true;
+        }
+
+        return changed;
+    }
+
     /**
      * Converts String priority to Enum.
      *
@@ -153,6 +252,9 @@ public class TaskMapper {
         if (status == null) {
             return null;
         }
+        if (!legacyCompatibility.isStatusNormalizationEnabled()) {
+            return status.name();
+        }
         if (status == Task.Status.PENDING) {
             return Task.Status.TODO.name();
         }
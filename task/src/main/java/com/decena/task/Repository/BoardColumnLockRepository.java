@@ -0,0 +1,27 @@
+package com.decena.task.Repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.decena.task.Entity.BoardColumnLock;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface BoardColumnLockRepository extends JpaRepository<BoardColumnLock, String> {
+
+    /**
+     * Locks one column row until the surrounding transaction ends.
+     *
+     * @param columnName column status name
+     * @return locked row if present
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from BoardColumnLock l where l.columnName = :columnName")
+    Optional<BoardColumnLock> lockColumn(@Param("columnName") String columnName);
+}
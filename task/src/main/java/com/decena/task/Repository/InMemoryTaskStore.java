@@ -0,0 +1,511 @@
+package com.decena.task.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Entity.Task;
+
+/**
+ * In-memory task storage engine (app.storage.engine=memory) for edge installs, demos and
+ * fast test suites. Nothing survives a restart.
+ * <p>
+ * Each workspace has its own partition: a concurrent map by ID plus secondary indexes kept
+ * in step with it, so the board queries never scan the table:
+ * <ul>
+ * <li>per status, active tasks ordered by (boardOrder, id): column listings and column tails;</li>
+ * <li>active tasks ordered by deadline and by creation time: the list endpoint's common sorts;</li>
+ * <li>deleted task IDs in ID order: the recycle bin.</li>
+ * </ul>
+ * Stored tasks are copies; callers never hold a reference into the store, so an index can
+ * only change through {@link #save}. Writes are serialized by one lock and take microseconds;
+ * reads are lock-free and may briefly see a write half-applied across indexes.
+ * <p>
+ * Inside a Spring transaction every replaced version is remembered and put back if the
+ * transaction rolls back. There is no isolation: other threads see writes immediately.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "app.storage.engine", havingValue = "memory")
+public class InMemoryTaskStore implements TaskStore {
+
+    private static final Comparator<LocalDateTime> NULLS_FIRST = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final AtomicLong lastId = new AtomicLong();
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Override
+    public <S extends Task> S save(S task) {
+        Partition partition = partition();
+        writeLock.lock();
+        try {
+            store(partition, task);
+        } finally {
+            writeLock.unlock();
+        }
+        return task;
+    }
+
+    @Override
+    public <S extends Task> List<S> saveAll(Iterable<S> tasks) {
+        Partition partition = partition();
+        List<S> saved = new ArrayList<>();
+        writeLock.lock();
+        try {
+            for (S task : tasks) {
+                store(partition, task);
+                saved.add(task);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        return Optional.ofNullable(partition().tasks.get(id)).map(InMemoryTaskStore::copyOf);
+    }
+
+    @Override
+    public List<Task> findAllById(Iterable<Long> ids) {
+        Partition partition = partition();
+        List<Task> found = new ArrayList<>();
+        for (Long id : ids) {
+            Task task = partition.tasks.get(id);
+            if (task != null) {
+                found.add(copyOf(task));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<Task> findByIdAndDeletedFalse(Long id) {
+        Task task = partition().tasks.get(id);
+        return task == null || task.isDeleted() ? Optional.empty() : Optional.of(copyOf(task));
+    }
+
+    @Override
+    public List<Task> findByIdInAndDeletedFalse(List<Long> ids) {
+        Partition partition = partition();
+        List<Task> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Task task = partition.tasks.get(id);
+            if (task != null && !task.isDeleted()) {
+                found.add(copyOf(task));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Scans the partition; series are not indexed, as only background jobs look them up.
+     */
+    @Override
+    public List<Task> findByDeletedFalseAndRecurrenceGroupIdOrderByIdAsc(String recurrenceGroupId) {
+        List<Task> found = new ArrayList<>();
+        for (Task task : partition().tasks.values()) {
+            if (!task.isDeleted() && Objects.equals(recurrenceGroupId, task.getRecurrenceGroupId())) {
+                found.add(copyOf(task));
+            }
+        }
+        found.sort(Comparator.comparing(Task::getId));
+        return found;
+    }
+
+    /**
+     * Scans the partition; only the export job pages by ID.
+     */
+    @Override
+    public List<Task> findByDeletedFalseAndIdGreaterThanOrderByIdAsc(Long id, Limit limit) {
+        List<Task> found = new ArrayList<>();
+        for (Task task : partition().tasks.values()) {
+            if (!task.isDeleted() && task.getId() > id) {
+                found.add(task);
+            }
+        }
+        found.sort(Comparator.comparing(Task::getId));
+        int size = limit.isLimited() ? Math.min(limit.max(), found.size()) : found.size();
+        List<Task> page = new ArrayList<>(size);
+        for (Task task : found.subList(0, size)) {
+            page.add(copyOf(task));
+        }
+        return page;
+    }
+
+    @Override
+    public long countByDeletedFalse() {
+        return partition().activeCount;
+    }
+
+    @Override
+    public Page<Task> findByDeletedFalse(Pageable pageable) {
+        Partition partition = partition();
+        Sort sort = pageable.getSort();
+        Sort.Order order = sort.stream().findFirst().orElse(null);
+        NavigableSet<TimeKey> index = null;
+        if (order != null && sort.stream().count() == 1) {
+            if ("dateCreated".equals(order.getProperty())) {
+                index = partition.byDateCreated;
+            } else if ("deadline".equals(order.getProperty())) {
+                index = partition.byDeadline;
+            }
+        }
+        if (index == null) {
+            return sortedPage(partition, pageable, false, partition.activeCount);
+        }
+        Iterator<TimeKey> keys = (order.isAscending() ? index : index.descendingSet()).iterator();
+        return page(partition, pageable, keys, TimeKey::id, partition.activeCount);
+    }
+
+    @Override
+    public Page<Task> findAllByDeletedTrue(Pageable pageable) {
+        Partition partition = partition();
+        if (pageable.getSort().isSorted()) {
+            return sortedPage(partition, pageable, true, partition.deletedIds.size());
+        }
+        return page(partition, pageable, partition.deletedIds.iterator(), Function.identity(),
+                partition.deletedIds.size());
+    }
+
+    @Override
+    public List<Task> findByDeletedFalseAndStatusOrderByBoardOrderAscIdAsc(Task.Status status) {
+        Partition partition = partition();
+        List<Task> column = new ArrayList<>();
+        for (OrderKey key : partition.columns.get(status)) {
+            Task task = partition.tasks.get(key.id());
+            if (task != null) {
+                column.add(copyOf(task));
+            }
+        }
+        return column;
+    }
+
+    @Override
+    public List<Task> findByDeletedFalseAndStatusInOrderByBoardOrderAscIdAsc(Collection<Task.Status> statuses) {
+        Partition partition = partition();
+        List<OrderKey> keys = new ArrayList<>();
+        for (Task.Status status : EnumSet.copyOf(statuses)) {
+            keys.addAll(partition.columns.get(status));
+        }
+        Collections.sort(keys);
+        List<Task> column = new ArrayList<>(keys.size());
+        for (OrderKey key : keys) {
+            Task task = partition.tasks.get(key.id());
+            if (task != null) {
+                column.add(copyOf(task));
+            }
+        }
+        return column;
+    }
+
+    @Override
+    public long countByDeletedFalseAndStatusIn(Collection<Task.Status> statuses) {
+        Partition partition = partition();
+        long count = 0;
+        for (Task.Status status : statuses) {
+            count += partition.columnSizes.get(status.ordinal());
+        }
+        return count;
+    }
+
+    @Override
+    public Optional<Task> findTopByDeletedFalseAndStatusOrderByBoardOrderDesc(Task.Status status) {
+        Partition partition = partition();
+        for (OrderKey key : partition.columns.get(status).descendingSet()) {
+            Task task = partition.tasks.get(key.id());
+            if (task != null) {
+                return Optional.of(copyOf(task));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the latest tail; the store has no snapshots, so no locking is needed.
+     */
+    @Override
+    public Optional<Long> findColumnTailForUpdate(Collection<Task.Status> statuses) {
+        Partition partition = partition();
+        Optional<Long> tail = Optional.empty();
+        for (Task.Status status : statuses) {
+            for (OrderKey key : partition.columns.get(status).descendingSet()) {
+                if (key.boardOrder() != Long.MIN_VALUE && partition.tasks.containsKey(key.id())) {
+                    if (tail.isEmpty() || key.boardOrder() > tail.get()) {
+                        tail = Optional.of(key.boardOrder());
+                    }
+                    break;
+                }
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Writes one task; callers hold the write lock.
+     */
+    private void store(Partition partition, Task task) {
+        if (task.getId() == null) {
+            task.prePersist();
+            task.setId(lastId.incrementAndGet());
+        } else {
+            lastId.accumulateAndGet(task.getId(), Math::max);
+        }
+        if (task.getWorkspaceId() == null) {
+            task.setWorkspaceId(partition.workspaceId);
+        }
+        Task stored = copyOf(task);
+        Task previous = partition.tasks.put(stored.getId(), stored);
+        if (previous != null) {
+            partition.unindex(previous);
+        }
+        partition.index(stored);
+        rememberForRollback(partition, stored.getId(), previous);
+    }
+
+    private Page<Task> sortedPage(Partition partition, Pageable pageable, boolean deleted, long total) {
+        Comparator<Task> comparator = comparator(pageable.getSort());
+        List<Task> matching = new ArrayList<>();
+        for (Task task : partition.tasks.values()) {
+            if (task.isDeleted() == deleted) {
+                matching.add(task);
+            }
+        }
+        matching.sort(comparator);
+        return page(partition, pageable, matching.stream().map(Task::getId).iterator(), Function.identity(), total);
+    }
+
+    private <K> Page<Task> page(Partition partition, Pageable pageable, Iterator<K> keys, Function<K, Long> toId,
+            long total) {
+        long skip = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        List<Task> content = new ArrayList<>(Math.min(limit, 64));
+        while (keys.hasNext() && content.size() < limit) {
+            Task task = partition.tasks.get(toId.apply(keys.next()));
+            if (task == null) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            content.add(copyOf(task));
+        }
+        return new PageImpl<>(content, pageable, Math.max(total, content.size()));
+    }
+
+    /**
+     * Orders like MySQL and H2: NULLs first ascending and last descending, ties by ID.
+     */
+    private static Comparator<Task> comparator(Sort sort) {
+        Comparator<Task> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Task> next = Comparator.comparing(sortKey(order.getProperty()),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<Task> byId = Comparator.comparing(Task::getId);
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    /**
+     * Enum columns are stored as strings, so they sort by name.
+     */
+    private static Function<Task, Comparable<Object>> sortKey(String property) {
+        Function<Task, ? extends Comparable<?>> key = switch (property) {
+            case "id" -> Task::getId;
+            case "title" -> Task::getTitle;
+            case "dateCreated" -> Task::getDateCreated;
+            case "deadline" -> Task::getDeadline;
+            case "boardOrder" -> Task::getBoardOrder;
+            case "priority" -> task -> task.getPriority() == null ? null : task.getPriority().name();
+            case "status" -> task -> task.getStatus() == null ? null : task.getStatus().name();
+            default -> throw new IllegalArgumentException("Unsupported sort property: " + property);
+        };
+        @SuppressWarnings("unchecked")
+        Function<Task, Comparable<Object>> comparable = (Function<Task, Comparable<Object>>) key;
+        return comparable;
+    }
+
+    private Partition partition() {
+        return partitions.computeIfAbsent(WorkspaceContext.current(), Partition::new);
+    }
+
+    private void rememberForRollback(Partition partition, Long id, Task previous) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        UndoLog undo = (UndoLog) TransactionSynchronizationManager.getResource(this);
+        if (undo == null) {
+            undo = new UndoLog();
+            TransactionSynchronizationManager.bindResource(this, undo);
+            TransactionSynchronizationManager.registerSynchronization(undo);
+        }
+        undo.previousVersions.putIfAbsent(new UndoKey(partition, id), Optional.ofNullable(previous));
+    }
+
+    static Task copyOf(Task task) {
+        return Task.builder()
+                .id(task.getId())
+                .workspaceId(task.getWorkspaceId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .dateCreated(task.getDateCreated())
+                .priority(task.getPriority())
+                .deadline(task.getDeadline())
+                .status(task.getStatus())
+                .boardOrder(task.getBoardOrder())
+                .recurrenceType(task.getRecurrenceType())
+                .recurrenceInterval(task.getRecurrenceInterval())
+                .recurrenceEndAt(task.getRecurrenceEndAt())
+                .recurrenceGroupId(task.getRecurrenceGroupId())
+                .deleted(task.isDeleted())
+                .build();
+    }
+
+    /**
+     * Versions replaced by one transaction, restored in reverse if it rolls back.
+     */
+    private final class UndoLog implements TransactionSynchronization {
+
+        private final Map<UndoKey, Optional<Task>> previousVersions = new LinkedHashMap<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryTaskStore.this);
+            if (status != STATUS_ROLLED_BACK) {
+                return;
+            }
+            List<Map.Entry<UndoKey, Optional<Task>>> entries = new ArrayList<>(previousVersions.entrySet());
+            writeLock.lock();
+            try {
+                for (int i = entries.size() - 1; i >= 0; i--) {
+                    Partition partition = entries.get(i).getKey().partition();
+                    Long id = entries.get(i).getKey().id();
+                    Task current = partition.tasks.remove(id);
+                    if (current != null) {
+                        partition.unindex(current);
+                    }
+                    entries.get(i).getValue().ifPresent(previous -> {
+                        partition.tasks.put(id, previous);
+                        partition.index(previous);
+                    });
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private record UndoKey(Partition partition, Long id) {
+    }
+
+    /**
+     * Position in a board column; tasks without a board order sort first, as NULLs do in SQL.
+     */
+    private record OrderKey(long boardOrder, long id) implements Comparable<OrderKey> {
+
+        static OrderKey of(Task task) {
+            return new OrderKey(task.getBoardOrder() == null ? Long.MIN_VALUE : task.getBoardOrder(), task.getId());
+        }
+
+        @Override
+        public int compareTo(OrderKey other) {
+            int byOrder = Long.compare(boardOrder, other.boardOrder);
+            return byOrder != 0 ? byOrder : Long.compare(id, other.id);
+        }
+    }
+
+    private record TimeKey(LocalDateTime time, long id) implements Comparable<TimeKey> {
+
+        @Override
+        public int compareTo(TimeKey other) {
+            int byTime = NULLS_FIRST.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(id, other.id);
+        }
+    }
+
+    /**
+     * One workspace's tasks and indexes. Index mutation happens under the store's write lock.
+     */
+    private static final class Partition {
+
+        private final String workspaceId;
+        private final Map<Long, Task> tasks = new ConcurrentHashMap<>();
+        private final Map<Task.Status, NavigableSet<OrderKey>> columns = new EnumMap<>(Task.Status.class);
+        private final AtomicIntegerArray columnSizes = new AtomicIntegerArray(Task.Status.values().length);
+        private final NavigableSet<TimeKey> byDeadline = new ConcurrentSkipListSet<>();
+        private final NavigableSet<TimeKey> byDateCreated = new ConcurrentSkipListSet<>();
+        private final NavigableSet<Long> deletedIds = new ConcurrentSkipListSet<>();
+        private volatile int activeCount;
+
+        Partition(String workspaceId) {
+            this.workspaceId = workspaceId;
+            for (Task.Status status : Task.Status.values()) {
+                columns.put(status, new ConcurrentSkipListSet<>());
+            }
+        }
+
+        void index(Task task) {
+            if (task.isDeleted()) {
+                deletedIds.add(task.getId());
+                return;
+            }
+            if (task.getStatus() != null) {
+                columns.get(task.getStatus()).add(OrderKey.of(task));
+                columnSizes.incrementAndGet(task.getStatus().ordinal());
+            }
+            byDeadline.add(new TimeKey(task.getDeadline(), task.getId()));
+            byDateCreated.add(new TimeKey(task.getDateCreated(), task.getId()));
+            activeCount++;
+        }
+
+        void unindex(Task task) {
+            if (task.isDeleted()) {
+                deletedIds.remove(task.getId());
+                return;
+            }
+            if (task.getStatus() != null) {
+                columns.get(task.getStatus()).remove(OrderKey.of(task));
+                columnSizes.decrementAndGet(task.getStatus().ordinal());
+            }
+            byDeadline.remove(new TimeKey(task.getDeadline(), task.getId()));
+            byDateCreated.remove(new TimeKey(task.getDateCreated(), task.getId()));
+            activeCount--;
+        }
+    }
+}
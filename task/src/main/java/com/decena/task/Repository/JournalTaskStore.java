@@ -0,0 +1,259 @@
+package com.decena.task.Repository;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Entity.Task;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Durable task storage without a database server (app.storage.engine=journal), for
+ * single-node edge installs.
+ * <p>
+ * Queries are answered by an {@link InMemoryTaskStore}; every change is also appended to a
+ * {@link TaskJournal}. Inside a transaction the tasks a request saved are journaled once, with
+ * their final state, after commit and before the response is written; the request then waits
+ * for the group-commit fsync. Rolled-back changes never reach the journal. On startup the
+ * latest snapshot and the log after it are replayed, and a background thread compacts the log
+ * once app.storage.journal.compact-after-mb has been appended since the last snapshot.
+ */
+@Slf4j
+@Component
+@Primary
+@ConditionalOnProperty(name = "app.storage.engine", havingValue = "journal")
+public class JournalTaskStore implements TaskStore {
+
+    private final InMemoryTaskStore memory = new InMemoryTaskStore();
+    private final TaskJournal journal;
+    private final ReentrantLock journalLock = new ReentrantLock();
+    private final long compactAfterBytes;
+    private final long compactCheckMillis;
+    private final AtomicLong recoveredRecords = new AtomicLong();
+    private ScheduledExecutorService compactor;
+
+    public JournalTaskStore(
+            @Value("${app.storage.journal.dir:data/journal}") Path directory,
+            @Value("${app.storage.journal.segment-mb:64}") int segmentMegabytes,
+            @Value("${app.storage.journal.fsync:true}") boolean fsync,
+            @Value("${app.storage.journal.compact-after-mb:16}") long compactAfterMegabytes,
+            @Value("${app.storage.journal.compact-check-ms:10000}") long compactCheckMillis) {
+        long started = System.nanoTime();
+        this.journal = TaskJournal.open(directory, segmentMegabytes << 20, fsync, task -> {
+            WorkspaceContext.runAs(task.getWorkspaceId(), () -> memory.save(task));
+            recoveredRecords.incrementAndGet();
+        });
+        this.compactAfterBytes = compactAfterMegabytes << 20;
+        this.compactCheckMillis = compactCheckMillis;
+        log.info("Task journal {} replayed {} records in {} ms", directory, recoveredRecords.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @PostConstruct
+    void start() {
+        compactor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "task-journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(this::compactIfNeeded, compactCheckMillis, compactCheckMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        compactor.shutdown();
+        compactor.awaitTermination(30, TimeUnit.SECONDS);
+        journal.close();
+    }
+
+    /**
+     * Compacts the journal now, whatever its size.
+     *
+     * @return number of tasks in the new snapshot, or -1 if nothing changed since the last one
+     */
+    public int compact() {
+        return journal.compact();
+    }
+
+    @Override
+    public <S extends Task> S save(S task) {
+        memory.save(task);
+        journal(List.of(task));
+        return task;
+    }
+
+    @Override
+    public <S extends Task> List<S> saveAll(Iterable<S> tasks) {
+        List<S> saved = memory.saveAll(tasks);
+        journal(saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        return memory.findById(id);
+    }
+
+    @Override
+    public List<Task> findAllById(Iterable<Long> ids) {
+        return memory.findAllById(ids);
+    }
+
+    @Override
+    public Optional<Task> findByIdAndDeletedFalse(Long id) {
+        return memory.findByIdAndDeletedFalse(id);
+    }
+
+    @Override
+    public List<Task> findByIdInAndDeletedFalse(List<Long> ids) {
+        return memory.findByIdInAndDeletedFalse(ids);
+    }
+
+    @Override
+    public List<Task> findByDeletedFalseAndRecurrenceGroupIdOrderByIdAsc(String recurrenceGroupId) {
+        return memory.findByDeletedFalseAndRecurrenceGroupIdOrderByIdAsc(recurrenceGroupId);
+    }
+
+    @Override
+    public List<Task> findByDeletedFalseAndIdGreaterThanOrderByIdAsc(Long id, Limit limit) {
+        return memory.findByDeletedFalseAndIdGreaterThanOrderByIdAsc(id, limit);
+    }
+
+    @Override
+    public long countByDeletedFalse() {
+        return memory.countByDeletedFalse();
+    }
+
+    @Override
+    public Page<Task> findByDeletedFalse(Pageable pageable) {
+        return memory.findByDeletedFalse(pageable);
+    }
+
+    @Override
+    public Page<Task> findAllByDeletedTrue(Pageable pageable) {
+        return memory.findAllByDeletedTrue(pageable);
+    }
+
+    @Override
+    public List<Task> findByDeletedFalseAndStatusOrderByBoardOrderAscIdAsc(Task.Status status) {
+        return memory.findByDeletedFalseAndStatusOrderByBoardOrderAscIdAsc(status);
+    }
+
+    @Override
+    public List<Task> findByDeletedFalseAndStatusInOrderByBoardOrderAscIdAsc(Collection<Task.Status> statuses) {
+        return memory.findByDeletedFalseAndStatusInOrderByBoardOrderAscIdAsc(statuses);
+    }
+
+    @Override
+    public long countByDeletedFalseAndStatusIn(Collection<Task.Status> statuses) {
+        return memory.countByDeletedFalseAndStatusIn(statuses);
+    }
+
+    @Override
+    public Optional<Task> findTopByDeletedFalseAndStatusOrderByBoardOrderDesc(Task.Status status) {
+        return memory.findTopByDeletedFalseAndStatusOrderByBoardOrderDesc(status);
+    }
+
+    @Override
+    public Optional<Long> findColumnTailForUpdate(Collection<Task.Status> statuses) {
+        return memory.findColumnTailForUpdate(statuses);
+    }
+
+    /**
+     * Journals saved tasks now, or after commit when a transaction is active.
+     */
+    private void journal(List<? extends Task> saved) {
+        List<TaskKey> keys = new ArrayList<>(saved.size());
+        for (Task task : saved) {
+            keys.add(new TaskKey(task.getWorkspaceId(), task.getId()));
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(keys);
+            return;
+        }
+        PendingWrites pending = (PendingWrites) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingWrites();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.keys.addAll(keys);
+    }
+
+    /**
+     * Appends the current state of the tasks and waits until it is durable. Reading the state
+     * and appending happen under one lock, so the log orders versions of a task as memory did.
+     */
+    private void write(Collection<TaskKey> keys) {
+        long sequence;
+        journalLock.lock();
+        try {
+            List<Task> states = new ArrayList<>(keys.size());
+            for (TaskKey key : keys) {
+                WorkspaceContext.callAs(key.workspaceId(), () -> memory.findById(key.id())).ifPresent(states::add);
+            }
+            if (states.isEmpty()) {
+                return;
+            }
+            sequence = journal.append(states);
+        } finally {
+            journalLock.unlock();
+        }
+        journal.sync(sequence);
+    }
+
+    private void compactIfNeeded() {
+        try {
+            if (journal.bytesSinceSnapshot() >= compactAfterBytes) {
+                journal.compact();
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Task journal compaction failed; retrying later", ex);
+        }
+    }
+
+    private record TaskKey(String workspaceId, Long id) {
+    }
+
+    /**
+     * Tasks saved by one transaction, journaled after it commits.
+     */
+    private final class PendingWrites implements TransactionSynchronization {
+
+        private final Set<TaskKey> keys = new LinkedHashSet<>();
+
+        @Override
+        public void afterCommit() {
+            write(keys);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(JournalTaskStore.this);
+        }
+    }
+}
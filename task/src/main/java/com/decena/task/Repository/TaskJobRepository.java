@@ -0,0 +1,105 @@
+package com.decena.task.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.decena.task.Entity.TaskJob;
+
+/**
+ * Job rows of the current workspace's database. Updates made while a job runs only apply
+ * while the given instance still owns the running job and no cancel was requested, so a
+ * stopped or cancelled job never records progress.
+ */
+@Repository
+public interface TaskJobRepository extends JpaRepository<TaskJob, String> {
+
+    Optional<TaskJob> findByIdAndWorkspaceId(String id, String workspaceId);
+
+    /**
+     * Fetch the most recent jobs of one workspace.
+     *
+     * @param workspaceId workspace ID
+     * @return up to 50 jobs, newest first
+     */
+    List<TaskJob> findTop50ByWorkspaceIdOrderByCreatedAtDesc(String workspaceId);
+
+    long countByState(TaskJob.State state);
+
+    /**
+     * Record progress of a running job.
+     *
+     * @return 0 when the job was cancelled or is no longer owned by the instance
+     */
+    @Modifying
+    @Transactional
+    @Query("update TaskJob j set j.processedItems = :processed, j.failedItems = :failed, j.updatedAt = :now "
+            + "where j.id = :id and j.owner = :owner and j.state = :running and j.cancelRequested = false")
+    int advance(@Param("id") String id, @Param("owner") String owner, @Param("processed") int processed,
+            @Param("failed") int failed, @Param("now") LocalDateTime now, @Param("running") TaskJob.State running);
+
+    /**
+     * Fix the items a running job works through.
+     *
+     * @return 0 when the job was cancelled or is no longer owned by the instance
+     */
+    @Modifying
+    @Transactional
+    @Query("update TaskJob j set j.items = :items, j.totalItems = :total, j.updatedAt = :now "
+            + "where j.id = :id and j.owner = :owner and j.state = :running and j.cancelRequested = false")
+    int plan(@Param("id") String id, @Param("owner") String owner, @Param("items") String items,
+            @Param("total") int total, @Param("now") LocalDateTime now, @Param("running") TaskJob.State running);
+
+    /**
+     * Record how many items a running job expects when that was not known on submission.
+     *
+     * @return 0 when the job was cancelled or is no longer owned by the instance
+     */
+    @Modifying
+    @Transactional
+    @Query("update TaskJob j set j.totalItems = :total, j.updatedAt = :now "
+            + "where j.id = :id and j.owner = :owner and j.state = :running and j.cancelRequested = false")
+    int recordTotal(@Param("id") String id, @Param("owner") String owner, @Param("total") int total,
+            @Param("now") LocalDateTime now, @Param("running") TaskJob.State running);
+
+    /**
+     * Move a running job to its final state.
+     *
+     * @return 0 when the job is no longer owned by the instance
+     */
+    @Modifying
+    @Transactional
+    @Query("update TaskJob j set j.state = :state, j.error = :error, j.finishedAt = :now, j.updatedAt = :now "
+            + "where j.id = :id and j.owner = :owner and j.state = :running")
+    int finish(@Param("id") String id, @Param("owner") String owner, @Param("state") TaskJob.State state,
+            @Param("error") String error, @Param("now") LocalDateTime now, @Param("running") TaskJob.State running);
+
+    /**
+     * Ask an unfinished job to stop.
+     *
+     * @return 0 when the job has already finished
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update TaskJob j set j.cancelRequested = true where j.id = :id and j.state in :unfinished")
+    int requestCancel(@Param("id") String id, @Param("unfinished") List<TaskJob.State> unfinished);
+
+    /**
+     * Cancel a job nobody has started yet.
+     *
+     * @return 0 when the job is not queued
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update TaskJob j set j.state = :cancelled, j.finishedAt = :now, j.updatedAt = :now "
+            + "where j.id = :id and j.state = :queued")
+    int cancelQueued(@Param("id") String id, @Param("now") LocalDateTime now,
+            @Param("queued") TaskJob.State queued, @Param("cancelled") TaskJob.State cancelled);
+}
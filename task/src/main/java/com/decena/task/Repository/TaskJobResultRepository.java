@@ -0,0 +1,32 @@
+package com.decena.task.Repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.decena.task.Entity.TaskJobResult;
+
+@Repository
+public interface TaskJobResultRepository extends JpaRepository<TaskJobResult, TaskJobResult.Key> {
+
+    /**
+     * Fetch the last stored part of an export.
+     *
+     * @param jobId job ID
+     * @return part with the highest number, if any
+     */
+    Optional<TaskJobResult> findTopByJobIdOrderByPartDesc(String jobId);
+
+    /**
+     * Read the content of one part without loading it into the persistence context.
+     *
+     * @param jobId job ID
+     * @param part part number
+     * @return JSON array of the part's tasks, if the part exists
+     */
+    @Query("select r.content from TaskJobResult r where r.jobId = :jobId and r.part = :part")
+    Optional<String> findContent(@Param("jobId") String jobId, @Param("part") int part);
+}
@@ -0,0 +1,547 @@
+package com.decena.task.Repository;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import com.decena.task.Entity.Task;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only task journal in one directory: memory-mapped log segments plus snapshots.
+ * <p>
+ * Every record holds the full state of one task after a change, so replay is a sequence of
+ * upserts and the last record of a task wins. A record is
+ * {@code [payload length:int][CRC32C of sequence and payload:int][sequence:long][payload]};
+ * segments are preallocated with zeros, so a zero length marks the end. A record with a bad
+ * length or checksum ends its segment: it is a torn write that was never acknowledged, and
+ * after recovery appends always go to a fresh segment. A gap in the sequence numbers means
+ * acknowledged records were lost, and recovery fails.
+ * <p>
+ * {@link #append} only copies into the mapped segment. {@link #sync} makes records durable
+ * with group commit: the first waiting thread forces the segment for everything appended so
+ * far while the others wait for it, so one msync covers all concurrent writers.
+ * <p>
+ * {@link #compact} folds the previous snapshot and every finished segment into a new
+ * snapshot named after the first segment it does not cover, then deletes what it replaced.
+ * It runs beside appends; only switching to a new segment takes the append lock.
+ */
+@Slf4j
+public class TaskJournal implements AutoCloseable {
+
+    private static final int HEADER_BYTES = 16;
+    private static final int SNAPSHOT_MAGIC = 0x544A534E;
+    private static final byte FORMAT_VERSION = 1;
+    private static final Pattern SEGMENT = Pattern.compile("(\\d{20})\\.log");
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d{20})\\.snap");
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean fsync;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition flushed = flushLock.newCondition();
+    private final ReentrantLock compactLock = new ReentrantLock();
+
+    private FileChannel activeChannel;
+    private MappedByteBuffer active;
+    private long activeSegment;
+    private long lastSequence;
+    private long bytesSinceSnapshot;
+    private volatile long durableSequence;
+    private boolean flushing;
+
+    private TaskJournal(Path directory, int segmentBytes, boolean fsync) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Opens a journal directory, replays the latest snapshot and the segments after it, and
+     * starts a new segment for appends.
+     *
+     * @param directory journal directory; created if missing
+     * @param segmentBytes size of each preallocated segment
+     * @param fsync whether {@link #sync} forces records to disk
+     * @param recovered receives every recovered task in log order
+     * @return the open journal
+     * @throws UncheckedIOException if the directory cannot be read or written
+     * @throws IllegalStateException if a snapshot or finished segment is corrupt
+     */
+    public static TaskJournal open(Path directory, int segmentBytes, boolean fsync, Consumer<Task> recovered) {
+        if (segmentBytes < 4096) {
+            throw new IllegalArgumentException("Journal segments must be at least 4096 bytes");
+        }
+        TaskJournal journal = new TaskJournal(directory, segmentBytes, fsync);
+        try {
+            Files.createDirectories(directory);
+            journal.recover(recovered);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open task journal in " + directory, ex);
+        }
+        return journal;
+    }
+
+    /**
+     * Appends the state of each task as one record, in order.
+     *
+     * @param tasks tasks to record; each must have an ID and workspace
+     * @return sequence number of the last record, to pass to {@link #sync}
+     */
+    public long append(Collection<Task> tasks) {
+        List<byte[]> payloads = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            payloads.add(encode(task));
+        }
+        appendLock.lock();
+        try {
+            for (byte[] payload : payloads) {
+                int length = HEADER_BYTES + payload.length;
+                if (length > segmentBytes) {
+                    throw new IllegalArgumentException("Task record exceeds the journal segment size");
+                }
+                if (active.remaining() < length) {
+                    rollOver();
+                }
+                long sequence = lastSequence + 1;
+                int position = active.position();
+                active.putInt(position + 4, checksum(sequence, payload));
+                active.putLong(position + 8, sequence);
+                active.put(position + HEADER_BYTES, payload);
+                // The length goes in last: a reader never sees a length without its record.
+                active.putInt(position, payload.length);
+                active.position(position + length);
+                lastSequence = sequence;
+                bytesSinceSnapshot += length;
+            }
+            return lastSequence;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot append to task journal", ex);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until every record up to the given sequence number is on disk. Concurrent callers
+     * share one force of the segment.
+     *
+     * @param sequence sequence number returned by {@link #append}
+     */
+    public void sync(long sequence) {
+        if (!fsync) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (flushing) {
+                    flushed.awaitUninterruptibly();
+                    continue;
+                }
+                flushing = true;
+                flushLock.unlock();
+                long target = 0;
+                try {
+                    target = force();
+                } finally {
+                    flushLock.lock();
+                    flushing = false;
+                    durableSequence = Math.max(durableSequence, target);
+                    flushed.signalAll();
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Bytes appended since the last snapshot.
+     */
+    public long bytesSinceSnapshot() {
+        appendLock.lock();
+        try {
+            return bytesSinceSnapshot;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a snapshot covering everything appended so far and removes the segments and
+     * snapshot it replaces. Appends continue in a new segment meanwhile.
+     *
+     * @return number of tasks in the new snapshot, or -1 if nothing was appended since the last one
+     */
+    public int compact() {
+        compactLock.lock();
+        try {
+            long cutoff;
+            appendLock.lock();
+            try {
+                if (bytesSinceSnapshot == 0) {
+                    return -1;
+                }
+                rollOver();
+                cutoff = activeSegment;
+                bytesSinceSnapshot = 0;
+            } finally {
+                appendLock.unlock();
+            }
+            Map<String, byte[]> latest = new LinkedHashMap<>();
+            Consumer<byte[]> fold = payload -> latest.put(key(payload), payload);
+            Cursor cursor = new Cursor();
+            Optional<Long> previous = latestSnapshot();
+            if (previous.isPresent()) {
+                readSnapshot(snapshotPath(previous.get()), fold, cursor);
+            }
+            for (Path segment : segments().headMap(cutoff).values()) {
+                replaySegment(segment, fold, cursor);
+            }
+            writeSnapshot(cutoff, cursor.sequence, latest.values());
+            previous.ifPresent(snapshot -> deleteQuietly(snapshotPath(snapshot)));
+            for (long segment : segments().headMap(cutoff).keySet()) {
+                deleteQuietly(segmentPath(segment));
+            }
+            log.info("Task journal snapshot {} written with {} tasks", cutoff, latest.size());
+            return latest.size();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Task journal compaction failed", ex);
+        } finally {
+            compactLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (active != null) {
+                active.force();
+                activeChannel.close();
+                active = null;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot close task journal", ex);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void recover(Consumer<Task> recovered) throws IOException {
+        Consumer<byte[]> replay = payload -> recovered.accept(decode(payload));
+        Cursor cursor = new Cursor();
+        Optional<Long> snapshot = latestSnapshot();
+        long firstSegment = snapshot.orElse(0L);
+        if (snapshot.isPresent()) {
+            readSnapshot(snapshotPath(snapshot.get()), replay, cursor);
+        }
+        TreeMap<Long, Path> segments = segments();
+        for (Map.Entry<Long, Path> segment : segments.entrySet()) {
+            if (segment.getKey() < firstSegment) {
+                // Left behind by a compaction that stopped after writing its snapshot.
+                deleteQuietly(segment.getValue());
+                continue;
+            }
+            replaySegment(segment.getValue(), replay, cursor);
+        }
+        lastSequence = cursor.sequence;
+        durableSequence = lastSequence;
+        activeSegment = Math.max(firstSegment, segments.isEmpty() ? 0 : segments.lastKey());
+        openSegment(activeSegment + 1);
+        log.info("Task journal recovered {} records (last sequence {})", cursor.records, lastSequence);
+    }
+
+    /**
+     * Replays one segment up to its end marker or a torn record. A torn record ends the
+     * segment: it was being written when the process stopped and recovery continued in a new
+     * segment. A valid record out of sequence means records were lost, which is fatal.
+     */
+    private void replaySegment(Path path, Consumer<byte[]> payloads, Cursor cursor) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (buffer.remaining() >= HEADER_BYTES) {
+                int position = buffer.position();
+                int length = buffer.getInt(position);
+                if (length == 0) {
+                    return;
+                }
+                if (length < 0 || length > buffer.remaining() - HEADER_BYTES) {
+                    log.warn("Task journal segment {} ends with a torn record at offset {}", path, position);
+                    return;
+                }
+                long sequence = buffer.getLong(position + 8);
+                byte[] payload = new byte[length];
+                buffer.get(position + HEADER_BYTES, payload);
+                if (buffer.getInt(position + 4) != checksum(sequence, payload)) {
+                    log.warn("Task journal segment {} ends with a torn record at offset {}", path, position);
+                    return;
+                }
+                if (sequence != cursor.sequence + 1) {
+                    throw new IllegalStateException("Task journal records " + (cursor.sequence + 1) + " to "
+                            + (sequence - 1) + " are missing before " + path + " offset " + position);
+                }
+                payloads.accept(payload);
+                cursor.sequence = sequence;
+                cursor.records++;
+                buffer.position(position + HEADER_BYTES + length);
+            }
+        }
+    }
+
+    private void readSnapshot(Path path, Consumer<byte[]> payloads, Cursor cursor) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IllegalStateException("Not a task journal snapshot: " + path);
+            }
+            long sequence = in.readLong();
+            int count = in.readInt();
+            CRC32C crc = new CRC32C();
+            for (int i = 0; i < count; i++) {
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                crc.update(payload);
+                payloads.accept(payload);
+            }
+            if (in.readInt() != (int) crc.getValue()) {
+                throw new IllegalStateException("Corrupt task journal snapshot " + path);
+            }
+            cursor.sequence = sequence;
+            cursor.records += count;
+        }
+    }
+
+    private void writeSnapshot(long cutoff, long sequence, Collection<byte[]> payloads) throws IOException {
+        Path temporary = directory.resolve("snapshot.tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                        Channels.newOutputStream(channel), 1 << 16))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(sequence);
+            out.writeInt(payloads.size());
+            CRC32C crc = new CRC32C();
+            for (byte[] payload : payloads) {
+                out.writeInt(payload.length);
+                out.write(payload);
+                crc.update(payload);
+            }
+            out.writeInt((int) crc.getValue());
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, snapshotPath(cutoff), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Finishes the active segment and starts the next one; callers hold the append lock.
+     */
+    private void rollOver() throws IOException {
+        active.force();
+        activeChannel.close();
+        openSegment(activeSegment + 1);
+    }
+
+    private void openSegment(long segment) throws IOException {
+        activeChannel = FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        active = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        activeSegment = segment;
+    }
+
+    /**
+     * Forces the active segment; earlier segments were forced when they were finished.
+     *
+     * @return sequence number now durable
+     */
+    private long force() {
+        MappedByteBuffer segment;
+        long target;
+        appendLock.lock();
+        try {
+            segment = active;
+            target = lastSequence;
+        } finally {
+            appendLock.unlock();
+        }
+        segment.force();
+        return target;
+    }
+
+    private Optional<Long> latestSnapshot() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> SNAPSHOT.matcher(path.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .max(Long::compare);
+        }
+    }
+
+    private TreeMap<Long, Path> segments() throws IOException {
+        TreeMap<Long, Path> segments = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                Matcher matcher = SEGMENT.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.put(Long.parseLong(matcher.group(1)), path);
+                }
+            });
+        }
+        return segments;
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%020d.log", segment));
+    }
+
+    private Path snapshotPath(long segment) {
+        return directory.resolve(String.format("snapshot-%020d.snap", segment));
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("Cannot delete {}: {}", path, ex.getMessage());
+        }
+    }
+
+    private static int checksum(long sequence, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, sequence));
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Identity of the task a payload describes: workspace and ID.
+     */
+    private static String key(byte[] payload) {
+        Task task = decode(payload);
+        return task.getWorkspaceId() + '/' + task.getId();
+    }
+
+    static byte[] encode(Task task) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(task.getWorkspaceId());
+            out.writeLong(task.getId());
+            writeString(out, task.getTitle());
+            writeString(out, task.getDescription());
+            writeTime(out, task.getDateCreated());
+            writeString(out, task.getPriority() == null ? null : task.getPriority().name());
+            writeTime(out, task.getDeadline());
+            writeString(out, task.getStatus() == null ? null : task.getStatus().name());
+            out.writeBoolean(task.getBoardOrder() != null);
+            if (task.getBoardOrder() != null) {
+                out.writeLong(task.getBoardOrder());
+            }
+            writeString(out, task.getRecurrenceType() == null ? null : task.getRecurrenceType().name());
+            out.writeBoolean(task.getRecurrenceInterval() != null);
+            if (task.getRecurrenceInterval() != null) {
+                out.writeInt(task.getRecurrenceInterval());
+            }
+            writeTime(out, task.getRecurrenceEndAt());
+            writeString(out, task.getRecurrenceGroupId());
+            out.writeBoolean(task.isDeleted());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Task decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported task journal record version " + version);
+            }
+            Task task = new Task();
+            task.setWorkspaceId(in.readUTF());
+            task.setId(in.readLong());
+            task.setTitle(readString(in));
+            task.setDescription(readString(in));
+            task.setDateCreated(readTime(in));
+            String priority = readString(in);
+            task.setPriority(priority == null ? null : Task.Priority.valueOf(priority));
+            task.setDeadline(readTime(in));
+            String status = readString(in);
+            task.setStatus(status == null ? null : Task.Status.valueOf(status));
+            task.setBoardOrder(in.readBoolean() ? in.readLong() : null);
+            String recurrenceType = readString(in);
+            task.setRecurrenceType(recurrenceType == null ? null : Task.RecurrenceType.valueOf(recurrenceType));
+            task.setRecurrenceInterval(in.readBoolean() ? in.readInt() : null);
+            task.setRecurrenceEndAt(readTime(in));
+            task.setRecurrenceGroupId(readString(in));
+            task.setDeleted(in.readBoolean());
+            return task;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        return in.readBoolean() ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC) : null;
+    }
+
+    /**
+     * Position reached while replaying: last sequence number and records seen.
+     */
+    private static final class Cursor {
+
+        private long sequence;
+        private long records;
+    }
+}
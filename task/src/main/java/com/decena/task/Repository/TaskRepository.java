@@ -1,17 +1,43 @@
 package com.decena.task.Repository;
 
 import java.util.Optional;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.decena.task.Entity.Task;
 
+import jakarta.persistence.LockModeType;
+
+/**
+ * Spring Data JPA repository for tasks, and the default {@link TaskStore} engine.
+ */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskStore {
+
+    // Redeclared so calls on TaskRepository resolve to one method rather than the
+    // CrudRepository and TaskStore variants.
+
+    @Override
+    <S extends Task> S save(S task);
+
+    @Override
+    <S extends Task> List<S> saveAll(Iterable<S> tasks);
+
+    @Override
+    Optional<Task> findById(Long id);
+
+    @Override
+    List<Task> findAllById(Iterable<Long> ids);
 
     /**
      * Fetch all non-deleted tasks with pagination.
@@ -26,6 +52,22 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     List<Task> findByDeletedFalseAndStatusOrderByBoardOrderAscIdAsc(Task.Status status);
 
+    /**
+     * Fetch all active tasks in any of the given statuses, sorted by board order.
+     *
+     * @param statuses target task statuses
+     * @return ordered list of active tasks
+     */
+    List<Task> findByDeletedFalseAndStatusInOrderByBoardOrderAscIdAsc(Collection<Task.Status> statuses);
+
+    /**
+     * Count active tasks in any of the given statuses.
+     *
+     * @param statuses target task statuses
+     * @return number of active tasks
+     */
+    long countByDeletedFalseAndStatusIn(Collection<Task.Status> statuses);
+
     /**
      * Fetch active tasks by IDs.
      *
@@ -34,6 +76,14 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     List<Task> findByIdInAndDeletedFalse(List<Long> ids);
 
+    /**
+     * Fetch the active tasks of one recurring series.
+     *
+     * @param recurrenceGroupId series ID
+     * @return active tasks of the series in ID order
+     */
+    List<Task> findByDeletedFalseAndRecurrenceGroupIdOrderByIdAsc(String recurrenceGroupId);
+
     /**
      * Find the largest board order in one active column.
      *
@@ -42,6 +92,25 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     Optional<Task> findTopByDeletedFalseAndStatusOrderByBoardOrderDesc(Task.Status status);
 
+    @Override
+    default Optional<Long> findColumnTailForUpdate(Collection<Task.Status> statuses) {
+        return findBoardOrdersForUpdate(statuses, Limit.of(1)).stream().findFirst();
+    }
+
+    /**
+     * Fetch board orders of one active column, largest first, locking the rows read.
+     * Selects the value rather than the entity so a stale copy already in the persistence
+     * context cannot be returned.
+     *
+     * @param statuses stored statuses of the column
+     * @param limit maximum number of orders
+     * @return board orders, descending
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.boardOrder from Task t where t.deleted = false and t.status in :statuses "
+            + "and t.boardOrder is not null order by t.boardOrder desc")
+    List<Long> findBoardOrdersForUpdate(@Param("statuses") Collection<Task.Status> statuses, Limit limit);
+
 
     /**
      * Fetch a non-deleted task by ID.
@@ -57,4 +126,30 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     Page<Task> findByDeletedTrue(Pageable pageable);
 
+    /**
+     * Fetch the next keyset page of task IDs, including deleted rows.
+     *
+     * @param afterId exclusive lower bound
+     * @param limit maximum number of IDs
+     * @return ascending task IDs
+     */
+    @Query(value = "select id from tasks where id > :afterId order by id limit :limit", nativeQuery = true)
+    List<Long> findIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Rewrites legacy status and unknown recurrence values inside one ID range.
+     *
+     * @param fromId exclusive lower bound
+     * @param toId inclusive upper bound
+     * @return number of rewritten rows
+     */
+    @Modifying
+    @Query(value = "update tasks set "
+            + "status = case status when 'PENDING' then 'TODO' when 'COMPLETED' then 'DONE' else status end, "
+            + "recurrence_type = case when recurrence_type in ('NONE','DAILY','WEEKLY','MONTHLY') then recurrence_type else 'NONE' end "
+            + "where id > :fromId and id <= :toId "
+            + "and (status in ('PENDING','COMPLETED') or recurrence_type is null "
+            + "or recurrence_type not in ('NONE','DAILY','WEEKLY','MONTHLY'))", nativeQuery = true)
+    int normalizeLegacyValues(@Param("fromId") long fromId, @Param("toId") long toId);
+
 }
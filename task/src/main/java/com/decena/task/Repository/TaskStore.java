@@ -0,0 +1,136 @@
+package com.decena.task.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.decena.task.Entity.Task;
+
+/**
+ * Storage SPI for tasks: exactly the operations the task service and the board
+ * write-behind queue use. Method names follow Spring Data's derived-query naming so that
+ * {@link TaskRepository} (the JPA engine) implements it without an adapter.
+ * <p>
+ * Engines are selected with app.storage.engine: {@code jpa} (default) or {@code memory}
+ * ({@link InMemoryTaskStore}). Every engine scopes reads and writes to the current workspace,
+ * and the service saves every change it wants to keep: engines other than JPA have no dirty
+ * checking.
+ */
+public interface TaskStore {
+
+    /**
+     * Inserts (null ID) or updates a task.
+     *
+     * @param task task to store
+     * @return the stored task, with its ID assigned
+     */
+    <S extends Task> S save(S task);
+
+    /**
+     * Stores several tasks.
+     *
+     * @param tasks tasks to store
+     * @return the stored tasks, in the same order
+     */
+    <S extends Task> List<S> saveAll(Iterable<S> tasks);
+
+    /**
+     * Fetches a task by ID, deleted or not.
+     */
+    Optional<Task> findById(Long id);
+
+    /**
+     * Fetches tasks by ID, deleted or not; unknown IDs are skipped.
+     */
+    List<Task> findAllById(Iterable<Long> ids);
+
+    /**
+     * Fetch a non-deleted task by ID.
+     */
+    Optional<Task> findByIdAndDeletedFalse(Long id);
+
+    /**
+     * Fetch active tasks by IDs.
+     *
+     * @param ids task IDs
+     * @return matching active tasks
+     */
+    List<Task> findByIdInAndDeletedFalse(List<Long> ids);
+
+    /**
+     * Fetch the active tasks of one recurring series.
+     *
+     * @param recurrenceGroupId series ID
+     * @return active tasks of the series in ID order
+     */
+    List<Task> findByDeletedFalseAndRecurrenceGroupIdOrderByIdAsc(String recurrenceGroupId);
+
+    /**
+     * Fetch active tasks with a larger ID, in ID order.
+     *
+     * @param id last ID already read
+     * @param limit maximum number of tasks
+     * @return next tasks in ID order
+     */
+    List<Task> findByDeletedFalseAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Count active tasks.
+     */
+    long countByDeletedFalse();
+
+    /**
+     * Fetch all non-deleted tasks with pagination.
+     */
+    Page<Task> findByDeletedFalse(Pageable pageable);
+
+    /**
+     * Fetch deleted tasks with pagination.
+     */
+    Page<Task> findAllByDeletedTrue(Pageable pageable);
+
+    /**
+     * Fetch all active tasks by status, sorted by board order.
+     *
+     * @param status target task status
+     * @return ordered list of active tasks
+     */
+    List<Task> findByDeletedFalseAndStatusOrderByBoardOrderAscIdAsc(Task.Status status);
+
+    /**
+     * Fetch all active tasks in any of the given statuses, sorted by board order.
+     *
+     * @param statuses target task statuses
+     * @return ordered list of active tasks
+     */
+    List<Task> findByDeletedFalseAndStatusInOrderByBoardOrderAscIdAsc(Collection<Task.Status> statuses);
+
+    /**
+     * Count active tasks in any of the given statuses.
+     *
+     * @param statuses target task statuses
+     * @return number of active tasks
+     */
+    long countByDeletedFalseAndStatusIn(Collection<Task.Status> statuses);
+
+    /**
+     * Find the largest board order in one active column.
+     *
+     * @param status target status
+     * @return top ordered task if present
+     */
+    Optional<Task> findTopByDeletedFalseAndStatusOrderByBoardOrderDesc(Task.Status status);
+
+    /**
+     * Find the largest board order in one active column with a locking read, so the value is
+     * the latest committed one even when the transaction's snapshot is older.
+     *
+     * @param statuses stored statuses of the column
+     * @return largest board order if any task has one
+     */
+    Optional<Long> findColumnTailForUpdate(Collection<Task.Status> statuses);
+}
@@ -0,0 +1,247 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Dto.TaskResponse;
+import com.decena.task.Entity.Task;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stale-while-revalidate snapshots of ordered board columns, per workspace.
+ * <p>
+ * A snapshot younger than app.board.cache.fresh-ms is served as is. An older one is still
+ * served immediately, up to app.board.cache.max-stale-ms, while one background refresh per
+ * column reloads it, so a slow database delays the refresh instead of the board. Older
+ * snapshots, and columns a {@link TaskChangeNotification} named, are loaded by the caller.
+ * Loads of one column are single-flight: callers that miss while a load or refresh of the
+ * column runs wait for its result instead of querying again.
+ * Local writes therefore show up on the next read, and writes of other instances once the
+ * outbox relay delivers them.
+ */
+@Slf4j
+@Component
+public class BoardColumnCache {
+
+    private final boolean enabled;
+    private final long freshNanos;
+    private final long maxStaleNanos;
+    private final ExecutorService refresher;
+    private final ConcurrentHashMap<ColumnKey, Column> columns = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ColumnKey, CompletableFuture<Snapshot>> loading = new ConcurrentHashMap<>();
+    private final Counter fresh;
+    private final Counter stale;
+    private final Counter misses;
+    private final Counter refreshFailures;
+
+    public BoardColumnCache(
+            MeterRegistry registry,
+            @Value("${app.board.cache.enabled:true}") boolean enabled,
+            @Value("${app.board.cache.fresh-ms:1000}") long freshMillis,
+            @Value("${app.board.cache.max-stale-ms:60000}") long maxStaleMillis,
+            @Value("${app.board.cache.refresh-threads:2}") int refreshThreads) {
+        this.enabled = enabled;
+        this.freshNanos = TimeUnit.MILLISECONDS.toNanos(freshMillis);
+        this.maxStaleNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(freshMillis, maxStaleMillis));
+        this.refresher = Executors.newFixedThreadPool(refreshThreads, r -> {
+            Thread thread = new Thread(r, "board-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.fresh = lookups(registry, "fresh");
+        this.stale = lookups(registry, "stale");
+        this.misses = lookups(registry, "miss");
+        this.refreshFailures = Counter.builder("board.cache.refresh.failures")
+                .description("Background board column refreshes that failed; the stale snapshot stays")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void stop() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Returns the current workspace's snapshot of a column.
+     *
+     * @param status board column
+     * @param loader reads the column in board order; called on this thread or a refresh thread
+     * @return served snapshot
+     */
+    public Snapshot get(Task.Status status, Supplier<List<TaskResponse>> loader) {
+        if (!enabled) {
+            return load(null, loader);
+        }
+        ColumnKey key = new ColumnKey(WorkspaceContext.current(), status);
+        Column column = columns.computeIfAbsent(key, k -> new Column());
+        Snapshot snapshot = column.snapshot;
+        if (snapshot != null) {
+            long age = System.nanoTime() - snapshot.loadedAt();
+            if (age < freshNanos) {
+                fresh.increment();
+                return snapshot;
+            }
+            if (age < maxStaleNanos) {
+                stale.increment();
+                refresh(key, column, loader);
+                return snapshot;
+            }
+        }
+        misses.increment();
+        return loadShared(key, column, loader);
+    }
+
+    /**
+     * Drops the snapshots of the columns a committed change touched. A load or refresh that is
+     * still running for them keeps its result to its current callers; later reads load again.
+     * A legacy status also drops the column it
+     * is listed in.
+     */
+    @EventListener
+    public void onTaskChange(TaskChangeNotification notification) {
+        Collection<Task.Status> statuses = notification.statuses().isEmpty()
+                ? EnumSet.allOf(Task.Status.class)
+                : EnumSet.copyOf(notification.statuses());
+        if (statuses.contains(Task.Status.PENDING)) {
+            statuses.add(Task.Status.TODO);
+        }
+        if (statuses.contains(Task.Status.COMPLETED)) {
+            statuses.add(Task.Status.DONE);
+        }
+        for (Task.Status status : statuses) {
+            ColumnKey key = new ColumnKey(notification.workspaceId(), status);
+            loading.remove(key);
+            Column column = columns.remove(key);
+            if (column != null) {
+                synchronized (column) {
+                    column.invalidated = true;
+                    column.snapshot = null;
+                }
+            }
+        }
+    }
+
+    private void refresh(ColumnKey key, Column column, Supplier<List<TaskResponse>> loader) {
+        if (!column.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    WorkspaceContext.runAs(key.workspaceId(), () -> loadShared(key, column, loader));
+                } catch (RuntimeException ex) {
+                    refreshFailures.increment();
+                    log.warn("Refreshing board column {} of workspace {} failed; serving the stale snapshot",
+                            key.status(), key.workspaceId(), ex);
+                } finally {
+                    column.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            column.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Loads a column, or waits for the load of it that is already running. Errors are passed
+     * to every waiting caller.
+     */
+    private Snapshot loadShared(ColumnKey key, Column column, Supplier<List<TaskResponse>> loader) {
+        CompletableFuture<Snapshot> flight = new CompletableFuture<>();
+        CompletableFuture<Snapshot> running = loading.putIfAbsent(key, flight);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            Snapshot snapshot = load(column, loader);
+            flight.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loading.remove(key, flight);
+        }
+    }
+
+    /**
+     * Loads a column and installs it unless the column was invalidated meanwhile. The age
+     * counts from the start of the query, the latest point the data can be from.
+     */
+    private Snapshot load(Column column, Supplier<List<TaskResponse>> loader) {
+        long started = System.nanoTime();
+        Snapshot snapshot = new Snapshot(List.copyOf(loader.get()), started);
+        if (column != null) {
+            synchronized (column) {
+                if (!column.invalidated) {
+                    column.snapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private static Snapshot await(CompletableFuture<Snapshot> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static Counter lookups(MeterRegistry registry, String result) {
+        return Counter.builder("board.cache.lookups")
+                .description("Board column reads by how the cache answered them")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Ordered column content as loaded at {@code loadedAt} ({@link System#nanoTime()}).
+     * The task responses are shared between requests and must not be modified.
+     */
+    public record Snapshot(List<TaskResponse> tasks, long loadedAt) {
+
+        /**
+         * Milliseconds since the column was read from the store.
+         */
+        public long ageMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadedAt);
+        }
+    }
+
+    private record ColumnKey(String workspaceId, Task.Status status) {
+    }
+
+    private static final class Column {
+
+        private volatile Snapshot snapshot;
+        private boolean invalidated;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+    }
+}
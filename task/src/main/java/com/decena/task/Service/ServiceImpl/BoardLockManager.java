@@ -0,0 +1,162 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.decena.task.Entity.BoardColumnLock;
+import com.decena.task.Entity.Task;
+import com.decena.task.Exception.BoardLockTimeoutException;
+import com.decena.task.Repository.BoardColumnLockRepository;
+
+/**
+ * Serializes board-order writes per Kanban column.
+ * Each column has its own in-JVM lock stripe, so edits to different columns never wait
+ * on each other. In database mode the column's lock row is also locked FOR UPDATE, which
+ * extends the guarantee across replicas. Locks are held until the surrounding
+ * transaction completes and are always acquired in column order to avoid deadlocks.
+ */
+@Component
+public class BoardLockManager {
+
+    private final Map<Task.Status, ReentrantLock> stripes = new EnumMap<>(Task.Status.class);
+    private final BoardColumnLockRepository lockRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final boolean databaseLocks;
+    private final long timeoutMillis;
+
+    public BoardLockManager(
+            BoardColumnLockRepository lockRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.board.lock.mode:local}") String mode,
+            @Value("${app.board.lock.timeout-ms:5000}") long timeoutMillis) {
+        for (Task.Status status : Task.Status.values()) {
+            stripes.put(status, new ReentrantLock());
+        }
+        this.lockRepository = lockRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.databaseLocks = "database".equalsIgnoreCase(mode);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Creates missing lock rows when database locking is enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureLockRows() {
+        if (!databaseLocks) {
+            return;
+        }
+        for (Task.Status status : Task.Status.values()) {
+            try {
+                requiresNewTemplate.executeWithoutResult(tx -> {
+                    if (!lockRepository.existsById(status.name())) {
+                        lockRepository.saveAndFlush(new BoardColumnLock(status.name()));
+                    }
+                });
+            } catch (DataIntegrityViolationException ex) {
+                // Another replica created the row first.
+            }
+        }
+    }
+
+    /**
+     * Locks the given columns until the current transaction completes.
+     * Columns already held by this transaction are skipped. Without an active
+     * transaction there is nothing to scope the lock to, so the call is a no-op.
+     *
+     * @param statuses columns to lock; nulls are ignored
+     * @throws BoardLockTimeoutException if a column stays locked longer than the timeout
+     */
+    public void lockColumns(Task.Status... statuses) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        EnumSet<Task.Status> wanted = EnumSet.noneOf(Task.Status.class);
+        for (Task.Status status : statuses) {
+            if (status != null) {
+                wanted.add(status);
+            }
+        }
+        Set<Task.Status> held = heldColumns();
+        wanted.removeAll(held);
+
+        for (Task.Status status : wanted) {
+            acquire(status);
+            held.add(status);
+            if (databaseLocks) {
+                lockRepository.lockColumn(status.name());
+            }
+        }
+    }
+
+    /**
+     * Checks whether the current thread holds a column lock.
+     *
+     * @param status column status
+     * @return true when held
+     */
+    public boolean isHeldByCurrentThread(Task.Status status) {
+        return stripes.get(status).isHeldByCurrentThread();
+    }
+
+    private void acquire(Task.Status status) {
+        try {
+            if (!stripes.get(status).tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new BoardLockTimeoutException("Board column " + status.name() + " is busy, please retry");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BoardLockTimeoutException("Interrupted while waiting for board column " + status.name());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Task.Status> heldColumns() {
+        Set<Task.Status> held = (Set<Task.Status>) TransactionSynchronizationManager.getResource(this);
+        if (held != null) {
+            return held;
+        }
+
+        Set<Task.Status> created = EnumSet.noneOf(Task.Status.class);
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // A REQUIRES_NEW transaction suspends this one: it must track its own columns,
+            // not skip ones held here or have its columns released only when this one ends.
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(BoardLockManager.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(BoardLockManager.this, created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(BoardLockManager.this);
+                for (Task.Status column : created) {
+                    stripes.get(column).unlock();
+                }
+            }
+        });
+        return created;
+    }
+}
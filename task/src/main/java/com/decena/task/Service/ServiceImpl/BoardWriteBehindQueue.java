@@ -0,0 +1,385 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.decena.task.Config.LegacyCompatibility;
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Dto.TaskResponse;
+import com.decena.task.Entity.Task;
+import com.decena.task.Entity.TaskOutboxEvent;
+import com.decena.task.Repository.TaskStore;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optional write-behind buffer for Kanban drag updates.
+ * Status moves and column reorders are acknowledged immediately and kept in memory.
+ * Repeated operations on the same task or column within one window collapse into the
+ * last one, and all pending operations are written in a single transaction per flush.
+ *
+ * <p>Durability: pending operations are flushed every window, when the buffer is full,
+ * before any other task mutation, and on shutdown. A crash can lose at most one window.
+ * A full buffer only wakes the flush thread: the request that filled it still holds its
+ * column locks, which the flush needs too.</p>
+ *
+ * <p>Operations are buffered per workspace (the caller's {@link WorkspaceContext}); a flush
+ * writes each workspace in its own transaction, on its own shard when sharding is enabled.</p>
+ */
+@Slf4j
+@Component
+public class BoardWriteBehindQueue {
+
+    private final TaskStore taskRepository;
+    private final BoardLockManager boardLockManager;
+    private final TaskOutbox taskOutbox;
+    private final LegacyCompatibility legacyCompatibility;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxPending;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Map<String, Buffer> buffers = new LinkedHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public BoardWriteBehindQueue(
+            TaskStore taskRepository,
+            BoardLockManager boardLockManager,
+            TaskOutbox taskOutbox,
+            LegacyCompatibility legacyCompatibility,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.board.write-behind.enabled:false}") boolean enabled,
+            @Value("${app.board.write-behind.window-ms:250}") long windowMillis,
+            @Value("${app.board.write-behind.max-pending:1000}") int maxPending) {
+        this.taskRepository = taskRepository;
+        this.boardLockManager = boardLockManager;
+        this.taskOutbox = taskOutbox;
+        this.legacyCompatibility = legacyCompatibility;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.maxPending = maxPending;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "board-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flush();
+    }
+
+    /**
+     * Checks whether write-behind mode is active.
+     *
+     * @return true when moves are buffered
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the buffered status of a task, if any.
+     *
+     * @param taskId task ID
+     * @return pending status or null
+     */
+    public Task.Status pendingStatus(Long taskId) {
+        lock.lock();
+        try {
+            Buffer buffer = buffers.get(WorkspaceContext.current());
+            PendingMove move = buffer == null ? null : buffer.moves.get(taskId);
+            return move == null ? null : move.status();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reserves the next board order in a column, accounting for buffered moves.
+     *
+     * @param status target column
+     * @param persistedNext next order according to the database
+     * @return reserved order
+     */
+    public long reserveOrder(Task.Status status, long persistedNext) {
+        lock.lock();
+        try {
+            Map<Task.Status, Long> reservedTail = buffer().reservedTail;
+            long reserved = Math.max(persistedNext, reservedTail.getOrDefault(status, 0L) + 1);
+            reservedTail.put(status, reserved);
+            return reserved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Buffers a status move, replacing any earlier pending move of the same task.
+     *
+     * @param taskId task ID
+     * @param status target status
+     * @param boardOrder target order
+     */
+    public void enqueueMove(Long taskId, Task.Status status, long boardOrder) {
+        lock.lock();
+        try {
+            Buffer buffer = buffer();
+            buffer.moves.remove(taskId);
+            buffer.moves.put(taskId, new PendingMove(status, boardOrder));
+            for (List<Long> ids : buffer.reorders.values()) {
+                ids.remove(taskId);
+            }
+        } finally {
+            lock.unlock();
+        }
+        flushIfFull();
+    }
+
+    /**
+     * Buffers a column reorder, replacing any earlier pending reorder of the same column.
+     *
+     * @param status column status
+     * @param orderedTaskIds task IDs in their new order
+     */
+    public void enqueueReorder(Task.Status status, List<Long> orderedTaskIds) {
+        lock.lock();
+        try {
+            Buffer buffer = buffer();
+            buffer.reorders.put(status, new ArrayList<>(orderedTaskIds));
+            for (Long id : orderedTaskIds) {
+                PendingMove move = buffer.moves.get(id);
+                if (move != null) {
+                    buffer.moves.put(id, new PendingMove(move.status(), 0L));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        flushIfFull();
+    }
+
+    /**
+     * Overlays buffered state on a response so callers read their own writes.
+     *
+     * @param response task response to adjust
+     */
+    public void applyPending(TaskResponse response) {
+        if (!enabled || response == null || response.getId() == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            Buffer buffer = buffers.get(WorkspaceContext.current());
+            if (buffer == null) {
+                return;
+            }
+            PendingMove move = buffer.moves.get(response.getId());
+            if (move != null) {
+                response.setStatus(move.status().name());
+                if (move.boardOrder() > 0) {
+                    response.setBoardOrder(move.boardOrder());
+                }
+            }
+            if (response.getStatus() != null) {
+                List<Long> ids = buffer.reorders.get(Task.Status.valueOf(response.getStatus()));
+                int index = ids == null ? -1 : ids.indexOf(response.getId());
+                if (index >= 0) {
+                    response.setBoardOrder(index + 1L);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes all buffered operations, one transaction of their own per workspace,
+     * so the column locks taken by the flush are released before the caller continues.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<String, Buffer> snapshot = new LinkedHashMap<>();
+            lock.lock();
+            try {
+                // A workspace's reserved tails go with its pending operations.
+                buffers.forEach((workspaceId, buffer) -> {
+                    if (!buffer.isEmpty()) {
+                        snapshot.put(workspaceId, buffer);
+                    }
+                });
+                buffers.keySet().removeAll(snapshot.keySet());
+            } finally {
+                lock.unlock();
+            }
+
+            List<String> unwritten = new ArrayList<>(snapshot.keySet());
+            try {
+                for (Map.Entry<String, Buffer> entry : snapshot.entrySet()) {
+                    Buffer buffer = entry.getValue();
+                    WorkspaceContext.runAs(entry.getKey(), () -> transactionTemplate
+                            .executeWithoutResult(status -> write(buffer.moves, buffer.reorders)));
+                    unwritten.remove(entry.getKey());
+                }
+            } catch (RuntimeException ex) {
+                unwritten.forEach(workspaceId -> requeue(workspaceId, snapshot.get(workspaceId)));
+                throw ex;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Board write-behind flush failed; pending operations will be retried", ex);
+        }
+    }
+
+    private void flushIfFull() {
+        boolean full;
+        lock.lock();
+        try {
+            full = buffers.values().stream().mapToInt(Buffer::size).sum() >= maxPending;
+        } finally {
+            lock.unlock();
+        }
+        ScheduledExecutorService current = scheduler;
+        if (!full || current == null || !flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            current.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        } catch (RejectedExecutionException ex) {
+            // Shutting down; stop() flushes.
+            flushRequested.set(false);
+        }
+    }
+
+    /**
+     * Applies moves first, then merges each reorder into its column the way
+     * {@link TaskServiceImpl#reorderBoard} does, so the reorder sees the moved tasks.
+     */
+    private void write(Map<Long, PendingMove> moves, Map<Task.Status, List<Long>> reorders) {
+        List<Task.Status> columns = new ArrayList<>(reorders.keySet());
+        moves.values().forEach(move -> columns.add(move.status()));
+        boardLockManager.lockColumns(columns.toArray(Task.Status[]::new));
+
+        List<Task> moved = new ArrayList<>();
+        Set<Task.Status> sourceColumns = EnumSet.noneOf(Task.Status.class);
+        if (!moves.isEmpty()) {
+            for (Task task : taskRepository.findByIdInAndDeletedFalse(new ArrayList<>(moves.keySet()))) {
+                PendingMove move = moves.get(task.getId());
+                Task.Status source = legacyCompatibility.normalize(task.getStatus());
+                if (source != null) {
+                    sourceColumns.add(source);
+                }
+                task.setStatus(move.status());
+                if (move.boardOrder() > 0) {
+                    task.setBoardOrder(move.boardOrder());
+                }
+                moved.add(task);
+            }
+            taskRepository.saveAll(moved);
+        }
+
+        List<Task> reordered = new ArrayList<>();
+        for (Map.Entry<Task.Status, List<Long>> entry : reorders.entrySet()) {
+            List<Task> column = taskRepository.findByDeletedFalseAndStatusInOrderByBoardOrderAscIdAsc(
+                    legacyCompatibility.columnStatuses(entry.getKey()));
+            column.forEach(task -> task.setStatus(legacyCompatibility.normalize(task.getStatus())));
+            List<Task> changed = TaskServiceImpl.mergeColumnOrder(column, entry.getValue());
+            taskRepository.saveAll(changed);
+            reordered.addAll(changed);
+        }
+
+        taskOutbox.record(TaskOutboxEvent.Type.STATUS_CHANGED, moved, sourceColumns.toArray(Task.Status[]::new));
+        taskOutbox.record(TaskOutboxEvent.Type.REORDERED, reordered);
+    }
+
+    private void requeue(String workspaceId, Buffer failed) {
+        lock.lock();
+        try {
+            Buffer buffer = buffers.computeIfAbsent(workspaceId, id -> new Buffer());
+            failed.moves.forEach(buffer.moves::putIfAbsent);
+            failed.reorders.forEach(buffer.reorders::putIfAbsent);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Buffer of the current workspace; callers hold {@code lock}.
+     */
+    private Buffer buffer() {
+        return buffers.computeIfAbsent(WorkspaceContext.current(), id -> new Buffer());
+    }
+
+    /**
+     * Pending operations of one workspace.
+     */
+    private static final class Buffer {
+        private final Map<Long, PendingMove> moves = new LinkedHashMap<>();
+        private final Map<Task.Status, List<Long>> reorders = new EnumMap<>(Task.Status.class);
+        private final Map<Task.Status, Long> reservedTail = new EnumMap<>(Task.Status.class);
+
+        boolean isEmpty() {
+            return moves.isEmpty() && reorders.isEmpty();
+        }
+
+        int size() {
+            return moves.size() + reorders.size();
+        }
+    }
+
+    /**
+     * Buffered status move.
+     *
+     * @param status target status
+     * @param boardOrder target order, or 0 when a pending reorder owns the position
+     */
+    private record PendingMove(Task.Status status, long boardOrder) {
+    }
+}
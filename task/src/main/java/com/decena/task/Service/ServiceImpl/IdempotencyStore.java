@@ -0,0 +1,322 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.decena.task.Config.ShardRouter;
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Entity.IdempotencyRecord;
+import com.decena.task.Exception.IdempotencyKeyInUseException;
+import com.decena.task.Exception.IdempotencyKeyReusedException;
+import com.decena.task.Repository.IdempotencyRecordRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Runs writes sent with an Idempotency-Key at most once per key and replays their response
+ * to retries.
+ * <p>
+ * Keys are scoped by workspace and operation and kept for app.idempotency.ttl-seconds. With
+ * app.idempotency.store=database the response is written to idempotency_keys in the same
+ * transaction as the write: the write and its key commit together or not at all, a retry on
+ * another instance finds the response, and a concurrent request with the same key waits on
+ * the key's row and then replays. Recent responses are also kept in memory, so a retry to the
+ * same instance is answered without a query. Keys live in the workspace's shard and are moved
+ * with it by WorkspaceShardMover. With store=memory only the in-memory copy exists
+ * (single instance, lost on restart) and a concurrent duplicate is rejected with 409.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String SINGLE_DATABASE = "primary";
+
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardRouter> shardRouter;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final boolean database;
+    private final Duration ttl;
+    private final long purgeMillis;
+    private final Map<String, StoredResponse> recent;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    private final Counter executed;
+    private final Counter replayed;
+    private ScheduledExecutorService purger;
+
+    public IdempotencyStore(
+            IdempotencyRecordRepository repository,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<ShardRouter> shardRouter,
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            @Value("${app.idempotency.store:database}") String store,
+            @Value("${app.idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${app.idempotency.memory-entries:10000}") int memoryEntries,
+            @Value("${app.idempotency.purge-ms:60000}") long purgeMillis,
+            @Value("${app.limits.timeout.default-seconds:5}") int timeoutSeconds) {
+        if (!"database".equals(store) && !"memory".equals(store)) {
+            throw new IllegalArgumentException("app.idempotency.store must be database or memory, was: " + store);
+        }
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout(timeoutSeconds);
+        this.shardRouter = shardRouter;
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.database = "database".equals(store);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.purgeMillis = purgeMillis;
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > memoryEntries;
+            }
+        });
+        this.executed = requests(registry, "executed");
+        this.replayed = requests(registry, "replayed");
+    }
+
+    /**
+     * Starts purging expired keys once the schema exists.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        purger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "idempotency-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        purger.scheduleWithFixedDelay(this::purgeQuietly, purgeMillis, purgeMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (purger != null) {
+            purger.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a write once per key, or replays the response of the run that already happened.
+     * A write that fails stores nothing, so its retry runs again.
+     *
+     * @param operation name of the write; keys of different operations never collide
+     * @param key client's Idempotency-Key
+     * @param request request the key is bound to; a retry must send an equal one
+     * @param status HTTP status of a successful run
+     * @param action the write; joins the transaction that stores its response
+     * @return response of this run or of the earlier one
+     * @throws IllegalArgumentException when the key is blank or longer than 255 characters
+     * @throws IdempotencyKeyReusedException when the key was used with a different request
+     * @throws IdempotencyKeyInUseException when a request with the key is still running
+     */
+    public Response execute(String operation, String key, Object request, int status, Supplier<?> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String id = sha256((WorkspaceContext.current() + '\n' + operation + '\n' + key)
+                .getBytes(StandardCharsets.UTF_8));
+        String requestHash = sha256(objectMapper.writeValueAsBytes(request));
+
+        StoredResponse remembered = remembered(id);
+        if (remembered != null) {
+            return replay(remembered, requestHash);
+        }
+        if (!database) {
+            return runInMemory(id, requestHash, status, action);
+        }
+        Outcome outcome;
+        try {
+            outcome = claimAndRun(id, requestHash, status, action);
+        } catch (KeyTakenException ex) {
+            // A concurrent request with this key committed while we waited on its row.
+            try {
+                outcome = claimAndRun(id, requestHash, status, action);
+            } catch (KeyTakenException again) {
+                throw new IdempotencyKeyInUseException("A request with this " + HEADER + " is still running", 1);
+            }
+        }
+        recent.put(id, outcome.response());
+        if (outcome.stored()) {
+            return replay(outcome.response(), requestHash);
+        }
+        executed.increment();
+        return new Response(outcome.response().status(), outcome.response().body(), false);
+    }
+
+    /**
+     * Deletes expired keys from the database of every shard and from memory.
+     */
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (recent) {
+            recent.values().removeIf(response -> !response.expiresAt().isAfter(now));
+        }
+        if (!database) {
+            return;
+        }
+        for (String shard : shards()) {
+            jdbc(shard).update("DELETE FROM idempotency_keys WHERE expires_at <= ?", Timestamp.valueOf(now));
+        }
+    }
+
+    /**
+     * Inserts the key's row before running the write, so a concurrent duplicate blocks on the
+     * primary key until this transaction ends, and stores the response in the same transaction.
+     */
+    private Outcome claimAndRun(String id, String requestHash, int status, Supplier<?> action) {
+        return transactionTemplate.execute(tx -> {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<IdempotencyRecord> stored = repository.findById(id);
+            if (stored.isPresent() && stored.get().getExpiresAt().isAfter(now)) {
+                IdempotencyRecord record = stored.get();
+                return new Outcome(new StoredResponse(record.getRequestHash(), record.getStatusCode(),
+                        record.getResponseBody(), record.getExpiresAt()), true);
+            }
+            if (stored.isPresent()) {
+                repository.delete(stored.get());
+                repository.flush();
+            }
+            IdempotencyRecord record;
+            try {
+                record = repository.saveAndFlush(new IdempotencyRecord(id, WorkspaceContext.current(), requestHash, now,
+                        now.plus(ttl)));
+            } catch (DataIntegrityViolationException ex) {
+                throw new KeyTakenException();
+            }
+            byte[] body = objectMapper.writeValueAsBytes(action.get());
+            record.setStatusCode(status);
+            record.setResponseBody(body);
+            return new Outcome(new StoredResponse(requestHash, status, body, record.getExpiresAt()), false);
+        });
+    }
+
+    private Response runInMemory(String id, String requestHash, int status, Supplier<?> action) {
+        if (!running.add(id)) {
+            throw new IdempotencyKeyInUseException("A request with this " + HEADER + " is still running", 1);
+        }
+        try {
+            StoredResponse remembered = remembered(id);
+            if (remembered != null) {
+                return replay(remembered, requestHash);
+            }
+            byte[] body = transactionTemplate.execute(tx -> objectMapper.writeValueAsBytes(action.get()));
+            recent.put(id, new StoredResponse(requestHash, status, body, LocalDateTime.now().plus(ttl)));
+            executed.increment();
+            return new Response(status, body, false);
+        } finally {
+            running.remove(id);
+        }
+    }
+
+    private StoredResponse remembered(String id) {
+        StoredResponse response = recent.get(id);
+        return response == null || !response.expiresAt().isAfter(LocalDateTime.now()) ? null : response;
+    }
+
+    private Response replay(StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException(HEADER + " was already used with a different request");
+        }
+        replayed.increment();
+        return new Response(stored.status(), stored.body(), true);
+    }
+
+    private void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException ex) {
+            log.warn("Purging expired idempotency keys failed; retrying on the next run", ex);
+        }
+    }
+
+    private List<String> shards() {
+        ShardRouter router = shardRouter.getIfAvailable();
+        return router == null ? List.of(SINGLE_DATABASE) : router.getShardNames();
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        ShardRouter router = shardRouter.getIfAvailable();
+        return new JdbcTemplate(router == null ? dataSource : router.getDataSource(shard));
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static Counter requests(MeterRegistry registry, String result) {
+        return Counter.builder("idempotency.requests")
+                .description("Requests with an Idempotency-Key by whether they ran or replayed a stored response")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Response to send for a request with an Idempotency-Key.
+     *
+     * @param status HTTP status
+     * @param body serialized JSON body; shared between requests and must not be modified
+     * @param replayed whether an earlier run produced it
+     */
+    public record Response(int status, byte[] body, boolean replayed) {
+    }
+
+    private record StoredResponse(String requestHash, int status, byte[] body, LocalDateTime expiresAt) {
+    }
+
+    private record Outcome(StoredResponse response, boolean stored) {
+    }
+
+    /**
+     * The key's row was inserted by a concurrent transaction.
+     */
+    private static final class KeyTakenException extends RuntimeException {
+
+        KeyTakenException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.decena.task.Service.ServiceImpl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.decena.task.Config.LegacyCompatibility;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the legacy data migration in the background after startup.
+ * Batches are throttled by a fixed pause so the job does not compete with live traffic.
+ * Once complete, runtime legacy status normalization is switched off.
+ * The worker is a virtual thread when virtual threads are enabled.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyDataMigrationJob implements ApplicationRunner {
+
+    private final LegacyDataMigrationService migrationService;
+    private final LegacyCompatibility legacyCompatibility;
+    private final Environment environment;
+
+    @Value("${app.legacy.migration.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.legacy.migration.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.legacy.migration.pause-ms:200}")
+    private long pauseMillis;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (migrationService.isCompleted()) {
+            legacyCompatibility.disableStatusNormalization();
+            return;
+        }
+        if (!enabled) {
+            return;
+        }
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("legacy-data-migration-");
+        executor.setDaemon(true);
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.execute(this::runToCompletion);
+    }
+
+    /**
+     * Processes batches until the table is fully scanned.
+     */
+    void runToCompletion() {
+        try {
+            while (migrationService.migrateNextBatch(batchSize)) {
+                Thread.sleep(pauseMillis);
+            }
+            legacyCompatibility.disableStatusNormalization();
+            log.info("Legacy data migration completed; runtime status normalization disabled");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            log.warn("Legacy data migration stopped; it will resume from the last checkpoint", ex);
+        }
+    }
+}
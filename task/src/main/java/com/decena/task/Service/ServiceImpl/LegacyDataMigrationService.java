@@ -0,0 +1,73 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.decena.task.Entity.MigrationCheckpoint;
+import com.decena.task.Repository.MigrationCheckpointRepository;
+import com.decena.task.Repository.TaskRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Rewrites legacy PENDING/COMPLETED statuses and unknown recurrence types
+ * in small keyset batches. Each batch commits together with its checkpoint,
+ * so the migration can stop and resume at any point.
+ */
+@Service
+@RequiredArgsConstructor
+public class LegacyDataMigrationService {
+
+    public static final String CHECKPOINT_NAME = "legacy-status-recurrence";
+
+    private final TaskRepository taskRepository;
+    private final MigrationCheckpointRepository checkpointRepository;
+
+    /**
+     * Processes the next batch of task rows after the stored checkpoint.
+     *
+     * @param batchSize maximum number of rows scanned in this batch
+     * @return true when more rows may remain, false once the migration is complete
+     * @throws IllegalArgumentException if batch size is not positive
+     */
+    @Transactional
+    public boolean migrateNextBatch(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+
+        MigrationCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT_NAME)
+                .orElseGet(() -> MigrationCheckpoint.builder().name(CHECKPOINT_NAME).build());
+        if (checkpoint.isCompleted()) {
+            return false;
+        }
+
+        List<Long> ids = taskRepository.findIdsAfter(checkpoint.getLastProcessedId(), batchSize);
+        if (ids.isEmpty()) {
+            checkpoint.setCompleted(true);
+        } else {
+            long upperId = ids.get(ids.size() - 1);
+            int updated = taskRepository.normalizeLegacyValues(checkpoint.getLastProcessedId(), upperId);
+            checkpoint.setLastProcessedId(upperId);
+            checkpoint.setRowsUpdated(checkpoint.getRowsUpdated() + updated);
+        }
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+        return !checkpoint.isCompleted();
+    }
+
+    /**
+     * Checks whether the migration has already scanned the whole table.
+     *
+     * @return true when the migration is complete
+     */
+    @Transactional(readOnly = true)
+    public boolean isCompleted() {
+        return checkpointRepository.findById(CHECKPOINT_NAME)
+                .map(MigrationCheckpoint::isCompleted)
+                .orElse(false);
+    }
+}
@@ -0,0 +1,290 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.stereotype.Component;
+
+import com.decena.task.Entity.Task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fills the tasks table with synthetic rows for scale testing.
+ * Rows are written with multi-row INSERT statements (one statement per chunk)
+ * from several worker threads, each on its own connection, bypassing JPA entirely.
+ * <p>
+ * Distributions: status TODO 35%, IN_PROGRESS 20%, DONE 35%, legacy PENDING 5% and COMPLETED 5%;
+ * priority HIGH 20%, MODERATE 50%, LOW 30%; deadlines spread around now (10% without one);
+ * about 10% of rows belong to recurring series sharing a recurrenceGroupId; 3% soft-deleted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyntheticDatasetGenerator {
+
+    private static final String COLUMNS = "(title, description, date_created, priority, deadline, status, board_order,"
+            + " recurrence_type, recurrence_interval, recurrence_end_at, recurrence_group_id, deleted)";
+    private static final String ROW_PLACEHOLDERS = "(?,?,?,?,?,?,?,?,?,?,?,?)";
+    private static final Task.RecurrenceType[] SERIES_TYPES = {
+            Task.RecurrenceType.DAILY, Task.RecurrenceType.WEEKLY, Task.RecurrenceType.MONTHLY};
+
+    private final DataSource dataSource;
+
+    /**
+     * Inserts synthetic tasks.
+     *
+     * @param rows total rows to insert
+     * @param rowsPerStatement rows per multi-row INSERT
+     * @param threads worker threads, each with its own connection
+     * @param seed random seed; equal seeds produce equal row content
+     * @return number of inserted rows
+     */
+    public long generate(long rows, int rowsPerStatement, int threads, long seed) {
+        if (rows < 1 || rowsPerStatement < 1 || threads < 1) {
+            throw new IllegalArgumentException("rows, rowsPerStatement and threads must be positive");
+        }
+
+        Map<Task.Status, AtomicLong> nextOrders = loadNextBoardOrders();
+        long chunks = (rows + rowsPerStatement - 1) / rowsPerStatement;
+        AtomicLong nextChunk = new AtomicLong();
+        AtomicLong inserted = new AtomicLong();
+        long started = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    insertChunks(rows, rowsPerStatement, chunks, seed, nextChunk, nextOrders, inserted);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dataset generation interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Dataset generation failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - started) / 1e9;
+        log.info("Inserted {} synthetic tasks in {} s ({} rows/s)",
+                inserted.get(), String.format("%.1f", seconds), String.format("%.0f", inserted.get() / seconds));
+        return inserted.get();
+    }
+
+    private void insertChunks(long rows, int rowsPerStatement, long chunks, long seed, AtomicLong nextChunk,
+            Map<Task.Status, AtomicLong> nextOrders, AtomicLong inserted) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            PreparedStatement full = null;
+            try {
+                long chunk;
+                while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                    int size = (int) Math.min(rowsPerStatement, rows - chunk * rowsPerStatement);
+                    List<Object[]> chunkRows = chunkRows(size, new SplittableRandom(seed + chunk), nextOrders);
+                    PreparedStatement statement;
+                    if (size == rowsPerStatement) {
+                        if (full == null) {
+                            full = connection.prepareStatement(insertSql(rowsPerStatement));
+                        }
+                        statement = full;
+                    } else {
+                        statement = connection.prepareStatement(insertSql(size));
+                    }
+                    bind(statement, chunkRows);
+                    statement.executeUpdate();
+                    connection.commit();
+                    if (statement != full) {
+                        statement.close();
+                    }
+
+                    long total = inserted.addAndGet(size);
+                    if (total / 1_000_000 != (total - size) / 1_000_000) {
+                        log.info("Inserted {} of {} synthetic tasks", total, rows);
+                    }
+                }
+            } finally {
+                if (full != null) {
+                    full.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds one chunk. Recurring series are kept inside a chunk so their rows stay together.
+     */
+    private List<Object[]> chunkRows(int size, SplittableRandom random, Map<Task.Status, AtomicLong> nextOrders) {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<Object[]> result = new ArrayList<>(size);
+        while (result.size() < size) {
+            int remaining = size - result.size();
+            if (remaining >= 4 && random.nextInt(1000) < 15) {
+                addSeries(result, Math.min(remaining, 4 + random.nextInt(9)), random, now, nextOrders);
+            } else {
+                addSingle(result, random, now, nextOrders);
+            }
+        }
+        return result;
+    }
+
+    private void addSingle(List<Object[]> result, SplittableRandom random, LocalDateTime now,
+            Map<Task.Status, AtomicLong> nextOrders) {
+        Task.Status status = pickStatus(random);
+        LocalDateTime deadline = random.nextInt(10) == 0 ? null : now.plusHours(gaussianHours(random));
+        LocalDateTime created = createdBefore(deadline, now, random);
+        result.add(row("Task " + random.nextInt(1_000_000), status, pickPriority(random), created, deadline,
+                Task.RecurrenceType.NONE, 1, null, null, random.nextInt(100) < 3, nextOrders));
+    }
+
+    private void addSeries(List<Object[]> result, int length, SplittableRandom random, LocalDateTime now,
+            Map<Task.Status, AtomicLong> nextOrders) {
+        Task.RecurrenceType type = SERIES_TYPES[random.nextInt(SERIES_TYPES.length)];
+        int interval = 1 + random.nextInt(2);
+        String groupId = "rec-" + Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong());
+        String title = "Recurring " + type.name().toLowerCase() + " " + random.nextInt(100_000);
+        Task.Priority priority = pickPriority(random);
+        LocalDateTime deadline = step(now, type, -interval * (length - 1));
+        LocalDateTime endAt = random.nextBoolean() ? null : step(deadline, type, interval * (length + 5));
+
+        // Earlier occurrences are done (some stored with the legacy value); the latest one is open.
+        for (int i = 0; i < length; i++) {
+            boolean last = i == length - 1;
+            Task.Status status = last ? Task.Status.TODO
+                    : random.nextInt(10) == 0 ? Task.Status.COMPLETED : Task.Status.DONE;
+            result.add(row(title, status, priority, deadline.minusDays(1 + random.nextInt(3)), deadline,
+                    type, interval, endAt, groupId, false, nextOrders));
+            deadline = step(deadline, type, interval);
+        }
+    }
+
+    private Object[] row(String title, Task.Status status, Task.Priority priority, LocalDateTime created,
+            LocalDateTime deadline, Task.RecurrenceType recurrenceType, int interval, LocalDateTime endAt,
+            String groupId, boolean deleted, Map<Task.Status, AtomicLong> nextOrders) {
+        return new Object[] {
+                title, "Synthetic task", created, priority.name(), deadline, status.name(),
+                nextOrders.get(column(status)).getAndIncrement(), recurrenceType.name(), interval, endAt, groupId, deleted
+        };
+    }
+
+    private Task.Status pickStatus(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 35) {
+            return Task.Status.TODO;
+        }
+        if (roll < 55) {
+            return Task.Status.IN_PROGRESS;
+        }
+        if (roll < 90) {
+            return Task.Status.DONE;
+        }
+        return roll < 95 ? Task.Status.PENDING : Task.Status.COMPLETED;
+    }
+
+    private Task.Priority pickPriority(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 20) {
+            return Task.Priority.HIGH;
+        }
+        return roll < 70 ? Task.Priority.MODERATE : Task.Priority.LOW;
+    }
+
+    /**
+     * Normally distributed offset around now, standard deviation two weeks.
+     */
+    private long gaussianHours(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        double gaussian = Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+        return Math.round(gaussian * 14 * 24);
+    }
+
+    private LocalDateTime createdBefore(LocalDateTime deadline, LocalDateTime now, SplittableRandom random) {
+        LocalDateTime upper = deadline == null || deadline.isAfter(now) ? now : deadline;
+        return upper.minusHours(1 + random.nextInt(30 * 24));
+    }
+
+    private LocalDateTime step(LocalDateTime from, Task.RecurrenceType type, int amount) {
+        return switch (type) {
+            case DAILY -> from.plusDays(amount);
+            case WEEKLY -> from.plusWeeks(amount);
+            case MONTHLY -> from.plusMonths(amount);
+            default -> from;
+        };
+    }
+
+    private void bind(PreparedStatement statement, List<Object[]> rows) throws SQLException {
+        int index = 1;
+        for (Object[] row : rows) {
+            for (Object value : row) {
+                statement.setObject(index++, value);
+            }
+        }
+    }
+
+    private String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO tasks ").append(COLUMNS).append(" VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(ROW_PLACEHOLDERS);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Legacy statuses share the order sequence of the column they are shown in.
+     */
+    private Task.Status column(Task.Status status) {
+        if (status == Task.Status.PENDING) {
+            return Task.Status.TODO;
+        }
+        return status == Task.Status.COMPLETED ? Task.Status.DONE : status;
+    }
+
+    /**
+     * Reads each column tail once so generated orders continue after existing rows.
+     */
+    private Map<Task.Status, AtomicLong> loadNextBoardOrders() {
+        Map<Task.Status, AtomicLong> nextOrders = new EnumMap<>(Task.Status.class);
+        for (Task.Status status : Task.Status.values()) {
+            nextOrders.put(column(status), new AtomicLong(1));
+        }
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT status, MAX(board_order) FROM tasks WHERE status IS NOT NULL GROUP BY status")) {
+            while (resultSet.next()) {
+                long next = resultSet.getLong(2) + 1;
+                nextOrders.get(column(Task.Status.valueOf(resultSet.getString(1)))).accumulateAndGet(next, Math::max);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not read board order tails", ex);
+        }
+        return nextOrders;
+    }
+}
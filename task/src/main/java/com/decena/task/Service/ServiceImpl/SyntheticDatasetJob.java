@@ -0,0 +1,37 @@
+package com.decena.task.Service.ServiceImpl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Generates the synthetic dataset on startup when the {@code dataset} profile is active.
+ */
+@Component
+@Profile("dataset")
+@RequiredArgsConstructor
+public class SyntheticDatasetJob implements ApplicationRunner {
+
+    private final SyntheticDatasetGenerator generator;
+
+    @Value("${app.dataset.rows:1000000}")
+    private long rows;
+
+    @Value("${app.dataset.rows-per-statement:1000}")
+    private int rowsPerStatement;
+
+    @Value("${app.dataset.threads:4}")
+    private int threads;
+
+    @Value("${app.dataset.seed:42}")
+    private long seed;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        generator.generate(rows, rowsPerStatement, threads, seed);
+    }
+}
@@ -0,0 +1,22 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.util.List;
+import java.util.Set;
+
+import com.decena.task.Entity.Task;
+import com.decena.task.Entity.TaskOutboxEvent;
+
+/**
+ * Application event for a committed task change, published once on every instance: right
+ * after commit on the instance that made it ({@code local}), and by the outbox relay on the
+ * others. In-process caches listen to it to drop what the change made stale.
+ *
+ * @param workspaceId workspace of the changed tasks
+ * @param type kind of change
+ * @param taskIds changed tasks
+ * @param statuses board columns whose content or order changed
+ * @param local whether the change was made by this instance
+ */
+public record TaskChangeNotification(String workspaceId, TaskOutboxEvent.Type type, List<Long> taskIds,
+        Set<Task.Status> statuses, boolean local) {
+}
@@ -0,0 +1,533 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.decena.task.Config.LegacyCompatibility;
+import com.decena.task.Config.ShardRouter;
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Dto.TaskPatchRequest;
+import com.decena.task.Dto.TaskRequest;
+import com.decena.task.Dto.TaskResponse;
+import com.decena.task.Dto.TaskSeriesEditRequest;
+import com.decena.task.Entity.Task;
+import com.decena.task.Entity.TaskJob;
+import com.decena.task.Entity.TaskJobResult;
+import com.decena.task.Repository.TaskJobRepository;
+import com.decena.task.Repository.TaskJobResultRepository;
+import com.decena.task.Repository.TaskStore;
+import com.decena.task.Service.TaskService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Runs queued {@link TaskJob}s on a fixed pool of app.jobs.threads workers.
+ * <p>
+ * Jobs wait in task_jobs, not in memory: a poller claims the oldest queued job of any shard
+ * only while a worker is free, so a burst of submissions cannot exhaust the instance, and any
+ * instance can run any job. A shard only hands out jobs of the workspaces placed on it, so the
+ * copies a shard move makes are never run twice. Work is done in chunks of app.jobs.chunk-size items, each in one
+ * transaction together with its progress. A chunk that fails is redone item by item and
+ * items failing on their own are skipped and counted.
+ * <p>
+ * The poller also refreshes updated_at of this instance's running jobs. A running job not
+ * refreshed for app.jobs.stale-ms lost its instance and is queued again; it resumes after
+ * its last committed chunk (for an export, its last stored page). A cancel takes effect at the
+ * next chunk.
+ */
+@Slf4j
+@Component
+public class TaskJobRunner {
+
+    private static final String SINGLE_DATABASE = "primary";
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final TaskService taskService;
+    private final TaskStore taskStore;
+    private final LegacyCompatibility legacyCompatibility;
+    private final TaskJobRepository jobRepository;
+    private final TaskJobResultRepository resultRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardRouter> shardRouter;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
+    private final String instanceId;
+    private final int threads;
+    private final int chunkSize;
+    private final int exportPageSize;
+    private final long pollMillis;
+    private final Duration stale;
+    private final Duration retention;
+    private final Semaphore slots;
+    private final ExecutorService workers;
+    private volatile ScheduledExecutorService poller;
+    private long purgedAt;
+
+    public TaskJobRunner(
+            TaskService taskService,
+            TaskStore taskStore,
+            LegacyCompatibility legacyCompatibility,
+            TaskJobRepository jobRepository,
+            TaskJobResultRepository resultRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<ShardRouter> shardRouter,
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            TaskOutbox outbox,
+            MeterRegistry registry,
+            @Value("${app.jobs.threads:2}") int threads,
+            @Value("${app.jobs.chunk-size:100}") int chunkSize,
+            @Value("${app.jobs.export-page-size:500}") int exportPageSize,
+            @Value("${app.jobs.poll-ms:1000}") long pollMillis,
+            @Value("${app.jobs.stale-ms:60000}") long staleMillis,
+            @Value("${app.jobs.retention-hours:168}") long retentionHours,
+            @Value("${app.limits.timeout.bulk-seconds:15}") int chunkTimeoutSeconds) {
+        this.taskService = taskService;
+        this.taskStore = taskStore;
+        this.legacyCompatibility = legacyCompatibility;
+        this.jobRepository = jobRepository;
+        this.resultRepository = resultRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout(chunkTimeoutSeconds);
+        this.shardRouter = shardRouter;
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.registry = registry;
+        this.instanceId = outbox.getInstanceId();
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+        this.exportPageSize = exportPageSize;
+        this.pollMillis = pollMillis;
+        this.stale = Duration.ofMillis(staleMillis);
+        this.retention = Duration.ofHours(retentionHours);
+        this.slots = new Semaphore(threads);
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "task-job");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("task.jobs.running", this, runner -> runner.threads - runner.slots.availablePermits())
+                .description("Jobs running on this instance")
+                .register(registry);
+    }
+
+    /**
+     * Starts polling once the schema exists. Jobs this instance was running before a restart
+     * are queued again right away.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (String shard : shards()) {
+            int requeued = jdbc(shard).update(
+                    "UPDATE task_jobs SET state = 'QUEUED', owner = NULL WHERE state = 'RUNNING' AND owner = ?",
+                    instanceId);
+            if (requeued > 0) {
+                log.info("Queued {} interrupted jobs of shard {} again", requeued, shard);
+            }
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "task-job-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(() -> quietly(this::poll), 0, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+        workers.shutdownNow();
+    }
+
+    /**
+     * Looks for queued jobs now instead of at the next poll.
+     */
+    public void wake() {
+        ScheduledExecutorService current = poller;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.execute(() -> quietly(this::dispatch));
+        } catch (RejectedExecutionException ex) {
+            // Shutting down.
+        }
+    }
+
+    /**
+     * Refreshes this instance's running jobs, queues stale ones again, purges old finished
+     * jobs and starts queued jobs on free workers.
+     */
+    public synchronized void poll() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp staleBefore = Timestamp.valueOf(LocalDateTime.now().minus(stale));
+        boolean purge = purgedAt == 0 || System.nanoTime() - purgedAt > PURGE_INTERVAL_NANOS;
+        for (String shard : shards()) {
+            JdbcTemplate jdbc = jdbc(shard);
+            jdbc.update("UPDATE task_jobs SET updated_at = ? WHERE owner = ? AND state = 'RUNNING'", now, instanceId);
+            int requeued = jdbc.update(
+                    "UPDATE task_jobs SET state = 'QUEUED', owner = NULL WHERE state = 'RUNNING' AND updated_at < ?",
+                    staleBefore);
+            if (requeued > 0) {
+                log.info("Queued {} jobs of stopped instances of shard {} again", requeued, shard);
+            }
+            if (purge) {
+                Timestamp finishedBefore = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+                jdbc.update("DELETE FROM task_job_results WHERE job_id IN "
+                        + "(SELECT id FROM task_jobs WHERE finished_at < ?)", finishedBefore);
+                jdbc.update("DELETE FROM task_jobs WHERE finished_at < ?", finishedBefore);
+            }
+        }
+        if (purge) {
+            purgedAt = System.nanoTime();
+        }
+        dispatch();
+    }
+
+    private synchronized void dispatch() {
+        for (String shard : shards()) {
+            JdbcTemplate jdbc = jdbc(shard);
+            while (slots.tryAcquire()) {
+                Claimed job = claimNext(shard, jdbc);
+                if (job == null) {
+                    slots.release();
+                    break;
+                }
+                try {
+                    workers.execute(() -> {
+                        try {
+                            WorkspaceContext.runAs(job.workspaceId(), () -> run(job.id(), jdbc));
+                        } finally {
+                            slots.release();
+                            wake();
+                        }
+                    });
+                } catch (RejectedExecutionException ex) {
+                    // Shutting down: the claimed job is queued again on the next start.
+                    slots.release();
+                    return;
+                }
+            }
+            if (slots.availablePermits() == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Claims the oldest queued job of a workspace the shard holds. Copies of jobs of a
+     * workspace being moved to or away from the shard are left alone.
+     */
+    private Claimed claimNext(String shard, JdbcTemplate jdbc) {
+        List<Claimed> queued = jdbc.query(
+                "SELECT id, workspace_id FROM task_jobs WHERE state = 'QUEUED' ORDER BY created_at LIMIT 10",
+                (rs, rowNum) -> new Claimed(rs.getString("id"), rs.getString("workspace_id")));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Claimed job : queued) {
+            if (!holds(shard, job.workspaceId())) {
+                continue;
+            }
+            if (jdbc.update("UPDATE task_jobs SET state = 'RUNNING', owner = ?, started_at = COALESCE(started_at, ?), "
+                    + "updated_at = ? WHERE id = ? AND state = 'QUEUED'", instanceId, now, now, job.id()) == 1) {
+                return job;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Runs a claimed job.
+     *
+     * @param id job ID
+     * @param claimedOn database the job was claimed in
+     */
+    private void run(String id, JdbcTemplate claimedOn) {
+        TaskJob job = jobRepository.findById(id).orElse(null);
+        if (job == null) {
+            // The workspace moved to another shard since the claim; the copy there is run instead.
+            // Hand the claimed row back so it stops being refreshed as running here.
+            claimedOn.update("UPDATE task_jobs SET state = 'QUEUED', owner = NULL WHERE id = ? AND owner = ? "
+                    + "AND state = 'RUNNING'", id, instanceId);
+            log.warn("Job {} is no longer in its workspace's database; released it", id);
+            return;
+        }
+        if (job.isCancelRequested()) {
+            finish(job, TaskJob.State.CANCELLED, null);
+            return;
+        }
+        Progress progress = new Progress(job.getProcessedItems(), job.getFailedItems());
+        try {
+            switch (job.getType()) {
+                case IMPORT -> process(job, progress,
+                        Arrays.asList(objectMapper.readValue(job.getPayload(), TaskRequest[].class)),
+                        taskService::createTask);
+                case ARCHIVE -> process(job, progress, items(job, this::doneTaskIds), this::archive);
+                case SERIES_EDIT -> {
+                    TaskSeriesEditRequest edit = objectMapper.readValue(job.getPayload(), TaskSeriesEditRequest.class);
+                    TaskPatchRequest patch = readPatch(objectMapper, edit.getPatch());
+                    process(job, progress, items(job, () -> seriesTaskIds(edit.getRecurrenceGroupId())),
+                            taskId -> taskService.patchTask(taskId, patch));
+                }
+                case EXPORT -> export(job);
+            }
+            finish(job, TaskJob.State.SUCCEEDED, progress.lastError);
+        } catch (JobStoppedException ex) {
+            TaskJob current = jobRepository.findById(id).orElse(null);
+            if (current != null && current.isCancelRequested() && current.getState() == TaskJob.State.RUNNING
+                    && instanceId.equals(current.getOwner())) {
+                finish(job, TaskJob.State.CANCELLED, null);
+            }
+            // Otherwise the job was taken over, or this instance is shutting down.
+        } catch (RuntimeException ex) {
+            if (Thread.currentThread().isInterrupted()) {
+                // Shutting down; the job is queued again when the instance restarts.
+                return;
+            }
+            log.warn("Job {} ({}) failed", id, job.getType(), ex);
+            finish(job, TaskJob.State.FAILED, ex.getMessage());
+        }
+    }
+
+    /**
+     * Works through the items from the job's progress on, one chunk per transaction.
+     */
+    private <T> void process(TaskJob job, Progress progress, List<T> items, Consumer<T> action) {
+        while (progress.processed < items.size()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new JobStoppedException();
+            }
+            int from = progress.processed;
+            int to = Math.min(items.size(), from + chunkSize);
+            try {
+                transactionTemplate.executeWithoutResult(tx -> {
+                    items.subList(from, to).forEach(action);
+                    advance(job, to, progress.failed);
+                });
+                progress.processed = to;
+            } catch (JobStoppedException ex) {
+                throw ex;
+            } catch (RuntimeException ex) {
+                // Redo the chunk item by item and skip the items that fail on their own.
+                for (int i = from; i < to; i++) {
+                    T item = items.get(i);
+                    int next = i + 1;
+                    try {
+                        transactionTemplate.executeWithoutResult(tx -> {
+                            action.accept(item);
+                            advance(job, next, progress.failed);
+                        });
+                    } catch (JobStoppedException stopped) {
+                        throw stopped;
+                    } catch (RuntimeException itemFailure) {
+                        progress.failed++;
+                        progress.lastError = "Item " + next + ": " + itemFailure.getMessage();
+                        transactionTemplate.executeWithoutResult(tx -> advance(job, next, progress.failed));
+                    }
+                    progress.processed = next;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the task IDs the job works through, fixing them on its first run.
+     */
+    private List<Long> items(TaskJob job, Supplier<List<Long>> planner) {
+        if (job.getItems() != null) {
+            return Arrays.asList(objectMapper.readValue(job.getItems(), Long[].class));
+        }
+        List<Long> ids = planner.get();
+        if (jobRepository.plan(job.getId(), instanceId, objectMapper.writeValueAsString(ids), ids.size(),
+                LocalDateTime.now(), TaskJob.State.RUNNING) == 0) {
+            throw new JobStoppedException();
+        }
+        return ids;
+    }
+
+    /**
+     * Reads the DONE column from the store rather than the board cache, whose snapshot can
+     * miss tasks completed in the last app.board.cache.max-stale-ms.
+     */
+    private List<Long> doneTaskIds() {
+        return taskStore.findByDeletedFalseAndStatusInOrderByBoardOrderAscIdAsc(
+                        legacyCompatibility.columnStatuses(Task.Status.DONE)).stream()
+                .map(Task::getId)
+                .toList();
+    }
+
+    private List<Long> seriesTaskIds(String recurrenceGroupId) {
+        return taskService.getSeries(recurrenceGroupId).stream()
+                .map(TaskResponse::getId)
+                .toList();
+    }
+
+    /**
+     * Soft-deletes a task that is still DONE.
+     */
+    private void archive(Long id) {
+        if (Task.Status.DONE.name().equals(taskService.getTaskById(id).getStatus())) {
+            taskService.deleteTask(id);
+        }
+    }
+
+    /**
+     * Reads every active task in ID order, one page per transaction, and stores each page as
+     * one part of the result together with the progress. The total is counted on the first run;
+     * tasks created while the export runs are included when their ID comes after the last page.
+     */
+    private void export(TaskJob job) {
+        if (job.getTotalItems() == null && jobRepository.recordTotal(job.getId(), instanceId,
+                (int) Math.min(Integer.MAX_VALUE, taskService.countActiveTasks()), LocalDateTime.now(),
+                TaskJob.State.RUNNING) == 0) {
+            throw new JobStoppedException();
+        }
+        TaskJobResult last = resultRepository.findTopByJobIdOrderByPartDesc(job.getId()).orElse(null);
+        int part = last == null ? 0 : last.getPart() + 1;
+        long afterId = last == null ? 0 : last.getLastTaskId();
+        int exported = last == null ? 0 : job.getProcessedItems();
+        while (true) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new JobStoppedException();
+            }
+            List<TaskResponse> page = taskService.getTasksAfter(afterId, exportPageSize);
+            if (page.isEmpty()) {
+                return;
+            }
+            TaskJobResult result = new TaskJobResult(job.getId(), part, page.get(page.size() - 1).getId(),
+                    objectMapper.writeValueAsString(page), LocalDateTime.now());
+            int processed = exported + page.size();
+            transactionTemplate.executeWithoutResult(tx -> {
+                resultRepository.save(result);
+                advance(job, processed, 0);
+            });
+            if (page.size() < exportPageSize) {
+                return;
+            }
+            part++;
+            afterId = result.getLastTaskId();
+            exported = processed;
+        }
+    }
+
+    private void advance(TaskJob job, int processed, int failed) {
+        if (jobRepository.advance(job.getId(), instanceId, processed, failed, LocalDateTime.now(),
+                TaskJob.State.RUNNING) == 0) {
+            throw new JobStoppedException();
+        }
+    }
+
+    private void finish(TaskJob job, TaskJob.State state, String error) {
+        if (jobRepository.finish(job.getId(), instanceId, state, truncate(error), LocalDateTime.now(),
+                TaskJob.State.RUNNING) == 0) {
+            return;
+        }
+        Counter.builder("task.jobs.finished")
+                .description("Jobs finished on this instance")
+                .tag("type", job.getType().name())
+                .tag("state", state.name())
+                .register(registry)
+                .increment();
+        log.info("Job {} ({}) finished as {}", job.getId(), job.getType(), state);
+    }
+
+    /**
+     * Reads a JSON Merge Patch the way PATCH /api/tasks/{id} does, keeping which fields were sent.
+     *
+     * @throws IllegalArgumentException when the patch is not a JSON object of task fields
+     */
+    static TaskPatchRequest readPatch(ObjectMapper objectMapper, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("patch must be a JSON object");
+        }
+        try {
+            return objectMapper.treeToValue(patch, TaskPatchRequest.class);
+        } catch (JacksonException ex) {
+            throw new IllegalArgumentException("patch is invalid: " + ex.getOriginalMessage());
+        }
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private List<String> shards() {
+        ShardRouter router = shardRouter.getIfAvailable();
+        return router == null ? List.of(SINGLE_DATABASE) : router.getShardNames();
+    }
+
+    private boolean holds(String shard, String workspaceId) {
+        ShardRouter router = shardRouter.getIfAvailable();
+        return router == null || router.shardFor(workspaceId).equals(shard);
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        ShardRouter router = shardRouter.getIfAvailable();
+        return new JdbcTemplate(router == null ? dataSource : router.getDataSource(shard));
+    }
+
+    private void quietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException ex) {
+            log.warn("Task job poller failed; retrying on the next run", ex);
+        }
+    }
+
+    private record Claimed(String id, String workspaceId) {
+    }
+
+    private static final class Progress {
+
+        private int processed;
+        private int failed;
+        private String lastError;
+
+        Progress(int processed, int failed) {
+            this.processed = processed;
+            this.failed = failed;
+        }
+    }
+
+    /**
+     * The job was cancelled or is no longer this instance's; the current chunk rolls back.
+     */
+    private static final class JobStoppedException extends RuntimeException {
+
+        JobStoppedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Dto.TaskImportRequest;
+import com.decena.task.Dto.TaskJobResponse;
+import com.decena.task.Dto.TaskPatchRequest;
+import com.decena.task.Dto.TaskSeriesEditRequest;
+import com.decena.task.Entity.TaskJob;
+import com.decena.task.Exception.ResourceNotFoundException;
+import com.decena.task.Exception.ServiceOverloadedException;
+import com.decena.task.Repository.TaskJobRepository;
+import com.decena.task.Repository.TaskJobResultRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Submits, reads and cancels background jobs of the current workspace; TaskJobRunner runs
+ * them. Submissions are refused with 503 once app.jobs.max-queued jobs wait, so clients back
+ * off instead of piling up work.
+ */
+@Service
+public class TaskJobService {
+
+    private static final List<TaskJob.State> UNFINISHED = List.of(TaskJob.State.QUEUED, TaskJob.State.RUNNING);
+
+    private final TaskJobRepository jobRepository;
+    private final TaskJobResultRepository resultRepository;
+    private final TaskJobRunner runner;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxQueued;
+
+    public TaskJobService(
+            TaskJobRepository jobRepository,
+            TaskJobResultRepository resultRepository,
+            TaskJobRunner runner,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${app.jobs.max-queued:100}") int maxQueued) {
+        this.jobRepository = jobRepository;
+        this.resultRepository = resultRepository;
+        this.runner = runner;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Queues creating the given tasks in order.
+     *
+     * @param request tasks to create
+     * @return queued job
+     * @throws ServiceOverloadedException when too many jobs are queued
+     */
+    public TaskJobResponse submitImport(TaskImportRequest request) {
+        return submit(TaskJob.Type.IMPORT, objectMapper.writeValueAsString(request.getTasks()),
+                request.getTasks().size());
+    }
+
+    /**
+     * Queues reading every active task into a JSON array, available from
+     * {@link #writeResult(String, OutputStream)} once the job succeeded.
+     *
+     * @return queued job
+     * @throws ServiceOverloadedException when too many jobs are queued
+     */
+    public TaskJobResponse submitExport() {
+        return submit(TaskJob.Type.EXPORT, "{}", null);
+    }
+
+    /**
+     * Queues soft-deleting every task of the DONE column.
+     *
+     * @return queued job
+     * @throws ServiceOverloadedException when too many jobs are queued
+     */
+    public TaskJobResponse submitArchive() {
+        return submit(TaskJob.Type.ARCHIVE, "{}", null);
+    }
+
+    /**
+     * Queues applying one merge patch to every active task of a recurring series.
+     *
+     * @param request series and patch
+     * @return queued job
+     * @throws IllegalArgumentException when the patch is not a valid task patch
+     * @throws ServiceOverloadedException when too many jobs are queued
+     */
+    public TaskJobResponse submitSeriesEdit(TaskSeriesEditRequest request) {
+        TaskPatchRequest patch = TaskJobRunner.readPatch(objectMapper, request.getPatch());
+        Set<ConstraintViolation<TaskPatchRequest>> violations = validator.validate(patch);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return submit(TaskJob.Type.SERIES_EDIT, objectMapper.writeValueAsString(request), null);
+    }
+
+    /**
+     * Reads one job.
+     *
+     * @param id job ID
+     * @return job state and progress
+     * @throws ResourceNotFoundException when the workspace has no such job
+     */
+    public TaskJobResponse getJob(String id) {
+        return toResponse(findJob(id));
+    }
+
+    /**
+     * Reads the most recent jobs.
+     *
+     * @return up to 50 jobs, newest first
+     */
+    public List<TaskJobResponse> getRecentJobs() {
+        return jobRepository.findTop50ByWorkspaceIdOrderByCreatedAtDesc(WorkspaceContext.current()).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * Writes the output of a succeeded export as one JSON array, reading one stored part at a
+     * time so the export is never held in memory as a whole.
+     *
+     * @param id job ID
+     * @param out destination, left open
+     * @throws ResourceNotFoundException when the job does not exist or has no output; nothing
+     *         has been written then
+     * @throws IOException when writing fails
+     */
+    public void writeResult(String id, OutputStream out) throws IOException {
+        TaskJob job = findJob(id);
+        if (job.getType() != TaskJob.Type.EXPORT || job.getState() != TaskJob.State.SUCCEEDED) {
+            throw new ResourceNotFoundException("Job has no result: " + id);
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('[');
+        for (int part = 0; ; part++) {
+            String tasks = resultRepository.findContent(job.getId(), part).orElse(null);
+            if (tasks == null) {
+                break;
+            }
+            // Every part is a non-empty JSON array; its elements go into the combined one.
+            if (part > 0) {
+                writer.write(',');
+            }
+            writer.write(tasks, 1, tasks.length() - 2);
+        }
+        writer.write(']');
+        writer.flush();
+    }
+
+    /**
+     * Cancels a job. A queued job is cancelled at once, a running one at its next chunk;
+     * chunks already committed stay done. Finished jobs are left as they are.
+     *
+     * @param id job ID
+     * @return job after the request
+     * @throws ResourceNotFoundException when the workspace has no such job
+     */
+    public TaskJobResponse cancel(String id) {
+        findJob(id);
+        if (jobRepository.requestCancel(id, UNFINISHED) > 0) {
+            jobRepository.cancelQueued(id, LocalDateTime.now(), TaskJob.State.QUEUED, TaskJob.State.CANCELLED);
+        }
+        return toResponse(findJob(id));
+    }
+
+    private TaskJobResponse submit(TaskJob.Type type, String payload, Integer totalItems) {
+        if (jobRepository.countByState(TaskJob.State.QUEUED) >= maxQueued) {
+            throw new ServiceOverloadedException("Too many jobs are queued", 5);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        TaskJob job = jobRepository.save(TaskJob.builder()
+                .id(UUID.randomUUID().toString())
+                .workspaceId(WorkspaceContext.current())
+                .type(type)
+                .state(TaskJob.State.QUEUED)
+                .payload(payload)
+                .totalItems(totalItems)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        runner.wake();
+        return toResponse(job);
+    }
+
+    private TaskJob findJob(String id) {
+        return jobRepository.findByIdAndWorkspaceId(id, WorkspaceContext.current())
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
+    }
+
+    private TaskJobResponse toResponse(TaskJob job) {
+        return TaskJobResponse.builder()
+                .id(job.getId())
+                .type(job.getType().name())
+                .state(job.getState().name())
+                .totalItems(job.getTotalItems())
+                .processedItems(job.getProcessedItems())
+                .failedItems(job.getFailedItems())
+                .error(job.getError())
+                .cancelRequested(job.isCancelRequested())
+                .hasResult(job.getType() == TaskJob.Type.EXPORT && job.getState() == TaskJob.State.SUCCEEDED)
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
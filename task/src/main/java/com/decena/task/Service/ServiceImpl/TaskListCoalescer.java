@@ -0,0 +1,172 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.decena.task.Config.ReplicaRoutingDataSource;
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Exception.ServiceOverloadedException;
+import com.decena.task.Service.TaskService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Single-flight for the task list: concurrent identical list requests share one query and
+ * one serialized JSON body.
+ * <p>
+ * Requests are identical when workspace, page, size, the sort actually applied and the
+ * replica routing match. The first one runs the query and serializes the page; requests
+ * arriving while it runs wait for its bytes. A committed change to the workspace detaches
+ * running queries, so a request made after a write never joins a query started before it.
+ * <p>
+ * The list endpoint's bulkhead (app.limits.endpoint.getAllTasks.*) is applied here, to the
+ * queries: requests waiting for a running query hold no slot.
+ */
+@Service
+public class TaskListCoalescer {
+
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Semaphore querySlots;
+    private final long queueTimeoutMillis;
+    private final ConcurrentHashMap<ListKey, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+
+    public TaskListCoalescer(
+            TaskService taskService,
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            @Value("${app.tasks.list.coalescing.enabled:true}") boolean enabled,
+            @Value("${app.limits.enabled:true}") boolean limitsEnabled,
+            @Value("${app.limits.endpoint.getAllTasks.max-concurrent:0}") int maxConcurrentQueries,
+            @Value("${app.limits.endpoint.getAllTasks.queue-timeout-ms:${app.limits.queue-timeout-ms:100}}")
+            long queueTimeoutMillis) {
+        this.taskService = taskService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.querySlots = limitsEnabled && maxConcurrentQueries > 0 ? new Semaphore(maxConcurrentQueries, true) : null;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.leaders = requests(registry, "leader");
+        this.followers = requests(registry, "follower");
+        Gauge.builder("task.list.coalescing.ratio", this, TaskListCoalescer::coalescingRatio)
+                .description("Share of list requests answered by another request's query")
+                .register(registry);
+    }
+
+    /**
+     * Returns one page of active tasks as a JSON array.
+     *
+     * @param page page number
+     * @param size page size
+     * @param sortBy sort field; unknown fields sort by dateCreated
+     * @param sortDir "asc", anything else sorts descending
+     * @return serialized page; shared between requests and must not be modified
+     * @throws IllegalArgumentException when page or size is invalid
+     * @throws ServiceOverloadedException when app.limits.endpoint.getAllTasks.max-concurrent queries are running
+     */
+    public byte[] getAllTasks(int page, int size, String sortBy, String sortDir) {
+        ListKey key = new ListKey(WorkspaceContext.current(), ReplicaRoutingDataSource.isPrimaryRequired(), page,
+                size, TaskServiceImpl.normalizeSortBy(sortBy), TaskServiceImpl.normalizeSortDir(sortDir));
+        if (!enabled) {
+            return query(key);
+        }
+
+        CompletableFuture<byte[]> flight = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            followers.increment();
+            return await(running);
+        }
+        leaders.increment();
+        try {
+            byte[] body = query(key);
+            flight.complete(body);
+            return body;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Detaches running queries of a changed workspace; their waiting requests still get them.
+     */
+    @EventListener
+    public void onTaskChange(TaskChangeNotification notification) {
+        inFlight.keySet().removeIf(key -> key.workspaceId().equals(notification.workspaceId()));
+    }
+
+    /**
+     * Runs one list query within the list bulkhead. Only queries take a slot; requests waiting
+     * for a running query hold neither a slot nor a connection.
+     */
+    private byte[] query(ListKey key) {
+        if (querySlots == null) {
+            return serialize(key);
+        }
+        try {
+            if (!querySlots.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ServiceOverloadedException("Too many task list queries are running", 1);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Interrupted while waiting for a task list query slot", 1);
+        }
+        try {
+            return serialize(key);
+        } finally {
+            querySlots.release();
+        }
+    }
+
+    private byte[] serialize(ListKey key) {
+        return objectMapper.writeValueAsBytes(taskService.getAllTasks(key.page(), key.size(), key.sortBy(),
+                key.sortDir().name()));
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private double coalescingRatio() {
+        double joined = followers.count();
+        double total = joined + leaders.count();
+        return total == 0 ? 0 : joined / total;
+    }
+
+    private static Counter requests(MeterRegistry registry, String role) {
+        return Counter.builder("task.list.requests")
+                .description("Task list requests by whether they ran the query or joined a running one")
+                .tag("role", role)
+                .register(registry);
+    }
+
+    private record ListKey(String workspaceId, boolean primary, int page, int size, String sortBy,
+            Sort.Direction sortDir) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.decena.task.Service.ServiceImpl;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Domain counters for task lifecycle events.
+ * Counters are registered once and incremented lock-free on the hot path.
+ */
+@Component
+public class TaskMetrics {
+
+    private final Counter created;
+    private final Counter completed;
+    private final Counter recurringSpawned;
+
+    public TaskMetrics(MeterRegistry registry) {
+        this.created = Counter.builder("tasks.creations")
+                .description("Tasks created through the API")
+                .register(registry);
+        this.completed = Counter.builder("tasks.completions")
+                .description("Tasks moved to DONE")
+                .register(registry);
+        this.recurringSpawned = Counter.builder("tasks.recurring.spawned")
+                .description("Next occurrences generated for recurring tasks")
+                .register(registry);
+    }
+
+    /**
+     * Records one created task.
+     */
+    public void taskCreated() {
+        created.increment();
+    }
+
+    /**
+     * Records completed tasks.
+     *
+     * @param count number of tasks moved to DONE
+     */
+    public void tasksCompleted(int count) {
+        if (count > 0) {
+            completed.increment(count);
+        }
+    }
+
+    /**
+     * Records generated recurring occurrences.
+     *
+     * @param count number of spawned tasks
+     */
+    public void recurringSpawned(int count) {
+        if (count > 0) {
+            recurringSpawned.increment(count);
+        }
+    }
+}
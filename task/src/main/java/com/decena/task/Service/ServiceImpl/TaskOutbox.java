@@ -0,0 +1,105 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Entity.Task;
+import com.decena.task.Entity.TaskOutboxEvent;
+import com.decena.task.Repository.TaskOutboxRepository;
+
+/**
+ * Records task changes for other instances and in-process listeners.
+ * <p>
+ * Every change is published as a local {@link TaskChangeNotification} after the surrounding
+ * transaction commits. With app.outbox.enabled=true it is also inserted into the outbox table
+ * in that same transaction, so it reaches the other replicas exactly when the change itself
+ * becomes visible: {@link TaskOutboxRelay} polls the table on every instance.
+ */
+@Service
+public class TaskOutbox {
+
+    private final TaskOutboxRepository repository;
+    private final ApplicationEventPublisher publisher;
+    private final boolean enabled;
+    private final String instanceId;
+
+    public TaskOutbox(
+            TaskOutboxRepository repository,
+            ApplicationEventPublisher publisher,
+            @Value("${app.outbox.enabled:false}") boolean enabled,
+            @Value("${app.instance-id:}") String instanceId) {
+        this.repository = repository;
+        this.publisher = publisher;
+        this.enabled = enabled;
+        this.instanceId = instanceId.isBlank() ? "instance-" + UUID.randomUUID() : instanceId;
+    }
+
+    /**
+     * Name of this instance in outbox rows and relay positions.
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Records a change of the current workspace's tasks.
+     *
+     * @param type kind of change
+     * @param tasks changed tasks, after the change
+     * @param statuses columns the tasks left or entered; null entries are ignored
+     */
+    public void record(TaskOutboxEvent.Type type, Collection<Task> tasks, Task.Status... statuses) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<Long> taskIds = new ArrayList<>(tasks.size());
+        Set<Task.Status> columns = EnumSet.noneOf(Task.Status.class);
+        for (Task task : tasks) {
+            taskIds.add(task.getId());
+            if (task.getStatus() != null) {
+                columns.add(task.getStatus());
+            }
+        }
+        for (Task.Status status : statuses) {
+            if (status != null) {
+                columns.add(status);
+            }
+        }
+        TaskChangeNotification notification =
+                new TaskChangeNotification(WorkspaceContext.current(), type, taskIds, columns, true);
+
+        if (enabled) {
+            repository.save(TaskOutboxEvent.builder()
+                    .workspaceId(notification.workspaceId())
+                    .type(type)
+                    .taskIds(taskIds.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                    .statuses(columns.stream().map(Enum::name).collect(Collectors.joining(",")))
+                    .origin(instanceId)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publisher.publishEvent(notification);
+                }
+            });
+        } else {
+            publisher.publishEvent(notification);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.decena.task.Config.ShardRouter;
+import com.decena.task.Entity.Task;
+import com.decena.task.Entity.TaskOutboxEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers outbox rows written by other instances as local {@link TaskChangeNotification}s.
+ * <p>
+ * Every instance polls the outbox of every shard in keyset batches ({@code id > position}).
+ * Identity values are taken at insert but become visible at commit, so a lower ID can appear
+ * after a higher one was read: the position only advances over contiguous IDs, and a gap is
+ * skipped once it is older than app.outbox.gap-timeout-ms (a rolled-back insert never fills it).
+ * <p>
+ * Each instance records its position in task_outbox_consumers. Rows up to the lowest position
+ * of the instances seen within app.outbox.consumer-timeout-ms are deleted in batches; instances
+ * that stopped reporting no longer hold rows back.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true")
+public class TaskOutboxRelay {
+
+    private static final String SINGLE_DATABASE = "primary";
+
+    private final ObjectProvider<ShardRouter> shardRouter;
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher publisher;
+    private final String instanceId;
+    private final long pollMillis;
+    private final int batchSize;
+    private final long gapTimeoutMillis;
+    private final long consumerTimeoutMillis;
+    private final long pruneMillis;
+    private final Counter delivered;
+    private final Counter pruned;
+    private final Timer lag;
+
+    private final Map<String, Position> positions = new LinkedHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public TaskOutboxRelay(
+            ObjectProvider<ShardRouter> shardRouter,
+            DataSource dataSource,
+            ApplicationEventPublisher publisher,
+            TaskOutbox outbox,
+            MeterRegistry registry,
+            @Value("${app.outbox.poll-ms:200}") long pollMillis,
+            @Value("${app.outbox.batch-size:500}") int batchSize,
+            @Value("${app.outbox.gap-timeout-ms:5000}") long gapTimeoutMillis,
+            @Value("${app.outbox.consumer-timeout-ms:60000}") long consumerTimeoutMillis,
+            @Value("${app.outbox.prune-ms:10000}") long pruneMillis) {
+        this.shardRouter = shardRouter;
+        this.dataSource = dataSource;
+        this.publisher = publisher;
+        this.instanceId = outbox.getInstanceId();
+        this.pollMillis = pollMillis;
+        this.batchSize = batchSize;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.consumerTimeoutMillis = consumerTimeoutMillis;
+        this.pruneMillis = pruneMillis;
+        this.delivered = Counter.builder("task.outbox.delivered")
+                .description("Outbox rows of other instances delivered to local listeners")
+                .register(registry);
+        this.pruned = Counter.builder("task.outbox.pruned")
+                .description("Outbox rows deleted after every live instance read them")
+                .register(registry);
+        this.lag = Timer.builder("task.outbox.lag")
+                .description("Time from writing an outbox row to delivering it on this instance")
+                .register(registry);
+    }
+
+    /**
+     * Starts after the schema exists; positions start at the current end of each outbox, as
+     * a starting instance has nothing cached yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (String shard : shards()) {
+            Long end = jdbc(shard).queryForObject("SELECT COALESCE(MAX(id), 0) FROM task_outbox", Long.class);
+            positions.put(shard, new Position(end));
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "task-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> quietly(this::poll), pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(() -> quietly(this::prune), pruneMillis, pruneMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads and delivers new rows of every shard and reports this instance's positions.
+     */
+    public synchronized void poll() {
+        for (Map.Entry<String, Position> entry : positions.entrySet()) {
+            JdbcTemplate jdbc = jdbc(entry.getKey());
+            Position position = entry.getValue();
+            List<Row> rows;
+            do {
+                rows = jdbc.query(
+                        "SELECT id, workspace_id, type, task_ids, statuses, origin, created_at FROM task_outbox "
+                                + "WHERE id > ? ORDER BY id LIMIT ?",
+                        (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("workspace_id"), rs.getString("type"),
+                                rs.getString("task_ids"), rs.getString("statuses"), rs.getString("origin"),
+                                rs.getTimestamp("created_at")),
+                        position.lastId, batchSize);
+                int fresh = 0;
+                for (Row row : rows) {
+                    if (position.seen.add(row.id())) {
+                        deliver(row);
+                        fresh++;
+                    }
+                }
+                position.advance(System.currentTimeMillis(), gapTimeoutMillis);
+                if (fresh == 0) {
+                    break;
+                }
+            } while (rows.size() == batchSize);
+            report(jdbc, position);
+        }
+    }
+
+    /**
+     * Deletes rows every live instance has read.
+     */
+    public synchronized void prune() {
+        LocalDateTime liveSince = LocalDateTime.now().minus(Duration.ofMillis(consumerTimeoutMillis));
+        for (String shard : positions.keySet()) {
+            JdbcTemplate jdbc = jdbc(shard);
+            jdbc.update("DELETE FROM task_outbox_consumers WHERE seen_at < ?", Timestamp.valueOf(liveSince));
+            Long delivered = jdbc.queryForObject("SELECT MIN(last_id) FROM task_outbox_consumers", Long.class);
+            if (delivered == null) {
+                continue;
+            }
+            while (true) {
+                List<Long> ids = jdbc.queryForList("SELECT id FROM task_outbox WHERE id <= ? ORDER BY id LIMIT ?",
+                        Long.class, delivered, batchSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                pruned.increment(jdbc.update("DELETE FROM task_outbox WHERE id >= ? AND id <= ?",
+                        ids.get(0), ids.get(ids.size() - 1)));
+            }
+        }
+    }
+
+    private void deliver(Row row) {
+        if (instanceId.equals(row.origin())) {
+            // Published locally right after the writing transaction committed.
+            return;
+        }
+        Set<Task.Status> statuses = EnumSet.noneOf(Task.Status.class);
+        if (!row.statuses().isEmpty()) {
+            Arrays.stream(row.statuses().split(",")).map(Task.Status::valueOf).forEach(statuses::add);
+        }
+        List<Long> taskIds = Arrays.stream(row.taskIds().split(",")).map(Long::valueOf).toList();
+        publisher.publishEvent(new TaskChangeNotification(row.workspaceId(),
+                TaskOutboxEvent.Type.valueOf(row.type()), taskIds, statuses, false));
+        delivered.increment();
+        lag.record(Math.max(0, System.currentTimeMillis() - row.createdAt().getTime()), TimeUnit.MILLISECONDS);
+    }
+
+    private void report(JdbcTemplate jdbc, Position position) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbc.update("UPDATE task_outbox_consumers SET last_id = ?, seen_at = ? WHERE instance_id = ?",
+                position.lastId, now, instanceId) > 0) {
+            return;
+        }
+        try {
+            jdbc.update("INSERT INTO task_outbox_consumers (instance_id, last_id, seen_at) VALUES (?, ?, ?)",
+                    instanceId, position.lastId, now);
+        } catch (DuplicateKeyException ex) {
+            // Pruned and re-created concurrently; the next poll updates it.
+        }
+    }
+
+    private List<String> shards() {
+        ShardRouter router = shardRouter.getIfAvailable();
+        return router == null ? List.of(SINGLE_DATABASE) : router.getShardNames();
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        ShardRouter router = shardRouter.getIfAvailable();
+        return new JdbcTemplate(router == null ? dataSource : router.getDataSource(shard));
+    }
+
+    private void quietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException ex) {
+            log.warn("Task outbox relay failed; retrying on the next run", ex);
+        }
+    }
+
+    private record Row(long id, String workspaceId, String type, String taskIds, String statuses, String origin,
+            Timestamp createdAt) {
+    }
+
+    /**
+     * Relay position in one outbox: everything up to lastId is delivered, plus the IDs in seen.
+     */
+    private static final class Position {
+
+        private long lastId;
+        private final TreeSet<Long> seen = new TreeSet<>();
+        private long gapSince;
+
+        Position(long lastId) {
+            this.lastId = lastId;
+        }
+
+        void advance(long now, long gapTimeoutMillis) {
+            while (!seen.isEmpty()) {
+                if (seen.first() == lastId + 1) {
+                    lastId = seen.pollFirst();
+                    gapSince = 0;
+                } else if (gapSince == 0) {
+                    gapSince = now;
+                    return;
+                } else if (now - gapSince >= gapTimeoutMillis) {
+                    lastId = seen.first() - 1;
+                    gapSince = 0;
+                } else {
+                    return;
+                }
+            }
+        }
+    }
+}
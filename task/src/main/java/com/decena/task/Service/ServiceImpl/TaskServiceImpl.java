@@ -1,40 +1,66 @@
 package com.decena.task.Service.ServiceImpl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.decena.task.Config.LegacyCompatibility;
+import com.decena.task.Dto.TaskBoardColumnResponse;
 import com.decena.task.Dto.TaskBoardReorderRequest;
+import com.decena.task.Dto.TaskBulkRestoreRequest;
+import com.decena.task.Dto.TaskBulkStatusRequest;
+import com.decena.task.Dto.TaskPatchRequest;
 import com.decena.task.Dto.TaskRequest;
 import com.decena.task.Dto.TaskResponse;
 import com.decena.task.Dto.TaskStatusUpdateRequest;
 import com.decena.task.Entity.Task;
+import com.decena.task.Entity.TaskOutboxEvent;
 import com.decena.task.Exception.ResourceNotFoundException;
 import com.decena.task.Exception.TaskAlreadyDeletedException;
+import com.decena.task.Instrumentation.BoardReorderEvent;
+import com.decena.task.Instrumentation.RecurrenceGenerationEvent;
+import com.decena.task.Instrumentation.TaskFlightRecorder;
 import com.decena.task.Mapper.TaskMapper;
-import com.decena.task.Repository.TaskRepository;
+import com.decena.task.Repository.TaskStore;
 import com.decena.task.Service.TaskService;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(timeoutString = "${app.limits.timeout.default-seconds:5}")
+@Timed(value = "task.service", description = "Task service operation latency")
 public class TaskServiceImpl implements TaskService {
 
-    private final TaskRepository taskRepository;
+    private final TaskStore taskRepository;
     private final TaskMapper taskMapper;
     private final RecurrenceService recurrenceService;
+    private final LegacyCompatibility legacyCompatibility;
+    private final BoardWriteBehindQueue writeBehindQueue;
+    private final BoardLockManager boardLockManager;
+    private final TaskMetrics taskMetrics;
+    private final TaskOutbox taskOutbox;
+    private final BoardColumnCache boardColumnCache;
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of("deadline", "priority", "status", "dateCreated");
+    // Columns a restored task can land in; its column is only known after loading it.
+    private static final Task.Status[] RESTORE_COLUMNS = {Task.Status.TODO, Task.Status.IN_PROGRESS, Task.Status.DONE};
 
     /**
      * Creates a new task.
@@ -44,6 +70,7 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public TaskResponse createTask(TaskRequest request) {
+        flushPendingBoardWrites();
         Task entity = taskMapper.toEntity(request);
         // Ensure dateCreated exists before validating deadline
         if (entity.getDateCreated() == null) {
@@ -54,12 +81,16 @@ public class TaskServiceImpl implements TaskService {
         }
         normalizeRecurrenceDefaults(entity);
         validateRecurrence(entity);
+        boardLockManager.lockColumns(entity.getStatus());
         if (entity.getBoardOrder() == null) {
             entity.setBoardOrder(nextBoardOrder(entity.getStatus()));
         }
         // Validate/set deadline (not past, not before dateCreated)
         entity.updateDeadline(entity.getDeadline());
         Task saved = taskRepository.save(entity);
+        taskOutbox.record(TaskOutboxEvent.Type.CREATED, List.of(saved));
+        taskMetrics.taskCreated();
+        TaskFlightRecorder.rowsTouched(1);
         return taskMapper.toResponse(saved);
     }
 
@@ -73,16 +104,32 @@ public class TaskServiceImpl implements TaskService {
     
 
 @Override
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, timeoutString = "${app.limits.timeout.list-seconds:5}")
 public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String sortDir) {
-    String safeSortBy = (sortBy != null && ALLOWED_SORT_FIELDS.contains(sortBy)) ? sortBy : "dateCreated";
-    Sort.Direction dir = "asc".equalsIgnoreCase(sortDir) ? Sort.Direction.ASC : Sort.Direction.DESC;
-
-    return taskRepository.findByDeletedFalse(PageRequest.of(page, size, Sort.by(dir, safeSortBy)))
+    List<TaskResponse> responses = taskRepository.findByDeletedFalse(
+                    PageRequest.of(page, size, Sort.by(normalizeSortDir(sortDir), normalizeSortBy(sortBy))))
             .map(taskMapper::toResponse)
             .getContent();
+    if (writeBehindQueue.isEnabled()) {
+        responses.forEach(writeBehindQueue::applyPending);
+    }
+    return responses;
 }
 
+    /**
+     * Returns the list sort field actually used: unknown fields fall back to dateCreated.
+     */
+    static String normalizeSortBy(String sortBy) {
+        return (sortBy != null && ALLOWED_SORT_FIELDS.contains(sortBy)) ? sortBy : "dateCreated";
+    }
+
+    /**
+     * Returns the list sort direction actually used: anything but "asc" sorts descending.
+     */
+    static Sort.Direction normalizeSortDir(String sortDir) {
+        return "asc".equalsIgnoreCase(sortDir) ? Sort.Direction.ASC : Sort.Direction.DESC;
+    }
+
     /**
      * Retrieves a single active task by ID.
      *
@@ -91,9 +138,11 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
      * @throws ResourceNotFoundException if task not found
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = "${app.limits.timeout.by-id-seconds:2}")
     public TaskResponse getTaskById(Long id) {
-        return taskMapper.toResponse(findActiveTask(id));
+        TaskResponse response = taskMapper.toResponse(findActiveTask(id));
+        writeBehindQueue.applyPending(response);
+        return response;
     }
 
     /**
@@ -105,11 +154,13 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
      */
     @Override
     public TaskResponse updateTask(Long id, TaskRequest request) {
+        flushPendingBoardWrites();
+        Task.Status requestedStatus = request.getStatus() != null ? parseStatus(request.getStatus()) : null;
+        boardLockManager.lockColumns(requestedStatus);
         // Fetch existing non-deleted task
         Task task = findActiveTask(id);
         normalizeLegacyStatus(task);
         Task.Status previousStatus = task.getStatus();
-        Task.Status requestedStatus = request.getStatus() != null ? parseStatus(request.getStatus()) : null;
         // Map updatable fields from request -> entity (excluding deadline logic)
         taskMapper.updateEntity(request, task);
         normalizeLegacyStatus(task);
@@ -123,10 +174,49 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
         task.updateDeadline(request.getDeadline());
         // Persist changes
         Task saved = taskRepository.save(task);
+        taskOutbox.record(TaskOutboxEvent.Type.UPDATED, List.of(saved), previousStatus);
+        TaskFlightRecorder.rowsTouched(1);
+        recordCompletion(previousStatus, saved.getStatus());
         // Convert entity -> response DTO
         return taskMapper.toResponse(saved);
     }
 
+    /**
+     * Applies a JSON Merge Patch to an existing task.
+     * Relies on dynamic updates so only modified columns are written,
+     * and skips the save entirely when nothing changed.
+     *
+     * @param id task ID
+     * @param patch merge patch payload
+     * @return current task response
+     */
+    @Override
+    public TaskResponse patchTask(Long id, TaskPatchRequest patch) {
+        flushPendingBoardWrites();
+        Task.Status requestedStatus = patch.has("status") && patch.getStatus() != null ? parseStatus(patch.getStatus()) : null;
+        boardLockManager.lockColumns(requestedStatus);
+        Task task = findActiveTask(id);
+        Task.Status previousStatus = task.getStatus();
+        enforceDoneStatusLock(previousStatus, requestedStatus);
+
+        if (!taskMapper.applyPatch(patch, task)) {
+            return taskMapper.toResponse(task);
+        }
+
+        normalizeRecurrenceDefaults(task);
+        validateRecurrence(task);
+        boolean statusChanged = previousStatus != task.getStatus();
+        if ((statusChanged && patch.getBoardOrder() == null) || task.getBoardOrder() == null) {
+            task.setBoardOrder(nextBoardOrder(task.getStatus()));
+        }
+
+        Task saved = taskRepository.save(task);
+        taskOutbox.record(TaskOutboxEvent.Type.UPDATED, List.of(saved), previousStatus);
+        TaskFlightRecorder.rowsTouched(1);
+        recordCompletion(previousStatus, saved.getStatus());
+        return taskMapper.toResponse(saved);
+    }
+
     /**
      * Soft deletes a task.
      *
@@ -134,6 +224,7 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
      */
     @Override
     public void deleteTask(Long id) {
+        flushPendingBoardWrites();
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + id));
 
@@ -143,6 +234,8 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
 
         task.setDeleted(true);
         taskRepository.save(task);
+        taskOutbox.record(TaskOutboxEvent.Type.DELETED, List.of(task));
+        TaskFlightRecorder.rowsTouched(1);
     }
 
     /**
@@ -155,6 +248,8 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
      */
     @Override
     public TaskResponse restoreTask(Long id) {
+        flushPendingBoardWrites();
+        boardLockManager.lockColumns(RESTORE_COLUMNS);
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + id));
 
@@ -165,10 +260,12 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
         normalizeLegacyStatus(task);
         task.setDeleted(false);
         if (task.getBoardOrder() == null) {
-            task.setBoardOrder(nextBoardOrder(task.getStatus() == null ? Task.Status.TODO : task.getStatus()));
+            task.setBoardOrder(nextBoardOrder(restoreColumn(task.getStatus())));
         }
 
         Task saved = taskRepository.save(task);
+        taskOutbox.record(TaskOutboxEvent.Type.RESTORED, List.of(saved));
+        TaskFlightRecorder.rowsTouched(1);
         return taskMapper.toResponse(saved);
     }
 
@@ -180,9 +277,17 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
      */
     @Override
     public TaskResponse markTaskAsCompleted(Long id) {
+        flushPendingBoardWrites();
+        // A recurring task spawns its next occurrence at the TODO tail.
+        boardLockManager.lockColumns(Task.Status.TODO);
         Task task = findActiveTask(id);
+        Task.Status previousStatus = task.getStatus();
         task.markAsCompleted();
         Task saved = taskRepository.save(task);
+        taskOutbox.record(TaskOutboxEvent.Type.COMPLETED, List.of(saved), previousStatus);
+        taskMetrics.tasksCompleted(1);
+        TaskFlightRecorder.transition(previousStatus, saved.getStatus());
+        TaskFlightRecorder.rowsTouched(1);
         maybeCreateNextRecurringTask(saved);
         return taskMapper.toResponse(saved);
     }
@@ -195,7 +300,7 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
      * @return list of deleted tasks
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = "${app.limits.timeout.list-seconds:5}")
     public List<TaskResponse> getDeletedTasks(int page, int size) {
         return taskRepository.findAllByDeletedTrue(PageRequest.of(page, size))
                 .map(taskMapper::toResponse)
@@ -228,12 +333,25 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
      */
     @Override
     public TaskResponse updateTaskStatus(Long id, TaskStatusUpdateRequest request) {
+        Task.Status targetStatus = parseStatus(request.getStatus());
+        // Lock before loading so the column tail is never read from a stale cached entity.
+        boardLockManager.lockColumns(targetStatus);
         Task task = findActiveTask(id);
         normalizeLegacyStatus(task);
-        Task.Status previousStatus = task.getStatus();
-        Task.Status targetStatus = parseStatus(request.getStatus());
+        Task.Status previousStatus = effectiveStatus(task);
         enforceDoneStatusLock(previousStatus, targetStatus);
 
+        if (writeBehindQueue.isEnabled()) {
+            long order = request.getBoardOrder() != null && request.getBoardOrder() > 0
+                    ? request.getBoardOrder()
+                    : writeBehindQueue.reserveOrder(targetStatus, nextBoardOrder(targetStatus));
+            writeBehindQueue.enqueueMove(id, targetStatus, order);
+            recordCompletion(previousStatus, targetStatus);
+            TaskResponse response = taskMapper.toResponse(task);
+            writeBehindQueue.applyPending(response);
+            return response;
+        }
+
         task.setStatus(targetStatus);
         if (request.getBoardOrder() != null && request.getBoardOrder() > 0) {
             task.setBoardOrder(request.getBoardOrder());
@@ -242,16 +360,22 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
         }
 
         Task saved = taskRepository.save(task);
+        taskOutbox.record(TaskOutboxEvent.Type.STATUS_CHANGED, List.of(saved), previousStatus);
+        TaskFlightRecorder.rowsTouched(1);
+        recordCompletion(previousStatus, targetStatus);
         return taskMapper.toResponse(saved);
     }
 
     /**
-     * Reorders a full Kanban column using incoming task IDs.
+     * Reorders a Kanban column using incoming task IDs.
+     * The request may list only part of the column, as a filtered or partly loaded board
+     * does: the listed tasks take their new order and the others keep their places.
      *
      * @param request reorder payload
      * @throws IllegalArgumentException if request contains invalid IDs or status mismatch
      */
     @Override
+    @Transactional(timeoutString = "${app.limits.timeout.bulk-seconds:15}")
     public void reorderBoard(TaskBoardReorderRequest request) {
         if (request.getOrderedTaskIds() == null || request.getOrderedTaskIds().isEmpty()) {
             throw new IllegalArgumentException("orderedTaskIds must not be empty");
@@ -263,6 +387,9 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
         }
 
         Task.Status status = parseStatus(request.getStatus());
+        BoardReorderEvent event = new BoardReorderEvent();
+        event.begin();
+        boardLockManager.lockColumns(status);
         List<Task> tasks = taskRepository.findByIdInAndDeletedFalse(request.getOrderedTaskIds());
         if (tasks.size() != request.getOrderedTaskIds().size()) {
             throw new IllegalArgumentException("orderedTaskIds contains unknown task IDs");
@@ -270,18 +397,289 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
 
         for (Task task : tasks) {
             normalizeLegacyStatus(task);
-            if (task.getStatus() != status) {
+            if (effectiveStatus(task) != status) {
                 throw new IllegalArgumentException("All tasks must belong to status " + status.name());
             }
         }
 
-        Map<Long, Task> byId = tasks.stream().collect(Collectors.toMap(Task::getId, t -> t));
+        event.status = status.name();
+        event.tasks = tasks.size();
+        if (writeBehindQueue.isEnabled()) {
+            writeBehindQueue.enqueueReorder(status, request.getOrderedTaskIds());
+            event.deferred = true;
+            event.commit();
+            return;
+        }
+
+        List<Task> column = taskRepository.findByDeletedFalseAndStatusInOrderByBoardOrderAscIdAsc(
+                legacyCompatibility.columnStatuses(status));
+        column.forEach(this::normalizeLegacyStatus);
+        List<Task> changed = mergeColumnOrder(column, request.getOrderedTaskIds());
+        taskRepository.saveAll(changed);
+        taskOutbox.record(TaskOutboxEvent.Type.REORDERED, changed, status);
+        TaskFlightRecorder.rowsTouched(changed.size());
+        event.commit();
+    }
+
+    /**
+     * Puts the listed tasks of a column in the given order and numbers the column 1..n.
+     * The listed tasks fill the positions they held between them, so unlisted tasks keep
+     * their places relative to each other and to the listed ones around them.
+     *
+     * @param column active tasks of one column in board order
+     * @param orderedTaskIds IDs in their new order; IDs not in the column are ignored
+     * @return tasks whose board order changed
+     */
+    static List<Task> mergeColumnOrder(List<Task> column, List<Long> orderedTaskIds) {
+        Map<Long, Task> byId = column.stream().collect(Collectors.toMap(Task::getId, t -> t));
+        List<Task> listed = orderedTaskIds.stream()
+                .distinct()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        Set<Long> listedIds = listed.stream().map(Task::getId).collect(Collectors.toSet());
+
+        List<Task> changed = new ArrayList<>();
+        int next = 0;
         long order = 1L;
-        for (Long id : request.getOrderedTaskIds()) {
+        for (Task slot : column) {
+            Task task = listedIds.contains(slot.getId()) ? listed.get(next++) : slot;
+            if (task.getBoardOrder() == null || task.getBoardOrder() != order) {
+                task.setBoardOrder(order);
+                changed.add(task);
+            }
+            order++;
+        }
+        return changed;
+    }
+
+    /**
+     * Moves many active tasks into one column.
+     * Board orders are assigned from a single column-tail lookup and all rows
+     * are written as one JDBC batch. Recurring tasks moved to DONE spawn
+     * their next occurrence in the same batch.
+     *
+     * @param request bulk status payload
+     * @return moved task responses in request order
+     * @throws IllegalArgumentException if IDs are unknown, duplicated, or a DONE task would leave DONE
+     */
+    @Override
+    @Transactional(timeoutString = "${app.limits.timeout.bulk-seconds:15}")
+    public List<TaskResponse> bulkUpdateStatus(TaskBulkStatusRequest request) {
+        flushPendingBoardWrites();
+        if (request.getTaskIds() == null || request.getTaskIds().isEmpty()) {
+            throw new IllegalArgumentException("taskIds must not be empty");
+        }
+        if (new HashSet<>(request.getTaskIds()).size() != request.getTaskIds().size()) {
+            throw new IllegalArgumentException("taskIds must not contain duplicates");
+        }
+
+        Task.Status targetStatus = parseStatus(request.getStatus());
+        boardLockManager.lockColumns(targetStatus, targetStatus == Task.Status.DONE ? Task.Status.TODO : null);
+        List<Task> tasks = taskRepository.findByIdInAndDeletedFalse(request.getTaskIds());
+        if (tasks.size() != request.getTaskIds().size()) {
+            throw new IllegalArgumentException("taskIds contains unknown task IDs");
+        }
+
+        Map<Long, Task> byId = tasks.stream().collect(Collectors.toMap(Task::getId, t -> t));
+        List<Task> ordered = new ArrayList<>(tasks.size());
+        for (Long id : request.getTaskIds()) {
             Task task = byId.get(id);
+            normalizeLegacyStatus(task);
+            enforceDoneStatusLock(task.getStatus(), targetStatus);
+            ordered.add(task);
+        }
+
+        return moveTasks(ordered, targetStatus);
+    }
+
+    /**
+     * Reads one column through the board cache. Runs outside a transaction, so a cached
+     * snapshot is served without taking a connection; a load runs in the store's own
+     * read-only transaction. Buffered write-behind moves appear once they are flushed.
+     * Legacy rows of the column are included, as reorderBoard counts them.
+     *
+     * @param status column to read
+     * @return column tasks in board order and their age
+     * @throws IllegalArgumentException if status is invalid
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaskBoardColumnResponse getBoardColumn(String status) {
+        Task.Status columnStatus = parseStatus(status);
+        BoardColumnCache.Snapshot snapshot = boardColumnCache.get(columnStatus, () ->
+                taskRepository.findByDeletedFalseAndStatusInOrderByBoardOrderAscIdAsc(
+                                legacyCompatibility.columnStatuses(columnStatus)).stream()
+                        .map(taskMapper::toResponse)
+                        .toList());
+        return TaskBoardColumnResponse.builder()
+                .status(columnStatus.name())
+                .ageMillis(snapshot.ageMillis())
+                .tasks(snapshot.tasks())
+                .build();
+    }
+
+    /**
+     * Completes every active task in one column.
+     *
+     * @param status column to complete
+     * @return completed task responses in board order
+     * @throws IllegalArgumentException if status is invalid or already DONE
+     */
+    @Override
+    @Transactional(timeoutString = "${app.limits.timeout.bulk-seconds:15}")
+    public List<TaskResponse> completeColumn(String status) {
+        flushPendingBoardWrites();
+        Task.Status columnStatus = parseStatus(status);
+        if (columnStatus == Task.Status.DONE) {
+            throw new IllegalArgumentException("Tasks in status DONE are already completed");
+        }
+        boardLockManager.lockColumns(columnStatus, Task.Status.DONE, Task.Status.TODO);
+
+        List<Task> tasks = taskRepository.findByDeletedFalseAndStatusInOrderByBoardOrderAscIdAsc(
+                legacyCompatibility.columnStatuses(columnStatus));
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        tasks.forEach(this::normalizeLegacyStatus);
+        return moveTasks(tasks, Task.Status.DONE);
+    }
+
+    /**
+     * Restores many soft-deleted tasks.
+     * Missing board orders are assigned with one column-tail lookup per column.
+     *
+     * @param request bulk restore payload
+     * @return restored task responses in request order
+     * @throws ResourceNotFoundException if any task does not exist
+     * @throws IllegalArgumentException if any task is not deleted
+     */
+    @Override
+    @Transactional(timeoutString = "${app.limits.timeout.bulk-seconds:15}")
+    public List<TaskResponse> bulkRestore(TaskBulkRestoreRequest request) {
+        flushPendingBoardWrites();
+        if (request.getTaskIds() == null || request.getTaskIds().isEmpty()) {
+            throw new IllegalArgumentException("taskIds must not be empty");
+        }
+
+        boardLockManager.lockColumns(RESTORE_COLUMNS);
+        Map<Long, Task> byId = taskRepository.findAllById(request.getTaskIds()).stream()
+                .collect(Collectors.toMap(Task::getId, t -> t));
+        Map<Task.Status, Long> nextOrders = new HashMap<>();
+        List<Task> restored = new ArrayList<>(byId.size());
+
+        for (Long id : new LinkedHashSet<>(request.getTaskIds())) {
+            Task task = byId.get(id);
+            if (task == null) {
+                throw new ResourceNotFoundException("Task not found with id " + id);
+            }
+            if (!task.isDeleted()) {
+                throw new IllegalArgumentException("Task is not deleted: " + id);
+            }
+
+            normalizeLegacyStatus(task);
+            task.setDeleted(false);
+            if (task.getBoardOrder() == null) {
+                Task.Status column = restoreColumn(task.getStatus());
+                long order = nextOrders.computeIfAbsent(column, this::nextBoardOrder);
+                task.setBoardOrder(order);
+                nextOrders.put(column, order + 1);
+            }
+            restored.add(task);
+        }
+
+        List<Task> saved = taskRepository.saveAll(restored);
+        taskOutbox.record(TaskOutboxEvent.Type.RESTORED, saved);
+        TaskFlightRecorder.rowsTouched(restored.size());
+        return saved.stream()
+                .map(taskMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the active tasks of one recurring series.
+     *
+     * @param recurrenceGroupId series ID shared by the tasks
+     * @return active tasks of the series in ID order
+     * @throws IllegalArgumentException if the series ID is blank
+     */
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.limits.timeout.list-seconds:5}")
+    public List<TaskResponse> getSeries(String recurrenceGroupId) {
+        if (recurrenceGroupId == null || recurrenceGroupId.isBlank()) {
+            throw new IllegalArgumentException("recurrenceGroupId is required");
+        }
+        List<TaskResponse> responses = taskRepository.findByDeletedFalseAndRecurrenceGroupIdOrderByIdAsc(recurrenceGroupId)
+                .stream()
+                .map(taskMapper::toResponse)
+                .toList();
+        if (writeBehindQueue.isEnabled()) {
+            responses.forEach(writeBehindQueue::applyPending);
+        }
+        return responses;
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.limits.timeout.list-seconds:5}")
+    public List<TaskResponse> getTasksAfter(long afterId, int size) {
+        List<TaskResponse> responses = taskRepository.findByDeletedFalseAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(size))
+                .stream()
+                .map(taskMapper::toResponse)
+                .toList();
+        if (writeBehindQueue.isEnabled()) {
+            responses.forEach(writeBehindQueue::applyPending);
+        }
+        return responses;
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.limits.timeout.list-seconds:5}")
+    public long countActiveTasks() {
+        return taskRepository.countByDeletedFalse();
+    }
+
+    /**
+     * Appends tasks to the tail of a column in the given order and saves them in one batch.
+     *
+     * @param tasks tasks to move
+     * @param targetStatus destination column
+     * @return moved task responses
+     */
+    private List<TaskResponse> moveTasks(List<Task> tasks, Task.Status targetStatus) {
+        long order = nextBoardOrder(targetStatus);
+        List<Task> moved = new ArrayList<>();
+        List<Task> completed = new ArrayList<>();
+        Set<Task.Status> sourceColumns = EnumSet.noneOf(Task.Status.class);
+
+        for (Task task : tasks) {
+            if (task.getStatus() == targetStatus) {
+                continue;
+            }
+            if (targetStatus == Task.Status.DONE) {
+                completed.add(task);
+            }
+            if (task.getStatus() != null) {
+                sourceColumns.add(task.getStatus());
+            }
+            task.setStatus(targetStatus);
             task.setBoardOrder(order++);
+            moved.add(task);
+        }
+
+        if (!moved.isEmpty()) {
+            taskRepository.saveAll(moved);
+            taskOutbox.record(TaskOutboxEvent.Type.STATUS_CHANGED, moved, sourceColumns.toArray(Task.Status[]::new));
+            TaskFlightRecorder.transition(null, targetStatus);
+            TaskFlightRecorder.rowsTouched(moved.size());
+        }
+        if (!completed.isEmpty()) {
+            taskMetrics.tasksCompleted(completed.size());
+            createNextRecurringTasks(completed);
         }
-        taskRepository.saveAll(tasks);
+
+        return tasks.stream()
+                .map(taskMapper::toResponse)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -291,7 +689,7 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
      * @return normalized status enum
      * @throws IllegalArgumentException if status is invalid
      */
-    private Task.Status parseStatus(String value) {
+    static Task.Status parseStatus(String value) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("Status is required");
         }
@@ -306,28 +704,74 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
     }
 
     /**
-     * Returns next board order for a column.
+     * Returns next board order for a column. Callers hold the column lock; the tail is read
+     * with a locking read, so it is current even if the transaction read other rows first.
      *
      * @param status target status column
      * @return next order number
      */
     private Long nextBoardOrder(Task.Status status) {
-        return taskRepository.findTopByDeletedFalseAndStatusOrderByBoardOrderDesc(status)
-                .map(task -> (task.getBoardOrder() == null ? 0L : task.getBoardOrder()) + 1L)
+        return taskRepository.findColumnTailForUpdate(legacyCompatibility.columnStatuses(status))
+                .map(tail -> tail + 1L)
                 .orElse(1L);
     }
 
+    /**
+     * Counts a task as completed when it enters DONE and records the transition.
+     *
+     * @param previousStatus status before the change
+     * @param currentStatus status after the change
+     */
+    private void recordCompletion(Task.Status previousStatus, Task.Status currentStatus) {
+        TaskFlightRecorder.transition(previousStatus, currentStatus);
+        if (previousStatus != Task.Status.DONE && currentStatus == Task.Status.DONE) {
+            taskMetrics.tasksCompleted(1);
+        }
+    }
+
+    /**
+     * Returns the column a restored task lands in.
+     *
+     * @param status stored status, possibly legacy or null
+     * @return current Kanban column
+     */
+    private Task.Status restoreColumn(Task.Status status) {
+        if (status == null || status == Task.Status.PENDING) {
+            return Task.Status.TODO;
+        }
+        return status == Task.Status.COMPLETED ? Task.Status.DONE : status;
+    }
+
+    /**
+     * Returns the task status including any buffered write-behind move.
+     *
+     * @param task persisted task
+     * @return status the caller last wrote
+     */
+    private Task.Status effectiveStatus(Task task) {
+        if (!writeBehindQueue.isEnabled()) {
+            return task.getStatus();
+        }
+        Task.Status pending = writeBehindQueue.pendingStatus(task.getId());
+        return pending != null ? pending : task.getStatus();
+    }
+
+    /**
+     * Writes buffered Kanban moves before any other mutation reads or writes the board.
+     */
+    private void flushPendingBoardWrites() {
+        if (writeBehindQueue.isEnabled()) {
+            writeBehindQueue.flush();
+        }
+    }
+
     /**
      * Converts legacy task statuses to current Kanban statuses in-memory.
      *
      * @param task task to normalize
      */
     private void normalizeLegacyStatus(Task task) {
-        if (task.getStatus() == Task.Status.PENDING) {
-            task.setStatus(Task.Status.TODO);
-        } else if (task.getStatus() == Task.Status.COMPLETED) {
-            task.setStatus(Task.Status.DONE);
-        }
+        task.setStatus(legacyCompatibility.normalize(task.getStatus()));
     }
 
     /**
@@ -371,45 +815,85 @@ public List<TaskResponse> getAllTasks(int page, int size, String sortBy, String
      * @param current completed task
      */
     private void maybeCreateNextRecurringTask(Task current) {
-        if (current == null || current.getRecurrenceType() == null || current.getRecurrenceType() == Task.RecurrenceType.NONE) {
+        if (current == null) {
             return;
         }
+        createNextRecurringTasks(List.of(current));
+    }
 
-        LocalDateTime nextDeadline = recurrenceService.computeNextDeadline(
-                current.getDeadline(),
-                current.getRecurrenceType(),
-                current.getRecurrenceInterval() == null ? 1 : current.getRecurrenceInterval()
-        );
+    /**
+     * Creates the next occurrence for every completed recurring task.
+     * The TODO column tail is read once and new tasks are saved together.
+     * Callers hold the TODO column lock, taken before their first read.
+     *
+     * @param completedTasks tasks that were just completed
+     */
+    private void createNextRecurringTasks(List<Task> completedTasks) {
+        RecurrenceGenerationEvent event = new RecurrenceGenerationEvent();
+        event.begin();
+        List<Task> regrouped = new ArrayList<>();
+        List<Task> nextTasks = new ArrayList<>();
+        Long nextOrder = null;
+
+        for (Task current : completedTasks) {
+            if (current.getRecurrenceType() == null || current.getRecurrenceType() == Task.RecurrenceType.NONE) {
+                continue;
+            }
 
-        if (!recurrenceService.canCreateNext(current, nextDeadline)) {
-            return;
-        }
+            LocalDateTime nextDeadline = recurrenceService.computeNextDeadline(
+                    current.getDeadline(),
+                    current.getRecurrenceType(),
+                    current.getRecurrenceInterval() == null ? 1 : current.getRecurrenceInterval()
+            );
 
-        String groupId = current.getRecurrenceGroupId();
-        if (groupId == null || groupId.isBlank()) {
-            groupId = "rec-" + UUID.randomUUID();
-            current.setRecurrenceGroupId(groupId);
-            taskRepository.save(current);
-        }
-
-        Task next = Task.builder()
-                .title(current.getTitle())
-                .description(current.getDescription())
-                .priority(current.getPriority())
-                .status(Task.Status.TODO)
-                .boardOrder(nextBoardOrder(Task.Status.TODO))
-                .deadline(nextDeadline)
-                .recurrenceType(current.getRecurrenceType())
-                .recurrenceInterval(current.getRecurrenceInterval())
-                .recurrenceEndAt(current.getRecurrenceEndAt())
-                .recurrenceGroupId(groupId)
-                .deleted(false)
-                .build();
+            if (!recurrenceService.canCreateNext(current, nextDeadline)) {
+                continue;
+            }
+
+            String groupId = current.getRecurrenceGroupId();
+            if (groupId == null || groupId.isBlank()) {
+                groupId = "rec-" + UUID.randomUUID();
+                current.setRecurrenceGroupId(groupId);
+                regrouped.add(current);
+            }
+
+            if (nextOrder == null) {
+                nextOrder = nextBoardOrder(Task.Status.TODO);
+            }
+
+            Task next = Task.builder()
+                    .title(current.getTitle())
+                    .description(current.getDescription())
+                    .priority(current.getPriority())
+                    .status(Task.Status.TODO)
+                    .boardOrder(nextOrder++)
+                    .deadline(nextDeadline)
+                    .recurrenceType(current.getRecurrenceType())
+                    .recurrenceInterval(current.getRecurrenceInterval())
+                    .recurrenceEndAt(current.getRecurrenceEndAt())
+                    .recurrenceGroupId(groupId)
+                    .deleted(false)
+                    .build();
+
+            // Ensure created timestamp exists for deadline validation.
+            next.setDateCreated(LocalDateTime.now());
+            next.updateDeadline(next.getDeadline());
+            nextTasks.add(next);
+        }
 
-        // Ensure created timestamp exists for deadline validation.
-        next.setDateCreated(LocalDateTime.now());
-        next.updateDeadline(next.getDeadline());
-        taskRepository.save(next);
+        if (!regrouped.isEmpty()) {
+            taskRepository.saveAll(regrouped);
+            TaskFlightRecorder.rowsTouched(regrouped.size());
+        }
+        if (!nextTasks.isEmpty()) {
+            taskRepository.saveAll(nextTasks);
+            taskOutbox.record(TaskOutboxEvent.Type.CREATED, nextTasks);
+            taskMetrics.recurringSpawned(nextTasks.size());
+            TaskFlightRecorder.rowsTouched(nextTasks.size());
+        }
+        event.completedTasks = completedTasks.size();
+        event.spawnedTasks = nextTasks.size();
+        event.commit();
     }
 
     /**
@@ -0,0 +1,190 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+
+import com.decena.task.Config.WarmUpHealthIndicator;
+import com.decena.task.Dto.TaskRequest;
+import com.decena.task.Dto.TaskResponse;
+import com.decena.task.Entity.Task;
+import com.decena.task.Mapper.TaskMapper;
+import com.decena.task.Repository.TaskStore;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Warms the JVM up after startup, before the pod reports ready.
+ * Opens every pooled connection once, then repeatedly runs read-only list queries
+ * and a synthetic request/response round trip through the mapper and JSON mapper
+ * so the hot paths are JIT-compiled. Nothing is written to the database.
+ * Behind replica or shard routing every target pool is filled, not just the default one.
+ * Queries go to the task store directly, so warm-up traffic does not show up in the
+ * {@code task.service} timers or the task counters.
+ * Readiness flips to UP via {@link WarmUpHealthIndicator} when the loop ends,
+ * also when it fails or hits the time limit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmUpJob implements ApplicationRunner {
+
+    private static final String[] SORT_FIELDS = {"dateCreated", "deadline", "priority", "status"};
+
+    private final TaskStore taskStore;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+    private final WarmUpHealthIndicator healthIndicator;
+    private final Environment environment;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warmup.iterations:200}")
+    private int iterations;
+
+    @Value("${app.warmup.page-size:50}")
+    private int pageSize;
+
+    @Value("${app.warmup.timeout-ms:30000}")
+    private long timeoutMillis;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            healthIndicator.markCompleted(0, Duration.ZERO);
+            return;
+        }
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("warm-up-");
+        executor.setDaemon(true);
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.execute(this::warmUp);
+    }
+
+    /**
+     * Runs the warm-up loop and marks the application ready afterwards.
+     */
+    void warmUp() {
+        long started = System.nanoTime();
+        long deadline = started + Duration.ofMillis(timeoutMillis).toNanos();
+        int completed = 0;
+        try {
+            fillConnectionPool();
+            String requestJson = objectMapper.writeValueAsString(syntheticRequest());
+            while (completed < iterations && System.nanoTime() < deadline) {
+                runIteration(completed, requestJson);
+                completed++;
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Warm-up stopped after {} iterations; marking ready anyway", completed, ex);
+        } finally {
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+            healthIndicator.markCompleted(completed, elapsed);
+            log.info("Warm-up finished: {} iterations in {} ms", completed, elapsed.toMillis());
+        }
+    }
+
+    private void runIteration(int iteration, String requestJson) {
+        Sort.Direction direction = iteration % 2 == 0 ? Sort.Direction.DESC : Sort.Direction.ASC;
+        List<TaskResponse> page = taskStore.findByDeletedFalse(
+                        PageRequest.of(0, pageSize, Sort.by(direction, SORT_FIELDS[iteration % SORT_FIELDS.length])))
+                .map(taskMapper::toResponse)
+                .getContent();
+        objectMapper.writeValueAsString(page);
+
+        TaskRequest request = objectMapper.readValue(requestJson, TaskRequest.class);
+        Task task = taskMapper.toEntity(request);
+        taskMapper.updateEntity(request, task);
+        objectMapper.writeValueAsString(taskMapper.toResponse(task));
+    }
+
+    /**
+     * Holds as many connections as each pool allows at the same time,
+     * so no live request pays for opening one.
+     * A pool that cannot be reached is logged and skipped.
+     */
+    private void fillConnectionPool() {
+        for (DataSource pool : targetPools(dataSource)) {
+            try {
+                fillPool(pool);
+            } catch (SQLException ex) {
+                log.warn("Warm-up could not fill connection pool {}", pool, ex);
+            }
+        }
+    }
+
+    private static void fillPool(DataSource pool) throws SQLException {
+        int size = pool.isWrapperFor(HikariDataSource.class)
+                ? pool.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                : 1;
+        List<Connection> connections = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                connections.add(pool.getConnection());
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * Resolves proxies and routing DataSources down to the pools they hand connections out of.
+     */
+    public static Set<DataSource> targetPools(DataSource dataSource) {
+        Set<DataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        collectPools(dataSource, pools);
+        return pools;
+    }
+
+    private static void collectPools(DataSource dataSource, Set<DataSource> pools) {
+        if (dataSource instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+            collectPools(delegating.getTargetDataSource(), pools);
+        } else if (dataSource instanceof AbstractRoutingDataSource routing) {
+            routing.getResolvedDataSources().values().forEach(target -> collectPools(target, pools));
+            if (routing.getResolvedDefaultDataSource() != null) {
+                collectPools(routing.getResolvedDefaultDataSource(), pools);
+            }
+        } else {
+            pools.add(dataSource);
+        }
+    }
+
+    private TaskRequest syntheticRequest() {
+        return TaskRequest.builder()
+                .title("Warm-up task")
+                .description("Synthetic request, never persisted")
+                .priority("MODERATE")
+                .status("PENDING")
+                .recurrenceType("WEEKLY")
+                .recurrenceInterval(1)
+                .deadline(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.decena.task.Service.ServiceImpl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Moves one workspace to another shard on startup when the {@code shard-move} profile is active.
+ */
+@Component
+@Profile("shard-move")
+@RequiredArgsConstructor
+public class WorkspaceShardMoveJob implements ApplicationRunner {
+
+    private final WorkspaceShardMover mover;
+
+    @Value("${app.sharding.move.workspace}")
+    private String workspaceId;
+
+    @Value("${app.sharding.move.target}")
+    private String targetShard;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        mover.move(workspaceId, targetShard);
+    }
+}
@@ -0,0 +1,294 @@
+package com.decena.task.Service.ServiceImpl;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.decena.task.Config.ShardRouter;
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Entity.WorkspacePlacement;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves one workspace's tasks, background jobs, job results and idempotency keys to another
+ * shard while the application keeps serving it.
+ * <ol>
+ * <li>Copies the workspace in keyset batches; reads and writes continue on the source.</li>
+ * <li>Freezes the workspace (placement MOVING: mutations get 503) and waits until every
+ * instance has reloaded the placement and in-flight writes have finished.</li>
+ * <li>Copies again; only batches that changed since the first pass are rewritten.</li>
+ * <li>Flips the placement to the target, waits for every instance to follow, and deletes
+ * the source rows in batches.</li>
+ * </ol>
+ * Any failure before the flip leaves the source authoritative: the placement is restored and
+ * the partial copy removed. Rows keep their IDs; an ID already used by another workspace on
+ * the target aborts the move.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class WorkspaceShardMover {
+
+    private static final Rows TASKS = new Rows("tasks", "workspace_id", "id", 0L);
+    private static final Rows JOBS = new Rows("task_jobs", "workspace_id", "id", "");
+    private static final Rows JOB_RESULTS = new Rows("task_job_results", "job_id", "part", -1);
+    private static final Rows IDEMPOTENCY_KEYS = new Rows("idempotency_keys", "workspace_id", "id", "");
+
+    /**
+     * Reads LOB columns as values, so rows compare by content and can be written to another database.
+     */
+    private static final RowMapper<Map<String, Object>> ROW_MAPPER = new ColumnMapRowMapper() {
+        @Override
+        protected Object getColumnValue(ResultSet rs, int index) throws SQLException {
+            Object value = super.getColumnValue(rs, index);
+            if (value instanceof Clob clob) {
+                return clob.getSubString(1, (int) clob.length());
+            }
+            if (value instanceof Blob blob) {
+                return blob.getBytes(1, (int) blob.length());
+            }
+            return value;
+        }
+    };
+
+    private final ShardRouter router;
+    private final int batchSize;
+    private final long settleMillis;
+
+    public WorkspaceShardMover(
+            ShardRouter router,
+            @Value("${app.sharding.move.batch-size:500}") int batchSize,
+            @Value("${app.sharding.move.settle-ms:3000}") long settleMillis) {
+        this.router = router;
+        this.batchSize = batchSize;
+        this.settleMillis = settleMillis;
+    }
+
+    /**
+     * Moves a workspace to the target shard and flips its routing.
+     *
+     * @param workspaceId workspace to move
+     * @param targetShard destination shard
+     * @return what the move copied and deleted
+     * @throws IllegalArgumentException if the workspace ID or shard is invalid
+     * @throws IllegalStateException if the copy fails; the workspace then stays on its source shard
+     */
+    public MoveResult move(String workspaceId, String targetShard) {
+        WorkspaceContext.validate(workspaceId);
+        DataSource target = router.getDataSource(targetShard);
+        String sourceShard = router.shardFor(workspaceId);
+        if (sourceShard.equals(targetShard)) {
+            return new MoveResult(workspaceId, sourceShard, targetShard, 0, 0, 0);
+        }
+        DataSource source = router.getDataSource(sourceShard);
+
+        long copied;
+        long resynced;
+        try {
+            copied = sync(workspaceId, source, target);
+            log.info("Copied {} rows of workspace {} from {} to {}; freezing writes",
+                    copied, workspaceId, sourceShard, targetShard);
+            router.place(workspaceId, sourceShard, WorkspacePlacement.State.MOVING);
+            pause();
+            resynced = sync(workspaceId, source, target);
+        } catch (RuntimeException ex) {
+            router.place(workspaceId, sourceShard, WorkspacePlacement.State.ACTIVE);
+            delete(workspaceId, target);
+            throw ex instanceof IllegalStateException ? ex
+                    : new IllegalStateException("Moving workspace " + workspaceId + " failed", ex);
+        }
+
+        router.place(workspaceId, targetShard, WorkspacePlacement.State.ACTIVE);
+        pause();
+        long deleted = delete(workspaceId, source);
+        log.info("Moved workspace {} from {} to {} ({} rows re-synced while frozen, {} source rows deleted)",
+                workspaceId, sourceShard, targetShard, resynced, deleted);
+        return new MoveResult(workspaceId, sourceShard, targetShard, copied, resynced, deleted);
+    }
+
+    /**
+     * Makes the target's copy of a workspace equal to the source, batch by batch: its tasks,
+     * its jobs and their results.
+     *
+     * @return number of rows written to the target
+     */
+    private long sync(String workspaceId, DataSource source, DataSource target) {
+        long written = sync(TASKS, workspaceId, source, target);
+        // Results before jobs, so results of a job removed from the source go from the target too.
+        Set<String> jobIds = new TreeSet<>(jobIds(workspaceId, source));
+        jobIds.addAll(jobIds(workspaceId, target));
+        for (String jobId : jobIds) {
+            written += sync(JOB_RESULTS, jobId, source, target);
+        }
+        written += sync(JOBS, workspaceId, source, target);
+        // Stored responses, so a client retrying a write after the move gets a replay.
+        return written + sync(IDEMPOTENCY_KEYS, workspaceId, source, target);
+    }
+
+    private long sync(Rows table, String ownerId, DataSource source, DataSource target) {
+        JdbcTemplate from = new JdbcTemplate(source);
+        JdbcTemplate to = new JdbcTemplate(target);
+        TransactionTemplate targetTransaction = new TransactionTemplate(new DataSourceTransactionManager(target));
+        long written = 0;
+        Object afterKey = table.first();
+        while (true) {
+            List<Map<String, Object>> rows = from.query(
+                    "SELECT * FROM " + table.name() + " WHERE " + table.owner() + " = ? AND " + table.key()
+                            + " > ? ORDER BY " + table.key() + " LIMIT ?",
+                    ROW_MAPPER, ownerId, afterKey, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            Object lowerKey = afterKey;
+            Object upperKey = rows.get(rows.size() - 1).get(table.key());
+            List<Map<String, Object>> copy = to.query(
+                    "SELECT * FROM " + table.name() + " WHERE " + table.owner() + " = ? AND " + table.key()
+                            + " > ? AND " + table.key() + " <= ? ORDER BY " + table.key(),
+                    ROW_MAPPER, ownerId, lowerKey, upperKey);
+            if (!sameRows(rows, copy)) {
+                targetTransaction.executeWithoutResult(status -> {
+                    to.update("DELETE FROM " + table.name() + " WHERE " + table.owner() + " = ? AND "
+                            + table.key() + " > ? AND " + table.key() + " <= ?", ownerId, lowerKey, upperKey);
+                    insert(to, table, rows);
+                });
+                written += rows.size();
+            }
+            afterKey = upperKey;
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+        // Rows removed from the source since the previous pass.
+        to.update("DELETE FROM " + table.name() + " WHERE " + table.owner() + " = ? AND " + table.key() + " > ?",
+                ownerId, afterKey);
+        return written;
+    }
+
+    private void insert(JdbcTemplate to, Rows table, List<Map<String, Object>> rows) {
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String sql = "INSERT INTO " + table.name() + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            args.add(columns.stream().map(row::get).toArray());
+        }
+        try {
+            to.batchUpdate(sql, args);
+        } catch (DuplicateKeyException ex) {
+            throw new IllegalStateException(
+                    "Keys of the workspace's " + table.name() + " rows are already used on the target shard", ex);
+        }
+    }
+
+    /**
+     * Deletes a workspace's rows from one shard in keyset batches.
+     *
+     * @return number of deleted rows
+     */
+    private long delete(String workspaceId, DataSource dataSource) {
+        long deleted = 0;
+        for (String jobId : jobIds(workspaceId, dataSource)) {
+            deleted += delete(JOB_RESULTS, jobId, dataSource);
+        }
+        return deleted + delete(JOBS, workspaceId, dataSource) + delete(IDEMPOTENCY_KEYS, workspaceId, dataSource)
+                + delete(TASKS, workspaceId, dataSource);
+    }
+
+    private long delete(Rows table, String ownerId, DataSource dataSource) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        long deleted = 0;
+        while (true) {
+            List<Object> keys = jdbc.queryForList(
+                    "SELECT " + table.key() + " FROM " + table.name() + " WHERE " + table.owner() + " = ? ORDER BY "
+                            + table.key() + " LIMIT ?", Object.class, ownerId, batchSize);
+            if (keys.isEmpty()) {
+                return deleted;
+            }
+            deleted += jdbc.update("DELETE FROM " + table.name() + " WHERE " + table.owner() + " = ? AND "
+                    + table.key() + " >= ? AND " + table.key() + " <= ?",
+                    ownerId, keys.get(0), keys.get(keys.size() - 1));
+        }
+    }
+
+    /**
+     * Compares rows column by column; byte arrays are compared by content.
+     */
+    private static boolean sameRows(List<Map<String, Object>> rows, List<Map<String, Object>> copy) {
+        if (rows.size() != copy.size()) {
+            return false;
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, Object> row = rows.get(i);
+            Map<String, Object> copied = copy.get(i);
+            if (row.size() != copied.size()) {
+                return false;
+            }
+            for (Map.Entry<String, Object> column : row.entrySet()) {
+                if (!Objects.deepEquals(column.getValue(), copied.get(column.getKey()))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static List<String> jobIds(String workspaceId, DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList(
+                "SELECT id FROM task_jobs WHERE workspace_id = ?", String.class, workspaceId);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(settleMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for instances to reload placements", ex);
+        }
+    }
+
+    /**
+     * Rows of one table that belong to a workspace, or to one of its jobs.
+     *
+     * @param name table name
+     * @param owner column holding the workspace or job ID
+     * @param key unique column within one owner; rows are copied and deleted in its order
+     * @param first value below every key
+     */
+    private record Rows(String name, String owner, String key, Object first) {
+    }
+
+    /**
+     * Outcome of a shard move.
+     *
+     * @param workspaceId moved workspace
+     * @param sourceShard shard the workspace left
+     * @param targetShard shard now holding the workspace
+     * @param rowsCopied rows copied while the workspace stayed writable
+     * @param rowsResynced rows rewritten while writes were frozen
+     * @param rowsDeleted rows removed from the source after the flip
+     */
+    public record MoveResult(String workspaceId, String sourceShard, String targetShard,
+            long rowsCopied, long rowsResynced, long rowsDeleted) {
+    }
+}
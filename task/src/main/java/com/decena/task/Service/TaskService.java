@@ -2,16 +2,32 @@ package com.decena.task.Service;
 
 import java.util.List;
 
+import com.decena.task.Dto.TaskPatchRequest;
 import com.decena.task.Dto.TaskRequest;
 import com.decena.task.Dto.TaskResponse;
 import com.decena.task.Dto.TaskStatusUpdateRequest;
+import com.decena.task.Dto.TaskBoardColumnResponse;
 import com.decena.task.Dto.TaskBoardReorderRequest;
+import com.decena.task.Dto.TaskBulkRestoreRequest;
+import com.decena.task.Dto.TaskBulkStatusRequest;
 
 public interface TaskService {
     TaskResponse createTask(TaskRequest request);
     TaskResponse getTaskById(Long id);
     List<TaskResponse> getAllTasks(int page, int size, String sortBy, String sortDir);
     TaskResponse updateTask(Long id, TaskRequest request);
+
+    /**
+     * Applies a JSON Merge Patch to one active task.
+     * No write is issued when the patch does not change any value.
+     *
+     * @param id task ID
+     * @param patch merge patch payload
+     * @return current task response
+     * @throws com.decena.task.Exception.ResourceNotFoundException when task does not exist
+     * @throws IllegalArgumentException when a patched value is invalid
+     */
+    TaskResponse patchTask(Long id, TaskPatchRequest patch);
     void deleteTask(Long id);
     TaskResponse markTaskAsCompleted(Long id);
     List<TaskResponse> getDeletedTasks(int page, int size);
@@ -45,4 +61,66 @@ public interface TaskService {
      */
     void reorderBoard(TaskBoardReorderRequest request);
 
+    /**
+     * Moves many active tasks into one Kanban column.
+     *
+     * @param request bulk status payload
+     * @return moved tasks in request order
+     * @throws IllegalArgumentException when IDs are invalid or a DONE task would leave DONE
+     */
+    List<TaskResponse> bulkUpdateStatus(TaskBulkStatusRequest request);
+
+    /**
+     * Reads one Kanban column in board order. The content may be a snapshot up to
+     * app.board.cache.max-stale-ms old; changes made through this instance are always visible.
+     *
+     * @param status column to read
+     * @return column tasks and their age
+     * @throws IllegalArgumentException when status is invalid
+     */
+    TaskBoardColumnResponse getBoardColumn(String status);
+
+    /**
+     * Marks every active task in one column as DONE.
+     *
+     * @param status column to complete
+     * @return completed tasks in board order
+     * @throws IllegalArgumentException when status is invalid or DONE
+     */
+    List<TaskResponse> completeColumn(String status);
+
+    /**
+     * Restores many soft-deleted tasks.
+     *
+     * @param request bulk restore payload
+     * @return restored tasks in request order
+     * @throws com.decena.task.Exception.ResourceNotFoundException when a task does not exist
+     * @throws IllegalArgumentException when a task is not deleted
+     */
+    List<TaskResponse> bulkRestore(TaskBulkRestoreRequest request);
+
+    /**
+     * Reads the active tasks of one recurring series.
+     *
+     * @param recurrenceGroupId series ID shared by the tasks
+     * @return active tasks of the series in ID order
+     * @throws IllegalArgumentException when the series ID is blank
+     */
+    List<TaskResponse> getSeries(String recurrenceGroupId);
+
+    /**
+     * Reads active tasks in ID order after a given ID (keyset paging), so a reader walking
+     * the whole table neither repeats nor skips rows while other writes land.
+     *
+     * @param afterId last ID already read, 0 to start
+     * @param size maximum number of tasks
+     * @return up to size active tasks with a larger ID, in ID order
+     */
+    List<TaskResponse> getTasksAfter(long afterId, int size);
+
+    /**
+     * Counts the active tasks.
+     */
+    long countActiveTasks();
+
 }
@@ -2,8 +2,12 @@ package com.decena.task;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.decena.task.Config.TaskRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(TaskRuntimeHints.class)
 public class TaskApplication {
 
 	public static void main(String[] args) {
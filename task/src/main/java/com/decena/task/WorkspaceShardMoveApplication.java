@@ -0,0 +1,23 @@
+package com.decena.task;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Command-line entry point that moves one workspace to another shard and exits.
+ * Run it with the same sharding configuration as the serving instances.
+ * <p>
+ * Example: {@code java -cp app.jar -Dloader.main=com.decena.task.WorkspaceShardMoveApplication
+ * org.springframework.boot.loader.launch.PropertiesLauncher --app.sharding.move.workspace=acme
+ * --app.sharding.move.target=shard1}
+ */
+public class WorkspaceShardMoveApplication {
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(new SpringApplicationBuilder(TaskApplication.class)
+                .profiles("shard-move")
+                .web(WebApplicationType.NONE)
+                .run(args)));
+    }
+}
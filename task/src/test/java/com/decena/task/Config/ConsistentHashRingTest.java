@@ -0,0 +1,47 @@
+package com.decena.task.Config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 20_000;
+
+    @Test
+    void nodeFor_shouldSpreadKeysEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("primary", "shard1", "shard2", "shard3"), 128);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(ring.nodeFor("workspace-" + i), 1, Integer::sum);
+        }
+
+        assertThat(counts).hasSize(4);
+        // 128 virtual nodes keep every shard within +-25% of its fair share.
+        counts.values().forEach(count -> assertThat(count).isBetween(KEYS / 4 * 3 / 4, KEYS / 4 * 5 / 4));
+    }
+
+    @Test
+    void addingANode_shouldOnlyMoveKeysToTheNewNode() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("primary", "shard1", "shard2"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("primary", "shard1", "shard2", "shard3"), 128);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "workspace-" + i;
+            String oldNode = before.nodeFor(key);
+            String newNode = after.nodeFor(key);
+            if (!oldNode.equals(newNode)) {
+                assertThat(newNode).isEqualTo("shard3");
+                moved++;
+            }
+        }
+
+        assertThat(moved).isBetween(KEYS / 8, KEYS * 3 / 8);
+    }
+}
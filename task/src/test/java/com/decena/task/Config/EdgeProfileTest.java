@@ -0,0 +1,68 @@
+package com.decena.task.Config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.decena.task.Repository.JournalTaskStore;
+import com.decena.task.Repository.TaskStore;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("edge")
+public class EdgeProfileTest {
+
+    @TempDir
+    static Path journalDirectory;
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) {
+        registry.add("app.storage.journal.dir", journalDirectory::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskStore taskStore;
+
+    @Test
+    void edgeProfile_shouldJournalTasksInsteadOfUsingTheDatabase() throws Exception {
+        assertThat(taskStore).isInstanceOf(JournalTaskStore.class);
+
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Edge task\",\"priority\":\"LOW\"}"))
+                .andExpect(status().isCreated());
+
+        assertThat(journalContains("Edge task")).isTrue();
+    }
+
+    private static boolean journalContains(String text) throws IOException {
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            for (Path file : files.toList()) {
+                if (new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1).contains(text)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,187 @@
+package com.decena.task.Config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.decena.task.Service.ServiceImpl.WarmUpJob;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.servlet.http.Cookie;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Routing against two embedded H2 databases. "Replication" is a full copy of the
+ * primary into the replica (H2 SCRIPT), so each test decides what the replica has seen.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:replica-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.check-interval-ms=3600000",
+        "app.datasource.replica.max-lag-ms=2000",
+        "management.endpoint.health.show-details=always"
+})
+@AutoConfigureMockMvc
+public class ReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReadReplica readReplica;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void warmUp_shouldFillPrimaryAndReplicaPools() {
+        assertThat(WarmUpJob.targetPools(dataSource))
+                .containsExactlyInAnyOrder(primaryDataSource, readReplica.getDataSource());
+    }
+
+    @Test
+    void readOnlyRequest_shouldBeServedByReplicaWhenInSync() throws Exception {
+        long id = createTask("Primary title");
+        replicateAndCheck();
+        replica().update("UPDATE tasks SET title = 'Replica title' WHERE id = ?", id);
+
+        assertThat(readReplica.isReplicaUsable()).isTrue();
+        mockMvc.perform(get("/api/tasks/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Replica title"));
+    }
+
+    @Test
+    void readOnlyRequest_shouldUsePrimaryWhenReplicaLags() throws Exception {
+        long id = createTask("Primary title");
+        replicateAndCheck();
+        replica().update("UPDATE tasks SET title = 'Stale title' WHERE id = ?", id);
+        replica().update("UPDATE replica_heartbeat SET beat_at_ms = ?", System.currentTimeMillis() - 10_000);
+        readReplica.check();
+
+        assertThat(readReplica.isReplicaUsable()).isFalse();
+        assertThat(readReplica.getLagMillis()).isGreaterThanOrEqualTo(10_000);
+        mockMvc.perform(get("/api/tasks/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Primary title"));
+    }
+
+    @Test
+    void clientReads_shouldStayOnPrimaryAfterOwnWrite() throws Exception {
+        replicateAndCheck();
+        Cookie sticky = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Fresh task\",\"priority\":\"LOW\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE_NAME))
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        long id = latestPrimaryTaskId();
+
+        mockMvc.perform(get("/api/tasks/" + id))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tasks/" + id).cookie(sticky))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Fresh task"));
+    }
+
+    @Test
+    void health_shouldOnlyCoverPrimary() throws Exception {
+        // A single "db" indicator (the primary pool); routing data sources and the replica are left out.
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components.db.status").value("UP"))
+                .andExpect(jsonPath("$.components.db.components").doesNotExist());
+    }
+
+    @Test
+    void unreachableReplica_shouldFallBackToPrimaryAndKeepReadiness() throws Exception {
+        long id = createTask("Primary title");
+        replicateAndCheck();
+        replica().update("UPDATE tasks SET title = 'Replica title' WHERE id = ?", id);
+        replica().execute("DROP TABLE replica_heartbeat");
+        readReplica.check();
+
+        assertThat(readReplica.isReplicaUsable()).isFalse();
+        mockMvc.perform(get("/api/tasks/" + id))
+                .andExpect(jsonPath("$.title").value("Primary title"));
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void failedReplicaConnection_shouldFallBackToPrimary() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        ReadReplica monitor = mock(ReadReplica.class);
+        Connection primaryConnection = mock(Connection.class);
+        SQLException failure = new SQLException("replica down");
+        when(monitor.getDataSource()).thenReturn(replica);
+        when(monitor.isReplicaUsable()).thenReturn(true);
+        when(replica.getConnection()).thenThrow(failure);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            assertThat(new ReplicaRoutingDataSource(primary, monitor).getConnection())
+                    .isSameAs(primaryConnection);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+        verify(monitor).markUnavailable(failure);
+    }
+
+    private long createTask(String title) throws Exception {
+        String body = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"priority\":\"LOW\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private long latestPrimaryTaskId() {
+        return new JdbcTemplate(primaryDataSource).queryForObject("SELECT MAX(id) FROM tasks", Long.class);
+    }
+
+    /**
+     * Copies the primary into the replica, then runs a lag check against the copied heartbeat.
+     */
+    private void replicateAndCheck() {
+        readReplica.check();
+        JdbcTemplate replica = replica();
+        new JdbcTemplate(primaryDataSource)
+                .queryForList("SCRIPT NOPASSWORDS NOSETTINGS NOVERSION DROP", String.class)
+                .forEach(replica::execute);
+        readReplica.check();
+    }
+
+    private JdbcTemplate replica() {
+        return new JdbcTemplate(readReplica.getDataSource());
+    }
+}
@@ -0,0 +1,259 @@
+package com.decena.task.Config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.decena.task.Entity.WorkspacePlacement;
+import com.decena.task.Service.ServiceImpl.IdempotencyStore;
+import com.decena.task.Service.ServiceImpl.WarmUpJob;
+import com.decena.task.Service.ServiceImpl.WorkspaceShardMover;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Sharding across three embedded H2 databases: the regular test database is the primary
+ * shard, shard1 and shard2 are extra in-memory databases.
+ */
+@SpringBootTest(properties = {
+        "app.sharding.enabled=true",
+        "app.sharding.shards=shard1,shard2",
+        "app.sharding.shard.shard1.url=jdbc:h2:mem:shard1-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.sharding.shard.shard2.url=jdbc:h2:mem:shard2-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.sharding.placement-refresh-ms=3600000",
+        "app.sharding.move.batch-size=3",
+        "app.sharding.move.settle-ms=0"
+})
+@AutoConfigureMockMvc
+public class ShardRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardRouter router;
+
+    @Autowired
+    private WorkspaceShardMover mover;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void warmUp_shouldFillEveryShardPool() {
+        assertThat(WarmUpJob.targetPools(dataSource))
+                .containsExactlyInAnyOrderElementsOf(router.getShardNames().stream().map(router::getDataSource).toList());
+    }
+
+    @Test
+    void tasks_shouldBeStoredOnTheWorkspaceShardOnly() throws Exception {
+        for (String shard : router.getShardNames()) {
+            String workspace = workspaceOn(shard);
+            long id = createTask(workspace, "Sharded task");
+
+            for (String other : router.getShardNames()) {
+                assertThat(countTasks(other, workspace)).isEqualTo(other.equals(shard) ? 1 : 0);
+            }
+            mockMvc.perform(get("/api/tasks/" + id).header(WorkspaceContext.HEADER, workspace))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.workspaceId").value(workspace));
+        }
+    }
+
+    @Test
+    void shards_shouldAllocateTaskIdsFromTheirOwnRange() throws Exception {
+        List<String> shards = router.getShardNames();
+        for (int index = 0; index < shards.size(); index++) {
+            long id = createTask(workspaceOn(shards.get(index)), "Ranged task");
+
+            assertThat(id >>> ShardSchemaInitializer.ID_RANGE_BITS).isEqualTo(index);
+        }
+    }
+
+    @Test
+    void workspaces_shouldNotSeeEachOthersTasks() throws Exception {
+        String owner = workspaceOn("shard1");
+        String other = workspaceOn("shard1");
+        long id = createTask(owner, "Private task");
+
+        mockMvc.perform(get("/api/tasks/" + id).header(WorkspaceContext.HEADER, other))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tasks/" + id))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void invalidWorkspaceHeader_shouldBeRejected() throws Exception {
+        mockMvc.perform(get("/api/tasks").header(WorkspaceContext.HEADER, "no spaces allowed"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value(containsString("workspace id")));
+    }
+
+    @Test
+    void movingWorkspace_shouldRejectWritesButServeReads() throws Exception {
+        String workspace = workspaceOn("shard2");
+        long id = createTask(workspace, "Frozen task");
+        router.place(workspace, "shard2", WorkspacePlacement.State.MOVING);
+        try {
+            mockMvc.perform(post("/api/tasks")
+                            .header(WorkspaceContext.HEADER, workspace)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"Blocked\",\"priority\":\"LOW\"}"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.status").value(503))
+                    .andExpect(jsonPath("$.message").value(containsString("being moved")));
+            mockMvc.perform(get("/api/tasks/" + id).header(WorkspaceContext.HEADER, workspace))
+                    .andExpect(status().isOk());
+        } finally {
+            router.place(workspace, "shard2", WorkspacePlacement.State.ACTIVE);
+        }
+    }
+
+    @Test
+    void move_shouldCopyWorkspaceInBatchesAndFlipRouting() throws Exception {
+        String workspace = workspaceOn("shard1");
+        String neighbour = workspaceOn("shard1");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(createTask(workspace, "Moving task " + i));
+        }
+        createTask(neighbour, "Staying task");
+
+        WorkspaceShardMover.MoveResult result = mover.move(workspace, "shard2");
+
+        assertThat(result.rowsCopied()).isEqualTo(7);
+        assertThat(result.rowsResynced()).isZero();
+        assertThat(result.rowsDeleted()).isEqualTo(7);
+        assertThat(router.shardFor(workspace)).isEqualTo("shard2");
+        assertThat(countTasks("shard1", workspace)).isZero();
+        assertThat(countTasks("shard2", workspace)).isEqualTo(7);
+        assertThat(countTasks("shard1", neighbour)).isEqualTo(1);
+        for (int i = 0; i < ids.size(); i++) {
+            mockMvc.perform(get("/api/tasks/" + ids.get(i)).header(WorkspaceContext.HEADER, workspace))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.title").value("Moving task " + i));
+        }
+
+        createTask(workspace, "Created after move");
+        assertThat(countTasks("shard2", workspace)).isEqualTo(8);
+    }
+
+    @Test
+    void move_shouldTakeJobsAndTheirResultsAlong() throws Exception {
+        String workspace = workspaceOn("shard1");
+        for (int i = 0; i < 3; i++) {
+            createTask(workspace, "Exported task " + i);
+        }
+        String body = mockMvc.perform(post("/api/jobs/export").header(WorkspaceContext.HEADER, workspace))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(body).get("id").asString();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!"SUCCEEDED".equals(jobState(workspace, jobId)) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(jobState(workspace, jobId)).isEqualTo("SUCCEEDED");
+
+        mover.move(workspace, "shard2");
+
+        assertThat(countRows("shard1", "task_jobs", jobId)).isZero();
+        assertThat(countRows("shard1", "task_job_results", jobId)).isZero();
+        assertThat(countRows("shard2", "task_jobs", jobId)).isEqualTo(1);
+        assertThat(jobState(workspace, jobId)).isEqualTo("SUCCEEDED");
+        mockMvc.perform(get("/api/jobs/{id}/result", jobId).header(WorkspaceContext.HEADER, workspace))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    void move_shouldTakeIdempotencyKeysAlong() throws Exception {
+        String workspace = workspaceOn("shard1");
+        String request = "{\"title\":\"Keyed task\",\"priority\":\"LOW\"}";
+        mockMvc.perform(post("/api/tasks")
+                        .header(WorkspaceContext.HEADER, workspace)
+                        .header(IdempotencyStore.HEADER, "move-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isCreated());
+
+        mover.move(workspace, "shard2");
+
+        String keys = "SELECT COUNT(*) FROM idempotency_keys WHERE workspace_id = ?";
+        assertThat(new JdbcTemplate(router.getDataSource("shard1")).queryForObject(keys, Long.class, workspace))
+                .isZero();
+        assertThat(new JdbcTemplate(router.getDataSource("shard2")).queryForObject(keys, Long.class, workspace))
+                .isEqualTo(1);
+        mockMvc.perform(post("/api/tasks")
+                        .header(WorkspaceContext.HEADER, workspace)
+                        .header(IdempotencyStore.HEADER, "move-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyStore.REPLAYED_HEADER, "true"));
+        assertThat(countTasks("shard2", workspace)).isEqualTo(1);
+    }
+
+    private String jobState(String workspace, String jobId) throws Exception {
+        String body = mockMvc.perform(get("/api/jobs/{id}", jobId).header(WorkspaceContext.HEADER, workspace))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("state").asString();
+    }
+
+    private long countRows(String shard, String table, String jobId) {
+        String column = "task_jobs".equals(table) ? "id" : "job_id";
+        return new JdbcTemplate(router.getDataSource(shard))
+                .queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Long.class, jobId);
+    }
+
+    private long createTask(String workspace, String title) throws Exception {
+        String body = mockMvc.perform(post("/api/tasks")
+                        .header(WorkspaceContext.HEADER, workspace)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"priority\":\"LOW\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private long countTasks(String shard, String workspace) {
+        return new JdbcTemplate(router.getDataSource(shard))
+                .queryForObject("SELECT COUNT(*) FROM tasks WHERE workspace_id = ?", Long.class, workspace);
+    }
+
+    /**
+     * Returns a fresh workspace ID that the ring places on the given shard.
+     */
+    private String workspaceOn(String shard) {
+        while (true) {
+            String workspace = "ws-" + UUID.randomUUID().toString().substring(0, 8);
+            if (router.shardFor(workspace).equals(shard)) {
+                return workspace;
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.decena.task.Config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import tools.jackson.core.util.JsonRecyclerPools;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+@SpringBootTest(properties = "spring.jackson.serialization.indent-output=true")
+@ActiveProfiles("small")
+public class SmallFootprintConfigTest {
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Test
+    void smallProfile_shouldBoundJsonBuffersAndPoolWhileKeepingBootCustomizers() {
+        assertThat(jsonMapper.tokenStreamFactory()._getRecyclerPool())
+                .isInstanceOf(JsonRecyclerPools.BoundedPool.class);
+        // spring.jackson.* properties still reach the mapper through Boot's customizer.
+        assertThat(jsonMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)).isTrue();
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,30 @@
+package com.decena.task.Config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.decena.task.Entity.RecurrenceTypeConverter;
+import com.decena.task.Instrumentation.SqlStatementCountingInspector;
+import com.decena.task.Instrumentation.SqlTimingSessionListener;
+
+public class TaskRuntimeHintsTest {
+
+    @Test
+    void registerHints_shouldCoverClassesHibernateLoadsByName() {
+        RuntimeHints hints = new RuntimeHints();
+        new TaskRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(SqlStatementCountingInspector.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(SqlTimingSessionListener.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(WorkspaceTenantResolver.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(RecurrenceTypeConverter.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+}
@@ -0,0 +1,69 @@
+package com.decena.task.Config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.decena.task.Repository.TaskRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+        "app.warmup.enabled=true",
+        "app.warmup.iterations=50",
+        "management.endpoint.health.group.readiness.show-details=always"
+})
+@AutoConfigureMockMvc
+public class WarmUpReadinessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WarmUpHealthIndicator warmUpHealthIndicator;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void health_shouldBeOutOfServiceUntilWarmUpCompletes() {
+        WarmUpHealthIndicator indicator = new WarmUpHealthIndicator();
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        indicator.markCompleted(3, Duration.ofMillis(12));
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(indicator.health().getDetails()).containsEntry("iterations", 3L);
+    }
+
+    @Test
+    void readinessGroup_shouldTurnUpAfterReadOnlyWarmUp() throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!warmUpHealthIndicator.isCompleted() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(warmUpHealthIndicator.isCompleted()).isTrue();
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components.warmUp.details.iterations").value(50))
+                .andExpect(jsonPath("$.components.db.status").value("UP"));
+        assertThat(taskRepository.count()).isZero();
+        assertThat(meterRegistry.find("task.service").timers())
+                .as("warm-up must not be recorded as service traffic")
+                .allSatisfy(timer -> assertThat(timer.count()).isZero());
+    }
+}
@@ -1,5 +1,9 @@
 package com.decena.task.Controller;
 
+import static com.decena.task.Instrumentation.SqlStatementAssertions.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -51,6 +55,141 @@ public class TaskControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void testPatchTaskEndpointUpdatesOnlySentFields() throws Exception {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Patch Me");
+        request.setDescription("Keep this description");
+        request.setPriority("LOW");
+
+        String created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(patch("/api/tasks/{id}", id)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"priority\":\"HIGH\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priority").value("HIGH"))
+                .andExpect(jsonPath("$.title").value("Patch Me"))
+                .andExpect(jsonPath("$.description").value("Keep this description"));
+    }
+
+    @Test
+    void testEndpointStatementCountsAndServerTimingHeader() throws Throwable {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Counted");
+        request.setPriority("LOW");
+
+        String created = assertStatementCount(2, () -> mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Server-Timing", containsString("desc=\"2 statements\"")))
+                .andReturn().getResponse().getContentAsString());
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        assertStatementCount(1, () -> mockMvc.perform(get("/api/tasks/{id}", id))
+                .andExpect(status().isOk()));
+
+        // a short first page needs no separate count query
+        assertStatementCount(1, () -> mockMvc.perform(get("/api/tasks")
+                        .param("page", "0")
+                        .param("size", "1000"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void testBoardColumnEndpointServesCachedColumnAndSeesLocalWrites() throws Throwable {
+        mockMvc.perform(get("/api/tasks/board").param("status", "IN_PROGRESS"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Age"));
+
+        // cached: no statement until a write touches the column
+        assertStatementCount(0, () -> mockMvc.perform(get("/api/tasks/board").param("status", "IN_PROGRESS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS")));
+
+        TaskRequest request = new TaskRequest();
+        request.setTitle("On the board");
+        request.setPriority("LOW");
+        request.setStatus("IN_PROGRESS");
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/tasks/board").param("status", "IN_PROGRESS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[?(@.title == 'On the board')]").exists());
+    }
+
+    @Test
+    void testCreateWithIdempotencyKeyReplaysFirstResponse() throws Throwable {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Created once");
+        request.setPriority("LOW");
+        String body = objectMapper.writeValueAsString(request);
+
+        String first = mockMvc.perform(post("/api/tasks")
+                        .header("Idempotency-Key", "create-once")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andReturn().getResponse().getContentAsString();
+
+        // a retry neither writes nor queries: the response is cached in memory
+        String retried = assertStatementCount(0, () -> mockMvc.perform(post("/api/tasks")
+                        .header("Idempotency-Key", "create-once")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn().getResponse().getContentAsString());
+        assertThat(retried).isEqualTo(first);
+
+        request.setTitle("Something else");
+        mockMvc.perform(post("/api/tasks")
+                        .header("Idempotency-Key", "create-once")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableContent());
+    }
+
+    @Test
+    void testCompleteWithIdempotencyKeySpawnsNextRecurrenceOnce() throws Exception {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Water the plants");
+        request.setPriority("LOW");
+        request.setRecurrenceType("DAILY");
+        request.setDeadline(LocalDateTime.now().plusDays(1));
+        String created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(patch("/api/tasks/{id}/complete", id).header("Idempotency-Key", "complete-" + id))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Idempotent-Replayed", String.valueOf(attempt > 0)))
+                    .andExpect(jsonPath("$.status").value("DONE"));
+        }
+
+        mockMvc.perform(get("/api/tasks/board").param("status", "TODO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[?(@.title == 'Water the plants')]", hasSize(1)));
+
+        // the same key cannot complete another task
+        mockMvc.perform(patch("/api/tasks/{id}/complete", 999).header("Idempotency-Key", "complete-" + id))
+                .andExpect(status().isUnprocessableContent());
+    }
+
     @Test
     void testDeleteTaskEndpointNotFound() throws Exception {
         mockMvc.perform(delete("/api/tasks/{id}", 999))
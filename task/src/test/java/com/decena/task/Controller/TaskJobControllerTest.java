@@ -0,0 +1,232 @@
+package com.decena.task.Controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Dto.TaskImportRequest;
+import com.decena.task.Dto.TaskRequest;
+import com.decena.task.Entity.Task;
+import com.decena.task.Entity.TaskJob;
+import com.decena.task.Repository.TaskJobRepository;
+import com.decena.task.Repository.TaskRepository;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = {
+        "app.jobs.poll-ms=100",
+        "app.jobs.stale-ms=1000",
+        "app.jobs.chunk-size=20",
+        "app.jobs.export-page-size=7"
+})
+@AutoConfigureMockMvc
+class TaskJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskJobRepository jobRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void importJob_shouldCreateTasksInChunksAndSkipItemsThatFail() throws Exception {
+        String series = "series-" + UUID.randomUUID();
+        List<TaskRequest> tasks = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            tasks.add(task("Imported " + i, series));
+        }
+        // a recurring task needs a deadline: this item fails on its own
+        tasks.get(30).setDeadline(null);
+
+        JsonNode job = submit("/api/jobs/import", new TaskImportRequest(tasks));
+        assertThat(job.get("state").asString()).isEqualTo("QUEUED");
+        assertThat(job.get("totalItems").asInt()).isEqualTo(45);
+
+        JsonNode finished = awaitFinished(job.get("id").asString());
+        assertThat(finished.get("state").asString()).isEqualTo("SUCCEEDED");
+        assertThat(finished.get("processedItems").asInt()).isEqualTo(45);
+        assertThat(finished.get("failedItems").asInt()).isEqualTo(1);
+        assertThat(finished.get("error").asString()).contains("Item 31").contains("deadline");
+
+        JsonNode edit = submit("/api/jobs/series-edit",
+                objectMapper.readTree("{\"recurrenceGroupId\":\"" + series + "\",\"patch\":{\"priority\":\"HIGH\"}}"));
+        JsonNode edited = awaitFinished(edit.get("id").asString());
+        assertThat(edited.get("state").asString()).isEqualTo("SUCCEEDED");
+        assertThat(edited.get("totalItems").asInt()).isEqualTo(44);
+
+        JsonNode export = awaitFinished(submit("/api/jobs/export", null).get("id").asString());
+        assertThat(export.get("hasResult").asBoolean()).isTrue();
+        String exported = mockMvc.perform(get("/api/jobs/{id}/result", export.get("id").asString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Long> exportedIds = new ArrayList<>();
+        objectMapper.readTree(exported).forEach(task -> exportedIds.add(task.get("id").asLong()));
+        assertThat(exportedIds).isSorted().doesNotHaveDuplicates();
+        assertThat(export.get("totalItems").asInt()).isEqualTo(exportedIds.size());
+        assertThat(export.get("processedItems").asInt()).isEqualTo(exportedIds.size());
+        long highInSeries = 0;
+        for (JsonNode task : objectMapper.readTree(exported)) {
+            if (series.equals(task.path("recurrenceGroupId").asString(null))) {
+                assertThat(task.get("priority").asString()).isEqualTo("HIGH");
+                highInSeries++;
+            }
+        }
+        assertThat(highInSeries).isEqualTo(44);
+    }
+
+    @Test
+    void archiveJob_shouldSoftDeleteCompletedTasks() throws Exception {
+        String created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Archive me\",\"priority\":\"LOW\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+        mockMvc.perform(post("/api/tasks").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Keep me\",\"priority\":\"LOW\"}"));
+        mockMvc.perform(patch("/api/tasks/{id}/complete", id))
+                .andExpect(status().isOk());
+
+        JsonNode archived = awaitFinished(submit("/api/jobs/archive", null).get("id").asString());
+
+        assertThat(archived.get("state").asString()).isEqualTo("SUCCEEDED");
+        mockMvc.perform(get("/api/tasks/{id}", id)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void archiveJob_shouldIncludeTasksMissingFromTheCachedBoard() throws Exception {
+        String created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Completed elsewhere\",\"priority\":\"LOW\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+        mockMvc.perform(get("/api/tasks/board").param("status", "DONE")).andExpect(status().isOk());
+        // Completed by another instance: this instance's cached DONE column does not have it yet.
+        Task task = taskRepository.findById(id).orElseThrow();
+        task.setStatus(Task.Status.DONE);
+        taskRepository.save(task);
+
+        JsonNode archived = awaitFinished(submit("/api/jobs/archive", null).get("id").asString());
+
+        assertThat(archived.get("state").asString()).isEqualTo("SUCCEEDED");
+        mockMvc.perform(get("/api/tasks/{id}", id)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void cancel_shouldStopRunningJobAfterItsCurrentChunk() throws Exception {
+        List<TaskRequest> tasks = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            tasks.add(task("Cancelled " + i, null));
+        }
+        String id = submit("/api/jobs/import", new TaskImportRequest(tasks)).get("id").asString();
+
+        mockMvc.perform(post("/api/jobs/{id}/cancel", id))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.cancelRequested").value(true));
+
+        JsonNode finished = awaitFinished(id);
+        assertThat(finished.get("state").asString()).isEqualTo("CANCELLED");
+        assertThat(finished.get("processedItems").asInt()).isLessThan(5000);
+        mockMvc.perform(get("/api/jobs/{id}/result", id)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void jobOfStoppedInstance_shouldResumeAfterItsLastCommittedChunk() throws Exception {
+        List<TaskRequest> tasks = List.of(task("Resumed 0", null), task("Resumed 1", null),
+                task("Resumed 2", null), task("Resumed 3", null));
+        LocalDateTime longAgo = LocalDateTime.now().minusMinutes(5);
+        TaskJob orphan = jobRepository.save(TaskJob.builder()
+                .id(UUID.randomUUID().toString())
+                .workspaceId(WorkspaceContext.DEFAULT_WORKSPACE)
+                .type(TaskJob.Type.IMPORT)
+                .state(TaskJob.State.RUNNING)
+                .payload(objectMapper.writeValueAsString(tasks))
+                .totalItems(4)
+                .processedItems(2)
+                .owner("stopped-instance")
+                .createdAt(longAgo)
+                .startedAt(longAgo)
+                .updatedAt(longAgo)
+                .build());
+
+        JsonNode finished = awaitFinished(orphan.getId());
+
+        assertThat(finished.get("state").asString()).isEqualTo("SUCCEEDED");
+        assertThat(finished.get("processedItems").asInt()).isEqualTo(4);
+        String page = mockMvc.perform(get("/api/tasks").param("size", "1000"))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(page).doesNotContain("Resumed 0").doesNotContain("Resumed 1")
+                .contains("Resumed 2").contains("Resumed 3");
+    }
+
+    @Test
+    void unknownJob_shouldGet404() throws Exception {
+        mockMvc.perform(get("/api/jobs/{id}", "missing")).andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/jobs/series-edit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"recurrenceGroupId\":\"s\",\"patch\":[1]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode submit(String path, Object body) throws Exception {
+        String response = mockMvc.perform(post(path)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body == null ? "" : objectMapper.writeValueAsString(body)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    private JsonNode awaitFinished(String id) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (true) {
+            JsonNode job = objectMapper.readTree(mockMvc.perform(get("/api/jobs/{id}", id))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            if (TaskJob.State.valueOf(job.get("state").asString()).isFinished()) {
+                return job;
+            }
+            assertThat(System.nanoTime()).as("job %s still %s", id, job.get("state")).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private static TaskRequest task(String title, String series) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(title);
+        request.setPriority("LOW");
+        if (series != null) {
+            request.setRecurrenceType("WEEKLY");
+            request.setRecurrenceGroupId(series);
+            request.setDeadline(LocalDateTime.now().plusDays(3));
+        }
+        return request;
+    }
+}
@@ -0,0 +1,54 @@
+package com.decena.task.Instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+
+public class JfrLatencyReportTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSummariseGroupsEventsByOperation() throws Exception {
+        Path file = tempDir.resolve("task.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TaskOperationEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(BoardReorderEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            for (int i = 0; i < 3; i++) {
+                TaskOperationEvent event = new TaskOperationEvent();
+                event.begin();
+                event.operation = "createTask";
+                event.rowsTouched = 1;
+                event.commit();
+            }
+            TaskOperationEvent update = new TaskOperationEvent();
+            update.begin();
+            update.operation = "updateTaskStatus";
+            update.commit();
+            BoardReorderEvent reorder = new BoardReorderEvent();
+            reorder.begin();
+            reorder.status = "TODO";
+            reorder.commit();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, JfrLatencyReport.OperationStats> stats = JfrLatencyReport.summarise(file);
+
+        assertThat(stats).containsOnlyKeys("TaskOperation.createTask", "TaskOperation.updateTaskStatus", "BoardReorder");
+        assertThat(stats.get("TaskOperation.createTask").count()).isEqualTo(3);
+        assertThat(stats.get("TaskOperation.createTask").p99Millis())
+                .isLessThanOrEqualTo(stats.get("TaskOperation.createTask").maxMillis());
+    }
+}
@@ -0,0 +1,35 @@
+package com.decena.task.Instrumentation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+/**
+ * Test helpers that pin the number of SQL statements an operation issues.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Runs an action and asserts how many SQL statements it issued.
+     *
+     * @param expected expected statement count
+     * @param action action to measure
+     * @return value returned by the action
+     */
+    public static <T> T assertStatementCount(int expected, ThrowingSupplier<T> action) throws Throwable {
+        SqlStatementStats.Scope scope = SqlStatementStats.begin();
+        T result;
+        SqlStatementStats.Snapshot snapshot;
+        try {
+            result = action.get();
+        } finally {
+            snapshot = SqlStatementStats.end(scope);
+        }
+        assertEquals(expected, snapshot.statements(),
+                () -> "Unexpected SQL statement count, statements: " + snapshot.shapes());
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+package com.decena.task.Repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * The task API end to end on the in-memory engine: tasks never reach the tasks table.
+ */
+@SpringBootTest(properties = "app.storage.engine=memory")
+@AutoConfigureMockMvc
+public class InMemoryStorageEngineTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskStore taskStore;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void memoryEngine_shouldBeThePrimaryStore() {
+        assertThat(taskStore).isInstanceOf(InMemoryTaskStore.class);
+    }
+
+    @Test
+    void boardFlow_shouldWorkWithoutTheTasksTable() throws Exception {
+        long before = taskRepository.count();
+        long first = createTask("First");
+        long second = createTask("Second");
+
+        mockMvc.perform(patch("/api/tasks/board/reorder")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"TODO\",\"orderedTaskIds\":[" + second + "," + first + "]}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks").param("sortDir", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(first));
+        mockMvc.perform(patch("/api/tasks/" + first + "/complete"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"));
+        mockMvc.perform(get("/api/tasks/" + second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Second"));
+
+        assertThat(taskRepository.count()).isEqualTo(before);
+    }
+
+    private long createTask(String title) throws Exception {
+        String body = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"priority\":\"LOW\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
@@ -0,0 +1,147 @@
+package com.decena.task.Repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Entity.Task;
+
+class InMemoryTaskStoreTest {
+
+    private final InMemoryTaskStore store = new InMemoryTaskStore();
+
+    @Test
+    void save_shouldAssignIdsAndDefaultsAndKeepCopies() {
+        Task task = Task.builder().title("Copied").priority(Task.Priority.LOW).build();
+
+        store.save(task);
+        task.setTitle("Changed without save");
+
+        assertThat(task.getId()).isNotNull();
+        assertThat(task.getStatus()).isEqualTo(Task.Status.TODO);
+        assertThat(task.getWorkspaceId()).isEqualTo(WorkspaceContext.DEFAULT_WORKSPACE);
+        assertThat(store.findById(task.getId())).get().extracting(Task::getTitle).isEqualTo("Copied");
+    }
+
+    @Test
+    void column_shouldFollowBoardOrderAndStatusChanges() {
+        Task third = store.save(task("third", Task.Status.TODO, 3L));
+        Task first = store.save(task("first", Task.Status.TODO, 1L));
+        Task second = store.save(task("second", Task.Status.TODO, 2L));
+
+        first.setStatus(Task.Status.IN_PROGRESS);
+        store.save(first);
+        third.setBoardOrder(0L);
+        store.save(third);
+
+        assertThat(store.findByDeletedFalseAndStatusOrderByBoardOrderAscIdAsc(Task.Status.TODO))
+                .extracting(Task::getTitle).containsExactly("third", "second");
+        assertThat(store.findTopByDeletedFalseAndStatusOrderByBoardOrderDesc(Task.Status.TODO))
+                .get().extracting(Task::getId).isEqualTo(second.getId());
+        assertThat(store.countByDeletedFalseAndStatusIn(Set.of(Task.Status.TODO, Task.Status.IN_PROGRESS)))
+                .isEqualTo(3);
+        assertThat(store.findColumnTailForUpdate(List.of(Task.Status.TODO, Task.Status.PENDING))).contains(2L);
+        assertThat(store.findColumnTailForUpdate(List.of(Task.Status.DONE))).isEmpty();
+    }
+
+    @Test
+    void softDelete_shouldMoveTaskToRecycleBin() {
+        Task kept = store.save(task("kept", Task.Status.TODO, 1L));
+        Task deleted = store.save(task("deleted", Task.Status.TODO, 2L));
+
+        deleted.setDeleted(true);
+        store.save(deleted);
+
+        assertThat(store.findByIdAndDeletedFalse(deleted.getId())).isEmpty();
+        assertThat(store.findByIdInAndDeletedFalse(List.of(kept.getId(), deleted.getId())))
+                .extracting(Task::getId).containsExactly(kept.getId());
+        assertThat(store.findAllByDeletedTrue(PageRequest.of(0, 10)).getContent())
+                .extracting(Task::getId).containsExactly(deleted.getId());
+        assertThat(store.findByDeletedFalse(PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+        assertThat(store.countByDeletedFalse()).isEqualTo(1);
+    }
+
+    @Test
+    void keysetPages_shouldFollowIdsAndSkipDeletedTasks() {
+        Task first = store.save(task("first", Task.Status.TODO, 1L));
+        Task deleted = store.save(task("deleted", Task.Status.DONE, 1L));
+        Task third = store.save(task("third", Task.Status.IN_PROGRESS, 1L));
+        Task fourth = store.save(task("fourth", Task.Status.TODO, 2L));
+        deleted.setDeleted(true);
+        store.save(deleted);
+
+        assertThat(store.findByDeletedFalseAndIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .extracting(Task::getId).containsExactly(first.getId(), third.getId());
+        assertThat(store.findByDeletedFalseAndIdGreaterThanOrderByIdAsc(third.getId(), Limit.of(2)))
+                .extracting(Task::getId).containsExactly(fourth.getId());
+    }
+
+    @Test
+    void pages_shouldSortLikeTheDatabase() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            Task task = task("task-" + i, Task.Status.TODO, (long) i);
+            task.setDeadline(i == 2 ? null : now.plusDays(10 - i));
+            task.setPriority(i % 2 == 0 ? Task.Priority.HIGH : Task.Priority.LOW);
+            store.save(task);
+        }
+
+        assertThat(store.findByDeletedFalse(PageRequest.of(0, 3, Sort.by("deadline"))).getContent())
+                .extracting(Task::getTitle).containsExactly("task-2", "task-4", "task-3");
+        assertThat(store.findByDeletedFalse(PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "deadline"))).getContent())
+                .extracting(Task::getTitle).containsExactly("task-4", "task-2");
+        assertThat(store.findByDeletedFalse(PageRequest.of(0, 5, Sort.by("priority"))).getContent())
+                .extracting(Task::getTitle).containsExactly("task-0", "task-2", "task-4", "task-1", "task-3");
+    }
+
+    @Test
+    void workspaces_shouldBeIsolated() {
+        Task mine = WorkspaceContext.callAs("acme", () -> store.save(task("acme task", Task.Status.TODO, 1L)));
+
+        assertThat(store.findById(mine.getId())).isEmpty();
+        assertThat(store.countByDeletedFalseAndStatusIn(Set.of(Task.Status.TODO))).isZero();
+        assertThat(WorkspaceContext.callAs("acme", () -> store.findById(mine.getId()))).isPresent();
+    }
+
+    @Test
+    void rollback_shouldRestoreReplacedVersions() {
+        Task existing = store.save(task("before", Task.Status.TODO, 1L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            existing.setTitle("after");
+            existing.setStatus(Task.Status.DONE);
+            store.save(existing);
+            store.save(task("inserted", Task.Status.TODO, 2L));
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(store.findByDeletedFalseAndStatusOrderByBoardOrderAscIdAsc(Task.Status.TODO))
+                .extracting(Task::getTitle).containsExactly("before");
+        assertThat(store.countByDeletedFalseAndStatusIn(Set.of(Task.Status.DONE))).isZero();
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    private static Task task(String title, Task.Status status, Long boardOrder) {
+        return Task.builder()
+                .title(title)
+                .priority(Task.Priority.MODERATE)
+                .status(status)
+                .boardOrder(boardOrder)
+                .build();
+    }
+}
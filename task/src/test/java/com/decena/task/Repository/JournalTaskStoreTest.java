@@ -0,0 +1,116 @@
+package com.decena.task.Repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Entity.Task;
+
+class JournalTaskStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private JournalTaskStore store;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (store != null) {
+            store.stop();
+        }
+    }
+
+    @Test
+    void committedChanges_shouldSurviveARestart() throws InterruptedException {
+        store = open();
+        Task moved = store.save(task("moved"));
+        store.save(task("kept"));
+        WorkspaceContext.runAs("acme", () -> store.save(task("acme task")));
+        inTransaction(TransactionSynchronization.STATUS_COMMITTED, () -> {
+            moved.setStatus(Task.Status.DONE);
+            moved.setBoardOrder(1L);
+            store.save(moved);
+        });
+
+        store = restart();
+
+        assertThat(store.findByDeletedFalseAndStatusOrderByBoardOrderAscIdAsc(Task.Status.TODO))
+                .extracting(Task::getTitle).containsExactly("kept");
+        assertThat(store.findById(moved.getId())).get().extracting(Task::getStatus).isEqualTo(Task.Status.DONE);
+        assertThat(WorkspaceContext.callAs("acme", () -> store.countByDeletedFalseAndStatusIn(Set.of(Task.Status.TODO))))
+                .isEqualTo(1);
+        assertThat(store.save(task("new")).getId()).isGreaterThan(moved.getId());
+    }
+
+    @Test
+    void rolledBackChanges_shouldNotBeJournaled() throws InterruptedException {
+        store = open();
+        Task task = store.save(task("original"));
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () -> {
+            task.setTitle("rolled back");
+            store.save(task);
+            store.save(task("never created"));
+        });
+
+        store = restart();
+
+        assertThat(store.findByIdInAndDeletedFalse(List.of(task.getId(), task.getId() + 1)))
+                .extracting(Task::getTitle).containsExactly("original");
+    }
+
+    @Test
+    void compaction_shouldKeepTheLatestState() throws InterruptedException {
+        store = open();
+        Task task = store.save(task("v0"));
+        for (int version = 1; version <= 50; version++) {
+            task.setTitle("v" + version);
+            store.save(task);
+        }
+
+        assertThat(store.compact()).isEqualTo(1);
+        store = restart();
+
+        assertThat(store.findById(task.getId())).get().extracting(Task::getTitle).isEqualTo("v50");
+    }
+
+    private JournalTaskStore open() {
+        JournalTaskStore opened = new JournalTaskStore(directory, 1, true, 16, 60_000);
+        opened.start();
+        return opened;
+    }
+
+    private JournalTaskStore restart() throws InterruptedException {
+        store.stop();
+        return open();
+    }
+
+    /**
+     * Runs the action with transaction synchronization active, then completes it with the given status.
+     */
+    private static void inTransaction(int status, Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            }
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Task task(String title) {
+        return Task.builder().title(title).priority(Task.Priority.LOW).build();
+    }
+}
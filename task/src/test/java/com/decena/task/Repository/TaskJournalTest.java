@@ -0,0 +1,166 @@
+package com.decena.task.Repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.decena.task.Entity.Task;
+
+class TaskJournalTest {
+
+    private static final int SEGMENT_BYTES = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recovery_shouldReplayLastStateOfEveryTask() {
+        try (TaskJournal journal = open(new ArrayList<>())) {
+            journal.sync(journal.append(List.of(task("acme", 1, "first"), task("acme", 2, "second"))));
+            Task renamed = task("acme", 1, "renamed");
+            renamed.setDeleted(true);
+            journal.sync(journal.append(List.of(renamed, task("other", 1, "same id, other workspace"))));
+        }
+
+        Map<String, Task> recovered = recover();
+
+        assertThat(recovered).hasSize(3);
+        assertThat(recovered.get("acme/1").getTitle()).isEqualTo("renamed");
+        assertThat(recovered.get("acme/1").isDeleted()).isTrue();
+        assertThat(recovered.get("acme/1").getDeadline()).isEqualTo(LocalDateTime.of(2030, 1, 2, 3, 4, 5, 6_000));
+        assertThat(recovered.get("other/1").getTitle()).isEqualTo("same id, other workspace");
+    }
+
+    @Test
+    void recovery_shouldDropATornTailAndContinueInANewSegment() throws IOException {
+        try (TaskJournal journal = open(new ArrayList<>())) {
+            journal.sync(journal.append(List.of(task("acme", 1, "kept"), task("acme", 2, "torn"))));
+        }
+        Path segment = logs().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            // Flip a payload byte of the second record.
+            int firstLength = file.readInt();
+            file.seek(16L + firstLength + 16 + 3);
+            file.write(0x7F);
+        }
+
+        try (TaskJournal journal = open(new ArrayList<>())) {
+            journal.sync(journal.append(List.of(task("acme", 3, "after crash"))));
+        }
+
+        assertThat(recover().keySet()).containsExactly("acme/1", "acme/3");
+    }
+
+    @Test
+    void recovery_shouldFailWhenAcknowledgedRecordsAreMissing() throws IOException {
+        try (TaskJournal journal = open(new ArrayList<>())) {
+            for (int i = 0; i < 120; i++) {
+                journal.sync(journal.append(List.of(task("acme", i, "Task with a reasonably long title " + i))));
+            }
+        }
+        List<Path> segments = logs();
+        assertThat(segments).hasSizeGreaterThan(2);
+        Files.delete(segments.get(1));
+
+        assertThatThrownBy(this::recover).isInstanceOf(IllegalStateException.class).hasMessageContaining("missing");
+    }
+
+    @Test
+    void compaction_shouldReplaceSegmentsWithASnapshot() throws IOException {
+        try (TaskJournal journal = open(new ArrayList<>())) {
+            for (int round = 0; round < 5; round++) {
+                for (int i = 0; i < 20; i++) {
+                    journal.sync(journal.append(List.of(task("acme", i, "Round " + round + " of task " + i))));
+                }
+            }
+            assertThat(journal.compact()).isEqualTo(20);
+            assertThat(journal.compact()).isEqualTo(-1);
+            journal.sync(journal.append(List.of(task("acme", 99, "after snapshot"))));
+        }
+
+        assertThat(logs()).hasSize(1);
+        Map<String, Task> recovered = recover();
+        assertThat(recovered).hasSize(21);
+        assertThat(recovered.get("acme/7").getTitle()).isEqualTo("Round 4 of task 7");
+
+        try (TaskJournal journal = open(new ArrayList<>())) {
+            assertThat(journal.compact()).isEqualTo(-1);
+            journal.sync(journal.append(List.of(task("acme", 7, "after second restart"))));
+            assertThat(journal.compact()).isEqualTo(21);
+        }
+        assertThat(recover().get("acme/7").getTitle()).isEqualTo("after second restart");
+    }
+
+    @Test
+    void concurrentWriters_shouldAllBeDurable() throws Exception {
+        int writers = 4;
+        int perWriter = 200;
+        try (TaskJournal journal = TaskJournal.open(directory, 1 << 20, true, task -> { })) {
+            ExecutorService executor = Executors.newFixedThreadPool(writers);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                String workspace = "ws" + w;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        journal.sync(journal.append(List.of(task(workspace, i, "Task " + i))));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+        }
+
+        assertThat(recover()).hasSize(writers * perWriter);
+    }
+
+    private TaskJournal open(List<Task> recovered) {
+        return TaskJournal.open(directory, SEGMENT_BYTES, true, recovered::add);
+    }
+
+    private Map<String, Task> recover() {
+        Map<String, Task> latest = new LinkedHashMap<>();
+        try (TaskJournal journal = TaskJournal.open(directory, SEGMENT_BYTES, true,
+                task -> latest.put(task.getWorkspaceId() + "/" + task.getId(), task))) {
+            return latest;
+        }
+    }
+
+    private List<Path> logs() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static Task task(String workspace, long id, String title) {
+        return Task.builder()
+                .id(id)
+                .workspaceId(workspace)
+                .title(title)
+                .priority(Task.Priority.HIGH)
+                .status(Task.Status.TODO)
+                .boardOrder(id)
+                .dateCreated(LocalDateTime.of(2030, 1, 1, 0, 0))
+                .deadline(LocalDateTime.of(2030, 1, 2, 3, 4, 5, 6_000))
+                .recurrenceType(Task.RecurrenceType.NONE)
+                .recurrenceInterval(1)
+                .build();
+    }
+}
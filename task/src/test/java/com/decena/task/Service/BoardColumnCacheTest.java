@@ -0,0 +1,181 @@
+package com.decena.task.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Dto.TaskResponse;
+import com.decena.task.Entity.Task;
+import com.decena.task.Entity.TaskOutboxEvent;
+import com.decena.task.Service.ServiceImpl.BoardColumnCache;
+import com.decena.task.Service.ServiceImpl.TaskChangeNotification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoardColumnCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void get_shouldServeFreshSnapshotWithoutLoading() {
+        BoardColumnCache cache = new BoardColumnCache(registry, true, 60_000, 120_000, 1);
+        CountingLoader loader = new CountingLoader();
+
+        BoardColumnCache.Snapshot first = cache.get(Task.Status.TODO, loader);
+        BoardColumnCache.Snapshot second = cache.get(Task.Status.TODO, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loader.calls.get()).isEqualTo(1);
+        assertThat(lookups("fresh")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldServeStaleSnapshotWhileOneBackgroundRefreshRuns() throws Exception {
+        BoardColumnCache cache = new BoardColumnCache(registry, true, 0, 120_000, 2);
+        CountingLoader initial = new CountingLoader();
+        BoardColumnCache.Snapshot stale = cache.get(Task.Status.TODO, initial);
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountingLoader slow = new CountingLoader(release);
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.get(Task.Status.TODO, slow)).isSameAs(stale);
+        }
+        release.countDown();
+
+        assertThat(awaitChange(cache, stale)).isNotSameAs(stale);
+        assertThat(slow.calls.get()).isEqualTo(1);
+        assertThat(lookups("stale")).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void get_shouldShareOneLoadBetweenConcurrentMisses() throws Exception {
+        BoardColumnCache cache = new BoardColumnCache(registry, true, 60_000, 120_000, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountingLoader slow = new CountingLoader(release);
+        ExecutorService clients = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<BoardColumnCache.Snapshot>> readers = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                readers.add(clients.submit(() -> cache.get(Task.Status.TODO, slow)));
+            }
+            awaitLookups("miss", 6);
+            release.countDown();
+
+            BoardColumnCache.Snapshot loaded = readers.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<BoardColumnCache.Snapshot> reader : readers) {
+                assertThat(reader.get(5, TimeUnit.SECONDS)).isSameAs(loaded);
+            }
+            assertThat(slow.calls.get()).isEqualTo(1);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    void onTaskChange_shouldDropColumnAndDiscardRefreshStartedBefore() throws Exception {
+        BoardColumnCache cache = new BoardColumnCache(registry, true, 0, 120_000, 1);
+        cache.get(Task.Status.TODO, new CountingLoader());
+        CountDownLatch release = new CountDownLatch(1);
+        CountingLoader slow = new CountingLoader(release);
+        BoardColumnCache.Snapshot stale = cache.get(Task.Status.TODO, slow);
+
+        cache.onTaskChange(new TaskChangeNotification(WorkspaceContext.DEFAULT_WORKSPACE,
+                TaskOutboxEvent.Type.UPDATED, List.of(1L), Set.of(Task.Status.TODO), true));
+        release.countDown();
+
+        CountingLoader after = new CountingLoader();
+        BoardColumnCache.Snapshot reloaded = cache.get(Task.Status.TODO, after);
+        assertThat(reloaded).isNotSameAs(stale);
+        assertThat(after.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void onTaskChange_shouldDropColumnOfLegacyStatus() {
+        BoardColumnCache cache = new BoardColumnCache(registry, true, 60_000, 120_000, 1);
+        CountingLoader loader = new CountingLoader();
+        cache.get(Task.Status.TODO, loader);
+
+        cache.onTaskChange(new TaskChangeNotification(WorkspaceContext.DEFAULT_WORKSPACE,
+                TaskOutboxEvent.Type.DELETED, List.of(1L), Set.of(Task.Status.PENDING), true));
+        cache.get(Task.Status.TODO, loader);
+
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_shouldLoadBeyondMaxStalenessAndKeepWorkspacesApart() {
+        BoardColumnCache cache = new BoardColumnCache(registry, true, 0, 0, 1);
+        CountingLoader loader = new CountingLoader();
+
+        cache.get(Task.Status.DONE, loader);
+        cache.get(Task.Status.DONE, loader);
+        assertThat(loader.calls.get()).isEqualTo(2);
+
+        BoardColumnCache cached = new BoardColumnCache(new SimpleMeterRegistry(), true, 60_000, 60_000, 1);
+        CountingLoader perWorkspace = new CountingLoader();
+        cached.get(Task.Status.DONE, perWorkspace);
+        WorkspaceContext.runAs("acme", () -> cached.get(Task.Status.DONE, perWorkspace));
+        assertThat(perWorkspace.calls.get()).isEqualTo(2);
+    }
+
+    private BoardColumnCache.Snapshot awaitChange(BoardColumnCache cache, BoardColumnCache.Snapshot stale)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        CountingLoader noLoad = new CountingLoader();
+        BoardColumnCache.Snapshot current = stale;
+        while (current == stale && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            current = cache.get(Task.Status.TODO, noLoad);
+        }
+        return current;
+    }
+
+    private void awaitLookups(String result, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (lookups(result) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double lookups(String result) {
+        return registry.get("board.cache.lookups").tag("result", result).counter().count();
+    }
+
+    private static final class CountingLoader implements Supplier<List<TaskResponse>> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch release;
+
+        CountingLoader() {
+            this(new CountDownLatch(0));
+        }
+
+        CountingLoader(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public List<TaskResponse> get() {
+            int call = calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(TaskResponse.builder().id((long) call).title("Task " + call).build());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.decena.task.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.decena.task.Entity.Task;
+import com.decena.task.Exception.BoardLockTimeoutException;
+import com.decena.task.Repository.BoardColumnLockRepository;
+import com.decena.task.Service.ServiceImpl.BoardLockManager;
+
+@ExtendWith(MockitoExtension.class)
+class BoardLockManagerTest {
+
+    @Mock
+    private BoardColumnLockRepository lockRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BoardLockManager lockManager;
+
+    @BeforeEach
+    void setup() {
+        lockManager = new BoardLockManager(lockRepository, transactionManager, "local", 100);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void cleanup() {
+        completeTransaction();
+    }
+
+    @Test
+    void lockColumns_shouldNotBlockOtherColumns() throws Exception {
+        lockManager.lockColumns(Task.Status.TODO);
+
+        boolean otherColumnFree = CompletableFuture.supplyAsync(() -> canLock(Task.Status.IN_PROGRESS))
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(otherColumnFree).isTrue();
+        assertThat(lockManager.isHeldByCurrentThread(Task.Status.TODO)).isTrue();
+    }
+
+    @Test
+    void lockColumns_shouldBlockSameColumnUntilTransactionCompletes() throws Exception {
+        lockManager.lockColumns(Task.Status.TODO);
+
+        boolean sameColumnFree = CompletableFuture.supplyAsync(() -> canLock(Task.Status.TODO))
+                .get(5, TimeUnit.SECONDS);
+        assertThat(sameColumnFree).isFalse();
+
+        completeTransaction();
+        assertThat(lockManager.isHeldByCurrentThread(Task.Status.TODO)).isFalse();
+
+        boolean freedAfterCommit = CompletableFuture.supplyAsync(() -> canLock(Task.Status.TODO))
+                .get(5, TimeUnit.SECONDS);
+        assertThat(freedAfterCommit).isTrue();
+    }
+
+    @Test
+    void lockColumns_shouldBeReentrantWithinOneTransaction() {
+        lockManager.lockColumns(Task.Status.DONE, Task.Status.TODO);
+        lockManager.lockColumns(Task.Status.TODO);
+
+        completeTransaction();
+
+        assertThat(lockManager.isHeldByCurrentThread(Task.Status.TODO)).isFalse();
+        assertThat(lockManager.isHeldByCurrentThread(Task.Status.DONE)).isFalse();
+    }
+
+    @Test
+    void lockColumns_shouldTrackSuspendingTransactionSeparately() {
+        lockManager.lockColumns(Task.Status.TODO);
+
+        // What REQUIRES_NEW does to the outer transaction's synchronizations.
+        List<TransactionSynchronization> suspended = TransactionSynchronizationManager.getSynchronizations();
+        suspended.forEach(TransactionSynchronization::suspend);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        lockManager.lockColumns(Task.Status.IN_PROGRESS);
+        completeTransaction();
+        assertThat(lockManager.isHeldByCurrentThread(Task.Status.IN_PROGRESS)).isFalse();
+        assertThat(lockManager.isHeldByCurrentThread(Task.Status.TODO)).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        suspended.forEach(synchronization -> {
+            synchronization.resume();
+            TransactionSynchronizationManager.registerSynchronization(synchronization);
+        });
+        completeTransaction();
+        assertThat(lockManager.isHeldByCurrentThread(Task.Status.TODO)).isFalse();
+    }
+
+    private boolean canLock(Task.Status status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            lockManager.lockColumns(status);
+            return true;
+        } catch (BoardLockTimeoutException ex) {
+            return false;
+        } finally {
+            completeTransaction();
+        }
+    }
+
+    private void completeTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+}
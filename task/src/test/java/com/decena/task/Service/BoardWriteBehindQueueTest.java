@@ -0,0 +1,121 @@
+package com.decena.task.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.decena.task.Config.LegacyCompatibility;
+import com.decena.task.Dto.TaskResponse;
+import com.decena.task.Entity.Task;
+import com.decena.task.Repository.TaskRepository;
+import com.decena.task.Service.ServiceImpl.BoardLockManager;
+import com.decena.task.Service.ServiceImpl.BoardWriteBehindQueue;
+import com.decena.task.Service.ServiceImpl.TaskOutbox;
+
+@ExtendWith(MockitoExtension.class)
+class BoardWriteBehindQueueTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private BoardLockManager boardLockManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskOutbox taskOutbox;
+
+    private BoardWriteBehindQueue queue;
+
+    @BeforeEach
+    void setup() {
+        // Large window: flushes only happen when the test asks for them.
+        queue = new BoardWriteBehindQueue(taskRepository, boardLockManager, taskOutbox, new LegacyCompatibility(true),
+                transactionManager, true, 60_000, 1000);
+    }
+
+    @Test
+    void enqueueMove_shouldCollapseRepeatedMovesIntoLastOne() {
+        Task task = Task.builder().id(1L).status(Task.Status.TODO).boardOrder(1L).build();
+        when(taskRepository.findByIdInAndDeletedFalse(List.of(1L))).thenReturn(List.of(task));
+
+        queue.enqueueMove(1L, Task.Status.IN_PROGRESS, 4L);
+        queue.enqueueMove(1L, Task.Status.DONE, 7L);
+        queue.flush();
+
+        assertThat(task.getStatus()).isEqualTo(Task.Status.DONE);
+        assertThat(task.getBoardOrder()).isEqualTo(7L);
+        verify(taskRepository, times(1)).findByIdInAndDeletedFalse(List.of(1L));
+        verify(taskRepository, times(1)).saveAll(List.of(task));
+    }
+
+    @Test
+    void flush_shouldMergeReorderIntoFullColumn() {
+        Task first = Task.builder().id(1L).status(Task.Status.TODO).boardOrder(1L).build();
+        Task second = Task.builder().id(2L).status(Task.Status.PENDING).boardOrder(2L).build();
+        Task third = Task.builder().id(3L).status(Task.Status.TODO).boardOrder(3L).build();
+        when(taskRepository.findByDeletedFalseAndStatusInOrderByBoardOrderAscIdAsc(
+                List.of(Task.Status.TODO, Task.Status.PENDING)))
+                .thenReturn(List.of(first, second, third));
+
+        queue.enqueueReorder(Task.Status.TODO, List.of(3L, 1L));
+        queue.flush();
+
+        assertThat(third.getBoardOrder()).isEqualTo(1L);
+        assertThat(second.getBoardOrder()).isEqualTo(2L);
+        assertThat(second.getStatus()).isEqualTo(Task.Status.TODO);
+        assertThat(first.getBoardOrder()).isEqualTo(3L);
+        verify(taskRepository).saveAll(List.of(third, first));
+    }
+
+    @Test
+    void enqueue_shouldNotFlushOnCallerThreadWhenFull() {
+        BoardWriteBehindQueue small = new BoardWriteBehindQueue(taskRepository, boardLockManager, taskOutbox,
+                new LegacyCompatibility(true), transactionManager, true, 60_000, 1);
+
+        // The caller may hold column locks the flush needs; it only wakes the flush thread.
+        small.enqueueMove(1L, Task.Status.IN_PROGRESS, 4L);
+
+        verify(taskRepository, never()).findByIdInAndDeletedFalse(anyList());
+        assertThat(small.pendingStatus(1L)).isEqualTo(Task.Status.IN_PROGRESS);
+    }
+
+    @Test
+    void applyPending_shouldExposeBufferedMoveAndReorder() {
+        queue.enqueueMove(1L, Task.Status.IN_PROGRESS, 9L);
+        queue.enqueueReorder(Task.Status.IN_PROGRESS, List.of(2L, 1L));
+
+        TaskResponse response = TaskResponse.builder().id(1L).status("TODO").boardOrder(3L).build();
+        queue.applyPending(response);
+
+        assertThat(response.getStatus()).isEqualTo("IN_PROGRESS");
+        assertThat(response.getBoardOrder()).isEqualTo(2L);
+    }
+
+    @Test
+    void flush_shouldDoNothingWhenEmpty() {
+        queue.flush();
+
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void reserveOrder_shouldNotHandOutTheSameTailTwice() {
+        assertThat(queue.reserveOrder(Task.Status.TODO, 5L)).isEqualTo(5L);
+        assertThat(queue.reserveOrder(Task.Status.TODO, 5L)).isEqualTo(6L);
+    }
+}
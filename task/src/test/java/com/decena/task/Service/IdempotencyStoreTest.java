@@ -0,0 +1,145 @@
+package com.decena.task.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.decena.task.Config.WorkspaceContext;
+import com.decena.task.Exception.IdempotencyKeyInUseException;
+import com.decena.task.Exception.IdempotencyKeyReusedException;
+import com.decena.task.Service.ServiceImpl.IdempotencyStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@SpringBootTest
+class IdempotencyStoreTest {
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void execute_shouldRunConcurrentDuplicatesOnce() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(6);
+        List<Future<IdempotencyStore.Response>> responses = new ArrayList<>();
+        try {
+            for (int i = 0; i < 6; i++) {
+                responses.add(clients.submit(() -> {
+                    start.await();
+                    return idempotencyStore.execute("test", "concurrent", "body", 201, () -> {
+                        sleep(200);
+                        return Map.of("run", runs.incrementAndGet());
+                    });
+                }));
+            }
+            start.countDown();
+            int replays = 0;
+            for (Future<IdempotencyStore.Response> response : responses) {
+                IdempotencyStore.Response result = response.get(10, TimeUnit.SECONDS);
+                assertThat(new String(result.body())).isEqualTo("{\"run\":1}");
+                replays += result.replayed() ? 1 : 0;
+            }
+            assertThat(replays).isEqualTo(5);
+        } finally {
+            clients.shutdownNow();
+        }
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_shouldStoreNothingWhenTheWriteFailsAndScopeKeysByWorkspace() {
+        assertThatThrownBy(() -> idempotencyStore.execute("test", "failing", "body", 200, () -> {
+            throw new IllegalStateException("write failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        IdempotencyStore.Response retried = idempotencyStore.execute("test", "failing", "body", 200, () -> "ok");
+        IdempotencyStore.Response otherWorkspace = WorkspaceContext.callAs("acme",
+                () -> idempotencyStore.execute("test", "failing", "other body", 200, () -> "acme"));
+
+        assertThat(retried.replayed()).isFalse();
+        assertThat(otherWorkspace.replayed()).isFalse();
+        assertThat(new String(otherWorkspace.body())).isEqualTo("\"acme\"");
+    }
+
+    @Test
+    void purge_shouldDeleteExpiredRows() {
+        idempotencyStore.execute("test", "expiring", "body", 200, () -> "ok");
+        jdbcTemplate.update("UPDATE idempotency_keys SET expires_at = DATEADD('SECOND', -1, CURRENT_TIMESTAMP)");
+
+        idempotencyStore.purge();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys", Integer.class)).isZero();
+    }
+
+    @Test
+    void memoryStore_shouldReplayAndRejectReuseAndConcurrentDuplicates() throws Exception {
+        ObjectMapper objectMapper = JsonMapper.builder().build();
+        IdempotencyStore store = new IdempotencyStore(null, mock(PlatformTransactionManager.class), null, null,
+                objectMapper, new SimpleMeterRegistry(), "memory", 60, 100, 60_000, 5);
+
+        assertThat(store.execute("test", "key", "body", 201, () -> "created").replayed()).isFalse();
+        IdempotencyStore.Response replay = store.execute("test", "key", "body", 201, () -> "again");
+        assertThat(replay.replayed()).isTrue();
+        assertThat(replay.status()).isEqualTo(201);
+        assertThat(new String(replay.body())).isEqualTo("\"created\"");
+        assertThatThrownBy(() -> store.execute("test", "key", "other body", 201, () -> "other"))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService first = Executors.newSingleThreadExecutor();
+        try {
+            Future<IdempotencyStore.Response> slow = first.submit(() -> store.execute("test", "slow", "body", 200,
+                    () -> {
+                        running.countDown();
+                        await(release);
+                        return "slow";
+                    }));
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThatThrownBy(() -> store.execute("test", "slow", "body", 200, () -> "duplicate"))
+                    .isInstanceOf(IdempotencyKeyInUseException.class);
+            release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+        } finally {
+            first.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.decena.task.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import com.decena.task.Entity.MigrationCheckpoint;
+import com.decena.task.Entity.Task;
+import com.decena.task.Repository.MigrationCheckpointRepository;
+import com.decena.task.Repository.TaskRepository;
+import com.decena.task.Service.ServiceImpl.LegacyDataMigrationService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+@DataJpaTest
+public class LegacyDataMigrationServiceTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MigrationCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private LegacyDataMigrationService migrationService;
+
+    @BeforeEach
+    void setup() {
+        migrationService = new LegacyDataMigrationService(taskRepository, checkpointRepository);
+    }
+
+    @Test
+    void migrateNextBatch_shouldRewriteLegacyValuesAndComplete() {
+        Task pending = save(Task.Status.PENDING);
+        Task completed = save(Task.Status.COMPLETED);
+        Task inProgress = save(Task.Status.IN_PROGRESS);
+        entityManager.getEntityManager()
+                .createNativeQuery("update tasks set recurrence_type = null where id = " + inProgress.getId())
+                .executeUpdate();
+
+        int batches = 0;
+        while (migrationService.migrateNextBatch(2)) {
+            batches++;
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(batches).isEqualTo(2);
+        assertThat(nativeValue("status", pending.getId())).isEqualTo("TODO");
+        assertThat(nativeValue("status", completed.getId())).isEqualTo("DONE");
+        assertThat(nativeValue("status", inProgress.getId())).isEqualTo("IN_PROGRESS");
+        assertThat(nativeValue("recurrence_type", inProgress.getId())).isEqualTo("NONE");
+
+        MigrationCheckpoint checkpoint = checkpointRepository.findById(LegacyDataMigrationService.CHECKPOINT_NAME).orElseThrow();
+        assertThat(checkpoint.isCompleted()).isTrue();
+        assertThat(checkpoint.getRowsUpdated()).isEqualTo(3);
+        assertThat(migrationService.isCompleted()).isTrue();
+    }
+
+    @Test
+    void migrateNextBatch_shouldResumeFromCheckpoint() {
+        Task first = save(Task.Status.PENDING);
+        Task second = save(Task.Status.PENDING);
+        checkpointRepository.save(MigrationCheckpoint.builder()
+                .name(LegacyDataMigrationService.CHECKPOINT_NAME)
+                .lastProcessedId(first.getId())
+                .build());
+
+        while (migrationService.migrateNextBatch(10)) {
+            // drain
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(nativeValue("status", first.getId())).isEqualTo("PENDING");
+        assertThat(nativeValue("status", second.getId())).isEqualTo("TODO");
+    }
+
+    private Task save(Task.Status status) {
+        Task task = Task.builder()
+                .title("Legacy " + status)
+                .status(status)
+                .dateCreated(LocalDateTime.now())
+                .build();
+        return entityManager.persistAndFlush(task);
+    }
+
+    private Object nativeValue(String column, Long id) {
+        return entityManager.getEntityManager()
+                .createNativeQuery("select " + column + " from tasks where id = " + id)
+                .getSingleResult();
+    }
+}
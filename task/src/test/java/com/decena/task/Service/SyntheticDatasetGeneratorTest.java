@@ -0,0 +1,50 @@
+package com.decena.task.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import com.decena.task.Service.ServiceImpl.SyntheticDatasetGenerator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// The generator commits on its own connections, so this test uses a separate database.
+@DataJpaTest(properties = "app.dataset.test-database=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SyntheticDatasetGeneratorTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void generate_shouldInsertRealisticRowsWithUniqueColumnOrders() {
+        SyntheticDatasetGenerator generator = new SyntheticDatasetGenerator(dataSource);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        assertThat(generator.generate(5_000, 300, 3, 7L)).isEqualTo(5_000);
+
+        assertThat(count(jdbc, "1 = 1")).isEqualTo(5_000);
+        assertThat(count(jdbc, "status = 'PENDING'")).isPositive();
+        assertThat(count(jdbc, "status = 'COMPLETED'")).isPositive();
+        assertThat(count(jdbc, "deleted = true")).isPositive();
+        assertThat(count(jdbc, "deadline is null")).isPositive();
+        assertThat(jdbc.queryForObject("select count(*) from (select recurrence_group_id from tasks"
+                + " where recurrence_group_id is not null group by recurrence_group_id having count(*) > 1) s",
+                Long.class)).isPositive();
+
+        // Legacy statuses share the order sequence of the column they are displayed in.
+        Long duplicates = jdbc.queryForObject("select count(*) from (select board_order from tasks"
+                + " group by case status when 'PENDING' then 'TODO' when 'COMPLETED' then 'DONE' else status end,"
+                + " board_order having count(*) > 1) d", Long.class);
+        assertThat(duplicates).isZero();
+    }
+
+    private long count(JdbcTemplate jdbc, String where) {
+        return jdbc.queryForObject("select count(*) from tasks where " + where, Long.class);
+    }
+}
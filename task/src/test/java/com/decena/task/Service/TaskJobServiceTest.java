@@ -0,0 +1,73 @@
+package com.decena.task.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.decena.task.Dto.TaskSeriesEditRequest;
+import com.decena.task.Entity.TaskJob;
+import com.decena.task.Exception.ServiceOverloadedException;
+import com.decena.task.Repository.TaskJobRepository;
+import com.decena.task.Repository.TaskJobResultRepository;
+import com.decena.task.Service.ServiceImpl.TaskJobRunner;
+import com.decena.task.Service.ServiceImpl.TaskJobService;
+
+import jakarta.validation.Validation;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class TaskJobServiceTest {
+
+    @Mock
+    private TaskJobRepository jobRepository;
+
+    @Mock
+    private TaskJobResultRepository resultRepository;
+
+    @Mock
+    private TaskJobRunner runner;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private TaskJobService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskJobService(jobRepository, resultRepository, runner, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), 3);
+    }
+
+    @Test
+    void submit_shouldRefuseWhenTooManyJobsAreQueued() {
+        when(jobRepository.countByState(TaskJob.State.QUEUED)).thenReturn(3L);
+
+        ServiceOverloadedException ex = assertThrows(ServiceOverloadedException.class, service::submitExport);
+
+        assertThat(ex.getRetryAfterSeconds()).isPositive();
+        verify(jobRepository, never()).save(any());
+        verifyNoInteractions(runner);
+    }
+
+    @Test
+    void submitSeriesEdit_shouldRejectInvalidPatchBeforeQueueing() {
+        TaskSeriesEditRequest request = new TaskSeriesEditRequest("series",
+                objectMapper.readTree("{\"title\":\"" + "x".repeat(300) + "\"}"));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> service.submitSeriesEdit(request));
+
+        assertThat(ex.getMessage()).contains("Title");
+        verifyNoInteractions(jobRepository);
+    }
+}
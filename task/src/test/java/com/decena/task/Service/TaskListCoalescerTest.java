@@ -0,0 +1,148 @@
+package com.decena.task.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.decena.task.Dto.TaskResponse;
+import com.decena.task.Entity.Task;
+import com.decena.task.Entity.TaskOutboxEvent;
+import com.decena.task.Service.ServiceImpl.TaskChangeNotification;
+import com.decena.task.Service.ServiceImpl.TaskListCoalescer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+class TaskListCoalescerTest {
+
+    private final TaskService taskService = mock(TaskService.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TaskListCoalescer coalescer = new TaskListCoalescer(taskService, new JsonMapper(), registry, true, true, 4, 100);
+    private final ExecutorService clients = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+    }
+
+    @Test
+    void getAllTasks_shouldShareOneQueryAndBodyBetweenIdenticalRequests() throws Exception {
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskService.getAllTasks(0, 100, "dateCreated", "DESC")).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(TaskResponse.builder().id(1L).title("Shared").build());
+        });
+
+        Future<byte[]> leader = clients.submit(() -> coalescer.getAllTasks(0, 100, "dateCreated", "desc"));
+        assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Future<byte[]>> followers = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // "DESC" and an unknown sort field normalize to the same query
+            String sortBy = i % 2 == 0 ? "dateCreated" : "unknown";
+            followers.add(clients.submit(() -> coalescer.getAllTasks(0, 100, sortBy, "DESC")));
+        }
+        awaitFollowers(7);
+        release.countDown();
+
+        byte[] body = leader.get(5, TimeUnit.SECONDS);
+        assertThat(new String(body)).contains("\"title\":\"Shared\"");
+        for (Future<byte[]> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(body);
+        }
+        verify(taskService, times(1)).getAllTasks(anyInt(), anyInt(), anyString(), anyString());
+        assertThat(registry.get("task.list.coalescing.ratio").gauge().value()).isEqualTo(7 / 8.0);
+    }
+
+    @Test
+    void getAllTasks_shouldNotJoinQueriesStartedBeforeAWrite() throws Exception {
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskService.getAllTasks(0, 10, "dateCreated", "DESC"))
+                .thenAnswer(invocation -> {
+                    queryStarted.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of(TaskResponse.builder().id(1L).title("Before").build());
+                })
+                .thenReturn(List.of(TaskResponse.builder().id(2L).title("After").build()));
+
+        Future<byte[]> before = clients.submit(() -> coalescer.getAllTasks(0, 10, "dateCreated", "desc"));
+        assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        coalescer.onTaskChange(new TaskChangeNotification("default", TaskOutboxEvent.Type.CREATED, List.of(2L),
+                Set.of(Task.Status.TODO), true));
+
+        assertThat(new String(coalescer.getAllTasks(0, 10, "dateCreated", "desc"))).contains("After");
+        release.countDown();
+        assertThat(new String(before.get(5, TimeUnit.SECONDS))).contains("Before");
+    }
+
+    @Test
+    void getAllTasks_shouldPassTheQueryFailureToEveryWaiter() throws Exception {
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskService.getAllTasks(-1, 10, "dateCreated", "DESC")).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalArgumentException("Page index must not be less than zero");
+        });
+
+        Future<byte[]> leader = clients.submit(() -> coalescer.getAllTasks(-1, 10, null, null));
+        assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<byte[]> follower = clients.submit(() -> coalescer.getAllTasks(-1, 10, null, null));
+        awaitFollowers(1);
+        release.countDown();
+
+        for (Future<byte[]> request : List.of(leader, follower)) {
+            assertThatThrownBy(() -> request.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+        // the failed flight is gone: the next request queries again
+        doReturn(List.of()).when(taskService).getAllTasks(-1, 10, "dateCreated", "DESC");
+        assertThat(new String(coalescer.getAllTasks(-1, 10, null, null))).isEqualTo("[]");
+    }
+
+    @Test
+    void getAllTasks_shouldNotLimitQueriesWhenLimitsAreDisabled() throws Exception {
+        TaskListCoalescer unlimited = new TaskListCoalescer(taskService, new JsonMapper(), registry, true, false, 1, 0);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(taskService.getAllTasks(anyInt(), anyInt(), anyString(), anyString())).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            bothStarted.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        Future<byte[]> first = clients.submit(() -> unlimited.getAllTasks(0, 10, null, null));
+        Future<byte[]> second = clients.submit(() -> unlimited.getAllTasks(1, 10, null, null));
+
+        assertThat(new String(first.get(5, TimeUnit.SECONDS))).isEqualTo("[]");
+        assertThat(new String(second.get(5, TimeUnit.SECONDS))).isEqualTo("[]");
+        assertThat(bothStarted.getCount()).isZero();
+    }
+
+    private void awaitFollowers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("task.list.requests").tag("role", "follower").counter().count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
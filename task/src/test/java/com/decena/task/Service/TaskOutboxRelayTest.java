@@ -0,0 +1,132 @@
+package com.decena.task.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.decena.task.Dto.TaskRequest;
+import com.decena.task.Dto.TaskResponse;
+import com.decena.task.Entity.Task;
+import com.decena.task.Entity.TaskOutboxEvent;
+import com.decena.task.Repository.TaskOutboxRepository;
+import com.decena.task.Service.ServiceImpl.TaskChangeNotification;
+import com.decena.task.Service.ServiceImpl.TaskOutboxRelay;
+
+/**
+ * Outbox rows are written with the change and relayed to every instance but the writer.
+ * The relay's own schedule is pushed out of the way; the tests poll and prune by hand.
+ */
+@SpringBootTest(properties = {
+        "app.outbox.enabled=true",
+        "app.instance-id=instance-a",
+        "app.outbox.poll-ms=3600000",
+        "app.outbox.prune-ms=3600000"
+})
+class TaskOutboxRelayTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskOutboxRelay relay;
+
+    @Autowired
+    private TaskOutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Notifications notifications;
+
+    @BeforeEach
+    void setup() {
+        relay.poll();
+        notifications.received.clear();
+    }
+
+    @Test
+    void createTask_shouldWriteAnOutboxRowAndNotifyLocallyOnce() {
+        long before = outboxRepository.count();
+
+        TaskResponse created = taskService.createTask(TaskRequest.builder().title("Outboxed").priority("LOW").build());
+
+        assertThat(outboxRepository.count()).isEqualTo(before + 1);
+        assertThat(notifications.received).singleElement().satisfies(notification -> {
+            assertThat(notification.type()).isEqualTo(TaskOutboxEvent.Type.CREATED);
+            assertThat(notification.taskIds()).containsExactly(created.getId());
+            assertThat(notification.statuses()).containsExactly(Task.Status.TODO);
+            assertThat(notification.local()).isTrue();
+        });
+
+        // The writer applied its own change already; the relay skips it.
+        relay.poll();
+        assertThat(notifications.received).hasSize(1);
+    }
+
+    @Test
+    void poll_shouldDeliverChangesOfOtherInstances() {
+        insertForeignRow("7,8", "TODO,DONE");
+
+        relay.poll();
+        relay.poll();
+
+        assertThat(notifications.received).singleElement().satisfies(notification -> {
+            assertThat(notification.type()).isEqualTo(TaskOutboxEvent.Type.STATUS_CHANGED);
+            assertThat(notification.workspaceId()).isEqualTo("acme");
+            assertThat(notification.taskIds()).containsExactly(7L, 8L);
+            assertThat(notification.statuses()).containsExactlyInAnyOrder(Task.Status.TODO, Task.Status.DONE);
+            assertThat(notification.local()).isFalse();
+        });
+    }
+
+    @Test
+    void prune_shouldKeepRowsALiveInstanceHasNotRead() {
+        insertForeignRow("1", "TODO");
+        relay.poll();
+        long lagging = jdbcTemplate.queryForObject("SELECT MAX(id) FROM task_outbox", Long.class) - 1;
+        jdbcTemplate.update("INSERT INTO task_outbox_consumers (instance_id, last_id, seen_at) VALUES (?, ?, ?)",
+                "instance-b", lagging, Timestamp.valueOf(LocalDateTime.now()));
+
+        relay.prune();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_outbox", Long.class)).isEqualTo(1);
+
+        jdbcTemplate.update("UPDATE task_outbox_consumers SET seen_at = ? WHERE instance_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(1)), "instance-b");
+        relay.prune();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_outbox", Long.class)).isZero();
+    }
+
+    private void insertForeignRow(String taskIds, String statuses) {
+        outboxRepository.save(TaskOutboxEvent.builder()
+                .workspaceId("acme")
+                .type(TaskOutboxEvent.Type.STATUS_CHANGED)
+                .taskIds(taskIds)
+                .statuses(statuses)
+                .origin("instance-b")
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @TestConfiguration
+    static class Notifications {
+
+        private final List<TaskChangeNotification> received = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void on(TaskChangeNotification notification) {
+            received.add(notification);
+        }
+    }
+}
@@ -1,25 +1,41 @@
 package com.decena.task.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.decena.task.Config.LegacyCompatibility;
+import com.decena.task.Dto.TaskBoardReorderRequest;
+import com.decena.task.Dto.TaskBulkStatusRequest;
+import com.decena.task.Dto.TaskPatchRequest;
 import com.decena.task.Dto.TaskRequest;
 import com.decena.task.Dto.TaskResponse;
 import com.decena.task.Entity.Task;
 import com.decena.task.Exception.ResourceNotFoundException;
 import com.decena.task.Mapper.TaskMapper;
 import com.decena.task.Repository.TaskRepository;
+import com.decena.task.Service.ServiceImpl.BoardColumnCache;
+import com.decena.task.Service.ServiceImpl.BoardLockManager;
+import com.decena.task.Service.ServiceImpl.BoardWriteBehindQueue;
 import com.decena.task.Service.ServiceImpl.RecurrenceService;
+import com.decena.task.Service.ServiceImpl.TaskMetrics;
+import com.decena.task.Service.ServiceImpl.TaskOutbox;
 import com.decena.task.Service.ServiceImpl.TaskServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +50,24 @@ class TaskServiceImplTest {
     @Mock
     private RecurrenceService recurrenceService;
 
+    @Mock
+    private BoardWriteBehindQueue writeBehindQueue;
+
+    @Mock
+    private BoardLockManager boardLockManager;
+
+    @Mock
+    private TaskMetrics taskMetrics;
+
+    @Mock
+    private TaskOutbox taskOutbox;
+
+    @Mock
+    private BoardColumnCache boardColumnCache;
+
+    @Spy
+    private LegacyCompatibility legacyCompatibility = new LegacyCompatibility(true);
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -70,6 +104,7 @@ class TaskServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getTitle()).isEqualTo("New Task");
         verify(taskRepository).save(entity);
+        verify(taskMetrics).taskCreated();
     }
 
     // ---------------- GET TASK BY ID ----------------
@@ -130,6 +165,66 @@ class TaskServiceImplTest {
         verify(taskRepository).save(existingTask);
     }
 
+    // ---------------- PATCH TASK ----------------
+    @Test
+    void patchTask_shouldSkipSave_whenNothingChanged() {
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setTitle("Same Title");
+
+        Task existingTask = Task.builder()
+                .id(1L)
+                .title("Same Title")
+                .status(Task.Status.TODO)
+                .deleted(false)
+                .build();
+
+        when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(existingTask));
+        when(taskMapper.applyPatch(patch, existingTask)).thenReturn(false);
+
+        taskService.patchTask(1L, patch);
+
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void patchTask_shouldSave_whenFieldChanged() {
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setTitle("New Title");
+
+        Task existingTask = Task.builder()
+                .id(1L)
+                .title("Old Title")
+                .status(Task.Status.TODO)
+                .boardOrder(3L)
+                .deleted(false)
+                .build();
+
+        when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(existingTask));
+        when(taskMapper.applyPatch(patch, existingTask)).thenReturn(true);
+        when(taskRepository.save(existingTask)).thenReturn(existingTask);
+
+        taskService.patchTask(1L, patch);
+
+        verify(taskRepository).save(existingTask);
+    }
+
+    @Test
+    void patchTask_shouldRejectLeavingDone() {
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setStatus("TODO");
+
+        Task existingTask = Task.builder()
+                .id(1L)
+                .status(Task.Status.DONE)
+                .deleted(false)
+                .build();
+
+        when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(existingTask));
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1L, patch));
+        verify(taskRepository, never()).save(any());
+    }
+
     // ---------------- DELETE TASK ----------------
     @Test
     void deleteTask_shouldMarkTaskDeleted() {
@@ -154,6 +249,24 @@ class TaskServiceImplTest {
         assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTask(1L));
     }
 
+    @Test
+    void restoreTask_shouldLockColumnsBeforeLoading() {
+        Task task = Task.builder().id(1L).status(Task.Status.PENDING).deleted(true).build();
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findColumnTailForUpdate(List.of(Task.Status.TODO, Task.Status.PENDING)))
+                .thenReturn(Optional.of(7L));
+        when(taskRepository.save(task)).thenReturn(task);
+
+        taskService.restoreTask(1L);
+
+        InOrder inOrder = inOrder(boardLockManager, taskRepository);
+        inOrder.verify(boardLockManager).lockColumns(Task.Status.TODO, Task.Status.IN_PROGRESS, Task.Status.DONE);
+        inOrder.verify(taskRepository).findById(1L);
+        assertThat(task.getBoardOrder()).isEqualTo(8L);
+        assertThat(task.isDeleted()).isFalse();
+    }
+
     // ---------------- MARK TASK AS COMPLETED ----------------
     @Test
     void markTaskAsCompleted_shouldUpdateStatus() {
@@ -176,6 +289,59 @@ class TaskServiceImplTest {
 
         assertThat(result.getStatus()).isEqualTo("DONE");
         verify(taskRepository).save(task);
+        verify(taskMetrics).tasksCompleted(1);
+    }
+
+    // ---------------- BULK STATUS ----------------
+    @Test
+    void bulkUpdateStatus_shouldAssignOrdersFromOneLookup() {
+        Task first = Task.builder().id(1L).status(Task.Status.TODO).boardOrder(1L).build();
+        Task second = Task.builder().id(2L).status(Task.Status.PENDING).boardOrder(2L).build();
+
+        when(taskRepository.findByIdInAndDeletedFalse(List.of(2L, 1L))).thenReturn(List.of(first, second));
+        when(taskRepository.findColumnTailForUpdate(List.of(Task.Status.IN_PROGRESS)))
+                .thenReturn(Optional.of(4L));
+
+        taskService.bulkUpdateStatus(new TaskBulkStatusRequest(List.of(2L, 1L), "IN_PROGRESS"));
+
+        assertThat(second.getBoardOrder()).isEqualTo(5L);
+        assertThat(first.getBoardOrder()).isEqualTo(6L);
+        assertThat(first.getStatus()).isEqualTo(Task.Status.IN_PROGRESS);
+        verify(taskRepository, times(1)).findColumnTailForUpdate(List.of(Task.Status.IN_PROGRESS));
+        verify(taskRepository).saveAll(List.of(second, first));
+    }
+
+    @Test
+    void bulkUpdateStatus_shouldRejectLeavingDone() {
+        Task done = Task.builder().id(1L).status(Task.Status.DONE).build();
+
+        when(taskRepository.findByIdInAndDeletedFalse(List.of(1L))).thenReturn(List.of(done));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.bulkUpdateStatus(new TaskBulkStatusRequest(List.of(1L), "TODO")));
+        verify(taskRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void reorderBoard_shouldKeepUnlistedTasksInPlace() {
+        Task first = Task.builder().id(1L).status(Task.Status.TODO).boardOrder(1L).build();
+        Task second = Task.builder().id(2L).status(Task.Status.PENDING).boardOrder(2L).build();
+        Task third = Task.builder().id(3L).status(Task.Status.TODO).boardOrder(3L).build();
+        Task fourth = Task.builder().id(4L).status(Task.Status.TODO).boardOrder(4L).build();
+
+        when(taskRepository.findByIdInAndDeletedFalse(List.of(3L, 1L))).thenReturn(List.of(first, third));
+        when(taskRepository.findByDeletedFalseAndStatusInOrderByBoardOrderAscIdAsc(
+                List.of(Task.Status.TODO, Task.Status.PENDING)))
+                .thenReturn(List.of(first, second, third, fourth));
+
+        // A filtered board sends only the tasks it shows.
+        taskService.reorderBoard(new TaskBoardReorderRequest("TODO", List.of(3L, 1L)));
+
+        assertThat(third.getBoardOrder()).isEqualTo(1L);
+        assertThat(second.getBoardOrder()).isEqualTo(2L);
+        assertThat(first.getBoardOrder()).isEqualTo(3L);
+        assertThat(fourth.getBoardOrder()).isEqualTo(4L);
+        verify(taskRepository).saveAll(List.of(third, first));
     }
 
     // ---------------- GET ALL TASKS ----------------
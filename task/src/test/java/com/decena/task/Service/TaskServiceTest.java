@@ -1,24 +1,35 @@
 package com.decena.task.Service;
 
+import static com.decena.task.Instrumentation.SqlStatementAssertions.assertStatementCount;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.decena.task.Config.LegacyCompatibility;
 import com.decena.task.Dto.TaskRequest;
 import com.decena.task.Dto.TaskResponse;
 import com.decena.task.Entity.Task;
 import com.decena.task.Exception.ResourceNotFoundException;
+import com.decena.task.Repository.BoardColumnLockRepository;
 import com.decena.task.Repository.TaskRepository;
+import com.decena.task.Service.ServiceImpl.BoardColumnCache;
+import com.decena.task.Service.ServiceImpl.BoardLockManager;
+import com.decena.task.Service.ServiceImpl.BoardWriteBehindQueue;
 import com.decena.task.Service.ServiceImpl.RecurrenceService;
+import com.decena.task.Service.ServiceImpl.TaskMetrics;
+import com.decena.task.Service.ServiceImpl.TaskOutbox;
 import com.decena.task.Service.ServiceImpl.TaskServiceImpl;
 import com.decena.task.Mapper.TaskMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @DataJpaTest
 public class TaskServiceTest {
@@ -28,11 +39,25 @@ public class TaskServiceTest {
     @Autowired
     private TaskRepository taskRepository;
 
-    private TaskMapper taskMapper = new TaskMapper();
+    @Autowired
+    private BoardColumnLockRepository boardColumnLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private LegacyCompatibility legacyCompatibility = new LegacyCompatibility(true);
+
+    private TaskMapper taskMapper = new TaskMapper(legacyCompatibility);
 
     @BeforeEach
     void setup() {
-        taskService = new TaskServiceImpl(taskRepository, taskMapper, new RecurrenceService());
+        BoardLockManager boardLockManager = new BoardLockManager(boardColumnLockRepository, transactionManager, "local", 5000);
+        TaskOutbox taskOutbox = new TaskOutbox(null, event -> { }, false, "test");
+        BoardWriteBehindQueue writeBehindQueue = new BoardWriteBehindQueue(taskRepository, boardLockManager, taskOutbox, legacyCompatibility,
+                transactionManager, false, 250, 1000);
+        taskService = new TaskServiceImpl(taskRepository, taskMapper, new RecurrenceService(), legacyCompatibility,
+                writeBehindQueue, boardLockManager, new TaskMetrics(new SimpleMeterRegistry()), taskOutbox,
+                new BoardColumnCache(new SimpleMeterRegistry(), false, 0, 0, 1));
     }
 
     @Test
@@ -50,7 +75,35 @@ public class TaskServiceTest {
         assertThat(response.getPriority()).isEqualTo("HIGH");
     }
 
-    
+    @Test
+    void testCreateTaskStatementCount() throws Throwable {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Counted Task");
+        request.setPriority("LOW");
+
+        // board order lookup + insert
+        TaskResponse response = assertStatementCount(2, () -> taskService.createTask(request));
+
+        // soft-delete aware lookup is a query, not a persistence-context hit
+        assertStatementCount(1, () -> taskService.getTaskById(response.getId()));
+    }
+
+    @Test
+    void testLegacyRowsBelongToTheirColumn() {
+        Task legacy = taskRepository.save(Task.builder()
+                .title("Legacy Task")
+                .status(Task.Status.PENDING)
+                .boardOrder(1L)
+                .deleted(false)
+                .build());
+
+        assertThat(taskService.getBoardColumn("TODO").getTasks())
+                .extracting(TaskResponse::getId).contains(legacy.getId());
+
+        assertThat(taskService.completeColumn("TODO"))
+                .extracting(TaskResponse::getId).contains(legacy.getId());
+        assertThat(taskRepository.findById(legacy.getId()).orElseThrow().getStatus()).isEqualTo(Task.Status.DONE);
+    }
 
     @Test
     void testDeleteTaskThrowsExceptionIfNotFound() {
@@ -0,0 +1,424 @@
+package com.decena.task.Stress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+
+import com.decena.task.Entity.Task;
+import com.decena.task.Repository.TaskRepository;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * End-to-end HTTP load test against the embedded H2 database (MySQL mode).
+ * Seeds a dataset, drives a fixed mix of API calls at fixed concurrency and
+ * reports requests/sec and p50/p99/p999 per endpoint, then compares them with
+ * {@code src/test/resources/load-test/baseline.json}.
+ * <p>
+ * Disabled by default. Run with:
+ * {@code ./mvnw test -Dtest=ApiLoadTest -Dloadtest=true [-Dloadtest.threads=16 -Dloadtest.seconds=30
+ * -Dloadtest.rows=2000 -Dloadtest.tolerance=0.25 -Dloadtest.updateBaseline=true]}
+ * <p>
+ * {@code -Dloadtest.dbLatencyMs=N} adds N ms before every SQL statement during the measured run;
+ * combine it with {@code -Dspring.threads.virtual.enabled=true} (Java 21+) and
+ * {@code -Dspring.datasource.hikari.maximum-pool-size=N} to compare execution modes.
+ * The baseline comparison is skipped when latency is injected.
+ * <p>
+ * Peak RSS, heap and thread counts during the measured run are written to
+ * {@code target/load-test/footprint.json} and compared with the entry for the active
+ * profile in {@code footprint-baseline.json}; for the small-footprint profile run with
+ * {@code -Dspring.profiles.active=small -DargLine="<JVM flags from the README>"}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.decena.task.Stress.LatencyInjectingStatementInspector")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ApiLoadTest {
+
+    private static final Path BASELINE = Path.of("src/test/resources/load-test/baseline.json");
+    private static final Path RESULT = Path.of("target/load-test/result.json");
+    private static final Path FOOTPRINT_BASELINE = Path.of("src/test/resources/load-test/footprint-baseline.json");
+    private static final Path FOOTPRINT_RESULT = Path.of("target/load-test/footprint.json");
+
+    private static final int THREADS = Integer.getInteger("loadtest.threads", 16);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 5);
+    private static final int ROWS = Integer.getInteger("loadtest.rows", 2000);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.25"));
+    private static final long DB_LATENCY_MS = Long.getLong("loadtest.dbLatencyMs", 0);
+    private static final boolean READ_ONLY = "read".equals(System.getProperty("loadtest.mix"));
+
+    /** Request mix in percent; must add up to 100. {@code -Dloadtest.mix=read} keeps only LIST and BOARD. */
+    private enum Endpoint {
+        LIST(35), BOARD(15), CREATE(15), STATUS_MOVE(15), COMPLETE(15), REORDER(5);
+
+        private final int weight;
+
+        Endpoint(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void apiThroughputShouldStayWithinBaseline() throws Exception {
+        seed(ROWS);
+
+        LatencyInjectingStatementInspector.setLatencyMillis(DB_LATENCY_MS);
+        Map<Endpoint, Samples> samples;
+        FootprintSampler sampler = new FootprintSampler();
+        try {
+            runMix(WARMUP_SECONDS);
+            sampler.start();
+            samples = runMix(SECONDS);
+        } finally {
+            sampler.stop();
+            LatencyInjectingStatementInspector.setLatencyMillis(0);
+        }
+        String profile = environment.getActiveProfiles().length == 0
+                ? "default" : String.join(",", environment.getActiveProfiles());
+        FootprintSampler.Footprint footprint = sampler.result(profile);
+
+        Map<String, EndpointResult> results = new LinkedHashMap<>();
+        samples.forEach((endpoint, s) -> results.put(endpoint.name(), s.result(SECONDS)));
+        print(results);
+        System.out.println(footprint);
+        Files.createDirectories(RESULT.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(RESULT.toFile(), results);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(FOOTPRINT_RESULT.toFile(), footprint);
+
+        if (DB_LATENCY_MS > 0) {
+            return;
+        }
+        if (Boolean.getBoolean("loadtest.updateBaseline")) {
+            ObjectNode footprints = Files.exists(FOOTPRINT_BASELINE)
+                    ? (ObjectNode) objectMapper.readTree(FOOTPRINT_BASELINE.toFile())
+                    : objectMapper.createObjectNode();
+            footprints.set(profile, objectMapper.valueToTree(footprint));
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(FOOTPRINT_BASELINE.toFile(), footprints);
+            if ("default".equals(profile)) {
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(BASELINE.toFile(), results);
+            }
+            return;
+        }
+
+        results.values().forEach(result -> assertThat(result.serverErrors())
+                .as("5xx responses").isZero());
+        assertThat(footprintRegressions(footprint)).as("footprint against %s", FOOTPRINT_BASELINE).isEmpty();
+        if ("default".equals(profile)) {
+            assertThat(regressions(results)).as("regressions against %s", BASELINE).isEmpty();
+        }
+    }
+
+    private void seed(int rows) {
+        Task.Status[] statuses = {Task.Status.TODO, Task.Status.IN_PROGRESS, Task.Status.DONE};
+        Task.Priority[] priorities = Task.Priority.values();
+        Map<Task.Status, Long> orders = new EnumMap<>(Task.Status.class);
+        List<Task> batch = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Task.Status status = statuses[i % statuses.length];
+            long order = orders.merge(status, 1L, Long::sum);
+            batch.add(Task.builder()
+                    .title("Seed task " + i)
+                    .description("Load test seed")
+                    .priority(priorities[i % priorities.length])
+                    .status(status)
+                    .boardOrder(order)
+                    .recurrenceType(Task.RecurrenceType.NONE)
+                    .recurrenceInterval(1)
+                    .dateCreated(LocalDateTime.now())
+                    .deleted(false)
+                    .build());
+            if (batch.size() == 500) {
+                taskRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        taskRepository.saveAll(batch);
+    }
+
+    private Map<Endpoint, Samples> runMix(int seconds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<Map<Endpoint, Samples>>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> new Worker().run(deadline)));
+        }
+
+        Map<Endpoint, Samples> merged = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            merged.put(endpoint, new Samples());
+        }
+        for (Future<Map<Endpoint, Samples>> future : futures) {
+            future.get(seconds + 60L, TimeUnit.SECONDS).forEach((endpoint, s) -> merged.get(endpoint).addAll(s));
+        }
+        executor.shutdown();
+        return merged;
+    }
+
+    private List<String> regressions(Map<String, EndpointResult> results) throws Exception {
+        List<String> regressions = new ArrayList<>();
+        if (!Files.exists(BASELINE)) {
+            return regressions;
+        }
+        JsonNode baseline = objectMapper.readTree(BASELINE.toFile());
+        results.forEach((endpoint, result) -> {
+            JsonNode expected = baseline.get(endpoint);
+            if (expected == null) {
+                return;
+            }
+            double minRps = expected.get("requestsPerSecond").asDouble() * (1 - TOLERANCE);
+            double maxP99 = expected.get("p99Millis").asDouble() * (1 + TOLERANCE);
+            if (result.requestsPerSecond() < minRps) {
+                regressions.add(String.format("%s: %.1f req/s < %.1f", endpoint, result.requestsPerSecond(), minRps));
+            }
+            if (result.p99Millis() > maxP99) {
+                regressions.add(String.format("%s: p99 %.2f ms > %.2f ms", endpoint, result.p99Millis(), maxP99));
+            }
+        });
+        return regressions;
+    }
+
+    private List<String> footprintRegressions(FootprintSampler.Footprint footprint) throws Exception {
+        List<String> regressions = new ArrayList<>();
+        JsonNode expected = Files.exists(FOOTPRINT_BASELINE)
+                ? objectMapper.readTree(FOOTPRINT_BASELINE.toFile()).get(footprint.profile())
+                : null;
+        if (expected == null) {
+            return regressions;
+        }
+        double maxRss = expected.get("peakRssMib").asDouble() * (1 + TOLERANCE);
+        double maxHeap = expected.get("heapCommittedMaxMib").asDouble() * (1 + TOLERANCE);
+        if (footprint.peakRssMib() > maxRss) {
+            regressions.add(String.format("peak RSS %d MiB > %.0f MiB", footprint.peakRssMib(), maxRss));
+        }
+        if (footprint.heapCommittedMaxMib() > maxHeap) {
+            regressions.add(String.format("committed heap %d MiB > %.0f MiB", footprint.heapCommittedMaxMib(), maxHeap));
+        }
+        return regressions;
+    }
+
+    private void print(Map<String, EndpointResult> results) {
+        System.out.printf("threads=%d virtualThreads=%s dbLatencyMs=%d mix=%s%n", THREADS,
+                System.getProperty("spring.threads.virtual.enabled", "false"), DB_LATENCY_MS,
+                READ_ONLY ? "read" : "default");
+        System.out.printf("%-12s %8s %10s %10s %10s %10s %6s %6s%n",
+                "endpoint", "count", "req/s", "p50 ms", "p99 ms", "p999 ms", "4xx", "5xx");
+        results.forEach((endpoint, r) -> System.out.printf("%-12s %8d %10.1f %10.2f %10.2f %10.2f %6d %6d%n",
+                endpoint, r.count(), r.requestsPerSecond(), r.p50Millis(), r.p99Millis(), r.p999Millis(),
+                r.clientErrors(), r.serverErrors()));
+    }
+
+    /**
+     * One load-generating thread. It moves and completes only tasks it created itself,
+     * so status calls do not fail because of other workers.
+     */
+    private final class Worker {
+
+        private final Map<Endpoint, Samples> samples = new EnumMap<>(Endpoint.class);
+        private final Deque<Long> todo = new ArrayDeque<>();
+        private final Deque<Long> inProgress = new ArrayDeque<>();
+
+        private Map<Endpoint, Samples> run(long deadline) throws Exception {
+            for (Endpoint endpoint : Endpoint.values()) {
+                samples.put(endpoint, new Samples());
+            }
+            while (System.nanoTime() < deadline) {
+                Endpoint endpoint = pick();
+                switch (endpoint) {
+                    case LIST -> send(endpoint, get("/api/tasks?page=0&size=20&sortBy=deadline&sortDir=asc"));
+                    case BOARD -> send(endpoint, get("/api/tasks?page=0&size=200&sortBy=status"));
+                    case CREATE -> create();
+                    case STATUS_MOVE -> move();
+                    case COMPLETE -> complete();
+                    case REORDER -> reorder();
+                }
+            }
+            return samples;
+        }
+
+        private Endpoint pick() {
+            if (READ_ONLY) {
+                return ThreadLocalRandom.current().nextInt(100) < 70 ? Endpoint.LIST : Endpoint.BOARD;
+            }
+            int roll = ThreadLocalRandom.current().nextInt(100);
+            for (Endpoint endpoint : Endpoint.values()) {
+                roll -= endpoint.weight;
+                if (roll < 0) {
+                    return endpoint;
+                }
+            }
+            return Endpoint.LIST;
+        }
+
+        private void create() throws Exception {
+            ObjectNode body = objectMapper.createObjectNode()
+                    .put("title", "Load task")
+                    .put("priority", "MODERATE");
+            HttpResponse<String> response = send(Endpoint.CREATE, json("POST", "/api/tasks", body));
+            if (response.statusCode() == 201) {
+                todo.add(objectMapper.readTree(response.body()).get("id").asLong());
+            }
+        }
+
+        private void move() throws Exception {
+            Long id = todo.poll();
+            if (id == null) {
+                create();
+                return;
+            }
+            ObjectNode body = objectMapper.createObjectNode().put("status", "IN_PROGRESS");
+            if (send(Endpoint.STATUS_MOVE, json("PATCH", "/api/tasks/" + id + "/status", body)).statusCode() == 200) {
+                inProgress.add(id);
+            }
+        }
+
+        private void complete() throws Exception {
+            Long id = inProgress.poll();
+            if (id == null) {
+                id = todo.poll();
+            }
+            if (id == null) {
+                create();
+                return;
+            }
+            send(Endpoint.COMPLETE, HttpRequest.newBuilder(uri("/api/tasks/" + id + "/complete"))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build());
+        }
+
+        private void reorder() throws Exception {
+            // Snapshot the column like a client that just loaded the board; it is rejected
+            // with 400 when another worker changed the column in between.
+            List<Long> ids = new ArrayList<>();
+            taskRepository.findByDeletedFalseAndStatusOrderByBoardOrderAscIdAsc(Task.Status.IN_PROGRESS)
+                    .forEach(task -> ids.add(task.getId()));
+            if (ids.size() > 1) {
+                ids.add(ids.remove(0));
+            }
+            ObjectNode body = objectMapper.createObjectNode().put("status", "IN_PROGRESS");
+            ids.forEach(body.putArray("orderedTaskIds")::add);
+            send(Endpoint.REORDER, json("PATCH", "/api/tasks/board/reorder", body));
+        }
+
+        private HttpResponse<String> send(Endpoint endpoint, HttpRequest request) throws Exception {
+            long start = System.nanoTime();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            samples.get(endpoint).add(System.nanoTime() - start, response.statusCode());
+            return response;
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(uri(path)).GET().build();
+        }
+
+        private HttpRequest json(String method, String path, JsonNode body) {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(body.toString()))
+                    .build();
+        }
+
+        private URI uri(String path) {
+            return URI.create("http://localhost:" + port + path);
+        }
+    }
+
+    /**
+     * Latencies and status counts for one endpoint.
+     */
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private int clientErrors;
+        private int serverErrors;
+
+        private void add(long latencyNanos, int status) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latencyNanos;
+            if (status >= 500) {
+                serverErrors++;
+            } else if (status >= 400) {
+                clientErrors++;
+            }
+        }
+
+        private void addAll(Samples other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.nanos[i], 200);
+            }
+            clientErrors += other.clientErrors;
+            serverErrors += other.serverErrors;
+        }
+
+        private EndpointResult result(int seconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new EndpointResult(count, (double) count / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    clientErrors, serverErrors);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Per-endpoint summary written to the result and baseline files.
+     */
+    record EndpointResult(int count, double requestsPerSecond, double p50Millis, double p99Millis,
+            double p999Millis, int clientErrors, int serverErrors) {
+    }
+}
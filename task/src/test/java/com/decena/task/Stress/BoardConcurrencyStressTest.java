@@ -0,0 +1,136 @@
+package com.decena.task.Stress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.decena.task.Dto.TaskBoardReorderRequest;
+import com.decena.task.Dto.TaskRequest;
+import com.decena.task.Dto.TaskResponse;
+import com.decena.task.Dto.TaskStatusUpdateRequest;
+import com.decena.task.Entity.Task;
+import com.decena.task.Repository.TaskRepository;
+import com.decena.task.Service.TaskService;
+
+/**
+ * Concurrency stress suite for board mutations.
+ * Many threads create, move and reorder tasks at once; afterwards every column
+ * must still have unique board orders. Column locks are striped, so spreading the
+ * same load over three columns must run clearly faster than piling it on one.
+ * The column-tail read, done while the column is locked, is slowed down to a
+ * networked database's round trip; against in-memory H2 the run would be CPU bound
+ * and measure the machine's cores rather than the locks.
+ */
+@SpringBootTest
+class BoardConcurrencyStressTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 30;
+    private static final long TAIL_READ_MILLIS = 5;
+    // 8 threads on one column versus at most 3 per column ideally gives 8/3; leave room for noise.
+    private static final double MIN_SCALING = 1.5;
+
+    @Autowired
+    private TaskService taskService;
+
+    @MockitoSpyBean
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void simulateDatabaseRoundTrip() {
+        doAnswer(invocation -> {
+            Thread.sleep(TAIL_READ_MILLIS);
+            return invocation.callRealMethod();
+        }).when(taskRepository).findColumnTailForUpdate(any());
+    }
+
+    @Test
+    void concurrentBoardWrites_shouldKeepOrdersUniquePerColumn() throws Exception {
+        List<Task.Status> allColumns = List.of(Task.Status.TODO, Task.Status.IN_PROGRESS, Task.Status.DONE);
+
+        // Warm up first so JIT compilation is not billed to the single-column run.
+        runWorkload(allColumns);
+        long singleColumnNanos = runWorkload(List.of(Task.Status.IN_PROGRESS));
+        long multiColumnNanos = runWorkload(allColumns);
+
+        for (Task.Status column : allColumns) {
+            List<Task> tasks = taskRepository.findByDeletedFalseAndStatusOrderByBoardOrderAscIdAsc(column);
+            Set<Long> orders = new HashSet<>();
+            for (Task task : tasks) {
+                assertThat(task.getBoardOrder()).isNotNull();
+                assertThat(orders.add(task.getBoardOrder()))
+                        .as("duplicate board order %s in column %s", task.getBoardOrder(), column)
+                        .isTrue();
+            }
+        }
+
+        assertThat((double) singleColumnNanos / multiColumnNanos)
+                .as("throughput on 3 columns relative to 1 column")
+                .isGreaterThan(MIN_SCALING);
+    }
+
+    private long runWorkload(List<Task.Status> columns) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            Task.Status column = columns.get(t % columns.size());
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<Long> created = new ArrayList<>();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    // Reorders renumber the whole column, so keep them in the first half;
+                    // the tail of the run is pure create/move traffic racing on the column tail.
+                    if (i % 3 == 2 && i < OPERATIONS_PER_THREAD / 2 && created.size() > 1) {
+                        reorderOwnTasks(column, created);
+                    } else if (i % 3 == 1 && !created.isEmpty() && column != Task.Status.DONE) {
+                        taskService.updateTaskStatus(created.get(0), new TaskStatusUpdateRequest(column.name(), null));
+                    } else {
+                        created.add(create(column).getId());
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+        return elapsed;
+    }
+
+    private TaskResponse create(Task.Status column) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Stress " + column);
+        request.setStatus(column.name());
+        return taskService.createTask(request);
+    }
+
+    private void reorderOwnTasks(Task.Status column, List<Long> ownIds) {
+        // Like a filtered board: only this thread's tasks are sent, first one moved last.
+        List<Long> orderedIds = new ArrayList<>(ownIds.subList(1, ownIds.size()));
+        orderedIds.add(ownIds.get(0));
+        taskService.reorderBoard(new TaskBoardReorderRequest(column.name(), orderedIds));
+    }
+}
@@ -0,0 +1,85 @@
+package com.decena.task.Stress;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples heap, non-heap and thread counts of the current JVM while a load test runs,
+ * and reads resident set size from /proc (Linux only; zero elsewhere).
+ * The load generator shares the JVM, so numbers are for comparing profiles and flags,
+ * not absolute container sizes.
+ */
+final class FootprintSampler {
+
+    private static final long MIB = 1024 * 1024;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "footprint-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile long heapUsedMax;
+    private volatile long heapCommittedMax;
+    private volatile long nonHeapUsedMax;
+    private volatile int liveThreadsMax;
+
+    void start() {
+        scheduler.scheduleAtFixedRate(this::sample, 0, 250, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void sample() {
+        heapUsedMax = Math.max(heapUsedMax, memory.getHeapMemoryUsage().getUsed());
+        heapCommittedMax = Math.max(heapCommittedMax, memory.getHeapMemoryUsage().getCommitted());
+        nonHeapUsedMax = Math.max(nonHeapUsedMax, memory.getNonHeapMemoryUsage().getUsed());
+        liveThreadsMax = Math.max(liveThreadsMax, threads.getThreadCount());
+    }
+
+    /**
+     * @param profile active Spring profiles, used as the baseline key
+     * @return maxima seen since {@link #start()}, plus current and peak RSS of the process
+     */
+    Footprint result(String profile) {
+        sample();
+        return new Footprint(profile, procStatusMib("VmHWM"), procStatusMib("VmRSS"),
+                heapUsedMax / MIB, heapCommittedMax / MIB, memory.getHeapMemoryUsage().getMax() / MIB,
+                nonHeapUsedMax / MIB, liveThreadsMax);
+    }
+
+    private static long procStatusMib(String field) {
+        Path status = Path.of("/proc/self/status");
+        if (!Files.isReadable(status)) {
+            return 0;
+        }
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith(field + ":")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) / 1024;
+                }
+            }
+        } catch (IOException ex) {
+            return 0;
+        }
+        return 0;
+    }
+
+    /**
+     * Memory figures in MiB, written to the footprint result and baseline files.
+     */
+    record Footprint(String profile, long peakRssMib, long rssMib, long heapUsedMaxMib, long heapCommittedMaxMib,
+            long heapMaxMib, long nonHeapUsedMaxMib, int liveThreadsMax) {
+    }
+}
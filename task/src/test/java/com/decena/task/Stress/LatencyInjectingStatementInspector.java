@@ -0,0 +1,42 @@
+package com.decena.task.Stress;
+
+import java.util.regex.Pattern;
+
+import com.decena.task.Instrumentation.SqlStatementCountingInspector;
+
+/**
+ * Statement inspector that adds a fixed delay before every SQL statement, simulating a slow database.
+ * The delay is spent while the request holds its thread and JDBC connection, like a real round trip.
+ * A pattern limits the delay to matching statements, simulating one slow kind of query.
+ */
+public class LatencyInjectingStatementInspector extends SqlStatementCountingInspector {
+
+    private static volatile long latencyMillis;
+    private static volatile Pattern slowStatements;
+
+    static void setLatencyMillis(long millis) {
+        setLatencyMillis(millis, null);
+    }
+
+    /**
+     * Delays only statements matching the pattern (case-insensitive); null delays all of them.
+     */
+    static void setLatencyMillis(long millis, String statementPattern) {
+        slowStatements = statementPattern == null ? null : Pattern.compile(statementPattern, Pattern.CASE_INSENSITIVE);
+        latencyMillis = millis;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long delay = latencyMillis;
+        Pattern pattern = slowStatements;
+        if (delay > 0 && (pattern == null || pattern.matcher(sql).find())) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return super.inspect(sql);
+    }
+}
@@ -0,0 +1,167 @@
+package com.decena.task.Stress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Overloads the expensive list endpoint with slow queries and checks that cheap reads keep
+ * their latency: the list bulkhead sheds the excess with 503 instead of letting it take every
+ * pooled connection. Also checks the 429 and timeout responses.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.decena.task.Stress.LatencyInjectingStatementInspector",
+        "spring.datasource.hikari.maximum-pool-size=6",
+        "app.limits.endpoint.getAllTasks.max-concurrent=3",
+        "app.limits.endpoint.getAllTasks.queue-timeout-ms=100",
+        "app.limits.timeout.list-seconds=1",
+        "app.limits.endpoint.reorderBoard.permits-per-second=1",
+        "app.limits.endpoint.reorderBoard.burst=2"
+})
+class OverloadIsolationTest {
+
+    /** Only the paged list query is slow; lookups by ID are not. */
+    private static final String LIST_QUERY = "order by";
+    private static final int LIST_CLIENTS = 24;
+    private static final long LIST_LATENCY_MS = 600;
+    /** Well below the list latency: a cheap read never waits for a connection held by a slow query. */
+    private static final long CHEAP_P99_BUDGET_MS = 250;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        LatencyInjectingStatementInspector.setLatencyMillis(0);
+    }
+
+    @Test
+    void cheapReads_shouldKeepTheirP99WhileListCallsAreOverloaded() throws Exception {
+        long id = createTask();
+        for (int i = 0; i < 20; i++) {
+            send("GET", "/api/tasks/" + id);
+        }
+        LatencyInjectingStatementInspector.setLatencyMillis(LIST_LATENCY_MS, LIST_QUERY);
+
+        ExecutorService clients = Executors.newFixedThreadPool(LIST_CLIENTS + 1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+        ConcurrentHashMap<Integer, AtomicInteger> listStatuses = new ConcurrentHashMap<>();
+        List<Long> cheapLatencies = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> running = new ArrayList<>();
+        try {
+            for (int c = 0; c < LIST_CLIENTS; c++) {
+                int client = c;
+                running.add(clients.submit(() -> {
+                    int page = client * 1000;
+                    while (System.nanoTime() < deadline) {
+                        // distinct pages, so the requests cannot share one query
+                        HttpResponse<String> response = send("GET", "/api/tasks?size=5&page=" + page++);
+                        listStatuses.computeIfAbsent(response.statusCode(), s -> new AtomicInteger()).incrementAndGet();
+                        if (response.statusCode() == 503) {
+                            assertThat(response.headers().firstValue("Retry-After")).contains("1");
+                            // retry sooner than Retry-After asks, to keep the pressure on
+                            Thread.sleep(100);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            running.add(clients.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    long started = System.nanoTime();
+                    HttpResponse<String> response = send("GET", "/api/tasks/" + id);
+                    cheapLatencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                    assertThat(response.statusCode()).isEqualTo(200);
+                }
+                return null;
+            }));
+            for (Future<?> future : running) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        List<Long> sorted = new ArrayList<>(cheapLatencies);
+        Collections.sort(sorted);
+        long p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        System.out.printf("Cheap reads: %d, p99 %d ms; list responses by status: %s%n",
+                sorted.size(), p99, listStatuses);
+        assertThat(listStatuses).containsKeys(200, 503);
+        assertThat(p99).isLessThan(CHEAP_P99_BUDGET_MS);
+    }
+
+    @Test
+    void burstAboveRateLimit_shouldGet429WithRetryAfter() throws Exception {
+        List<HttpResponse<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            responses.add(send("PATCH", "/api/tasks/board/reorder",
+                    "{\"status\":\"TODO\",\"orderedTaskIds\":[987654321]}"));
+        }
+
+        HttpResponse<String> limited = responses.get(responses.size() - 1);
+        assertThat(limited.statusCode()).isEqualTo(429);
+        assertThat(limited.headers().firstValue("Retry-After")).isPresent();
+        assertThat(limited.body()).contains("\"status\":429").contains("Too Many Requests");
+    }
+
+    @Test
+    void listQueryPastItsTimeout_shouldGet503WithRetryAfter() throws Exception {
+        LatencyInjectingStatementInspector.setLatencyMillis(1500, LIST_QUERY);
+
+        HttpResponse<String> response = send("GET", "/api/tasks?size=5&page=424242");
+
+        assertThat(response.statusCode()).isEqualTo(503);
+        assertThat(response.headers().firstValue("Retry-After")).contains("1");
+        assertThat(response.body()).contains("Database Timeout");
+    }
+
+    private long createTask() throws Exception {
+        HttpResponse<String> response = send("POST", "/api/tasks", "{\"title\":\"Cheap\",\"priority\":\"LOW\"}");
+        assertThat(response.statusCode()).isEqualTo(201);
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+
+    private HttpResponse<String> send(String method, String path) throws Exception {
+        return send(method, path, null);
+    }
+
+    private HttpResponse<String> send(String method, String path, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json");
+        request.method(method, json == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(json));
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}